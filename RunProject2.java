@@ -1,16 +0,0 @@
-package tuitionmanager;
-
-/**
- * This class is a driver class to run and test the StudentTuitionManager project.
- * @author Aatif Sayed, Pranav Tailor
- */
-public class RunProject2 {
-    
-    /**
-     * Main driver method to execute StudentTuitionManager project by instantiating a new 'TuitionManager' instance and invoking its 'run()' method.
-     * @param args command line arguments.
-     */
-    public static void main(String[] args) {
-        new TuitionManager().run();
-    }
-}
\ No newline at end of file
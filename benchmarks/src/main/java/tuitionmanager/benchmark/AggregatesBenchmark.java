@@ -0,0 +1,94 @@
+package tuitionmanager.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tuitionmanager.Date;
+import tuitionmanager.Major;
+import tuitionmanager.OutputSink;
+import tuitionmanager.Roster;
+import tuitionmanager.RosterAggregates;
+import tuitionmanager.Student;
+
+/**
+ * JMH benchmarks for the summary by major, student type, and state (the 'PS' command), read from the running aggregates or found by scanning the roster,
+ * and for the cost the aggregates add to a payment.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AggregatesBenchmark {
+    
+    @Param({ "100000" })
+    private int rosterSize;
+    
+    private Roster roster;
+    private OutputSink output;
+    private Date paymentDate;
+    private int next;
+    
+    /**
+     * Builds a mixed roster of rosterSize students and calculates their tuition.
+     */
+    @Setup(Level.Trial)
+    public void createRoster() {
+        output = BenchmarkData.discardingOutput();
+        roster = new Roster(rosterSize);
+        for (Student student : BenchmarkData.students(rosterSize, BenchmarkData.MIXED))
+            roster.add(student);
+        roster.calculateTuition();
+        paymentDate = new Date(BenchmarkData.paymentDate(0));
+    }
+    
+    /**
+     * Measures reading the totals from the running aggregates.
+     * @return a copy of the aggregates.
+     */
+    @Benchmark
+    public RosterAggregates readAggregates() {
+        return roster.getAggregates();
+    }
+    
+    /**
+     * Measures finding the tuition owed and paid by the students of every major by scanning every student, as a summary would without the running aggregates.
+     * @return the tuition owed by major, followed by the tuition paid by major.
+     */
+    @Benchmark
+    public long[] scanRoster() {
+        int numberOfMajors = Major.values().length;
+        long[] totals = new long[2 * numberOfMajors];
+        for (int i = 0; i < roster.getSize(); i++) {
+            Student student = roster.getStudent(i);
+            int major = student.getProfile().getMajor().ordinal();
+            totals[major] += student.getTuitionOwed();
+            totals[numberOfMajors + major] += student.getTotalTuitionPaid();
+        }
+        return totals;
+    }
+    
+    /**
+     * Measures applying a payment, which also updates the aggregates of the student's major, student type, and state.
+     * @return true if the payment was applied.
+     */
+    @Benchmark
+    public boolean payTuition() {
+        next = (next + 1) % rosterSize;
+        return roster.processPayment(BenchmarkData.student(next, BenchmarkData.MIXED), 1, paymentDate, output);  // one cent
+    }
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+package tuitionmanager.benchmark;
+
+import java.io.Writer;
+
+import tuitionmanager.International;
+import tuitionmanager.Major;
+import tuitionmanager.NonResident;
+import tuitionmanager.OutputSink;
+import tuitionmanager.Profile;
+import tuitionmanager.Resident;
+import tuitionmanager.State;
+import tuitionmanager.Student;
+import tuitionmanager.TriState;
+
+/**
+ * Class that builds the students, dates, and command lines shared by the benchmarks.
+ * The data is generated deterministically so that runs on different machines and commits measure the same work.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public final class BenchmarkData {
+    
+    public static final String RESIDENT = "RESIDENT";
+    public static final String NON_RESIDENT = "NON_RESIDENT";
+    public static final String TRI_STATE = "TRI_STATE";
+    public static final String INTERNATIONAL = "INTERNATIONAL";
+    public static final String MIXED = "MIXED";
+    
+    private static final String[] STUDENT_TYPES = { RESIDENT, NON_RESIDENT, TRI_STATE, INTERNATIONAL };
+    private static final Major[] MAJORS = Major.values();
+    private static final int MINIMUM_CREDITS = 3;
+    private static final int MINIMUM_INTERNATIONAL_CREDITS = 12;
+    private static final int NUMBER_OF_CREDIT_VALUES = 22;  // 3 to 24 credits
+    private static final int PAYMENT_YEAR = 2021;
+    private static final int MONTHS = 12;
+    private static final int DAYS = 28;
+    
+    /**
+     * Private constructor; the class only holds static factory methods.
+     */
+    private BenchmarkData() {}
+    
+    /**
+     * Creates the profile of the student with the given number; names are unique per number and majors cycle through every major.
+     * @param number the number of the student.
+     * @return the profile of the student.
+     */
+    public static Profile profile(int number) {
+        return new Profile("Student" + number, MAJORS[number % MAJORS.length]);
+    }
+    
+    /**
+     * Creates a student of the given type with credits cycling through every allowed value.
+     * @param number the number of the student.
+     * @param studentType one of RESIDENT, NON_RESIDENT, TRI_STATE, INTERNATIONAL, or MIXED to cycle through the four types.
+     * @return a new student.
+     */
+    public static Student student(int number, String studentType) {
+        String type = studentType.equals(MIXED) ? STUDENT_TYPES[number % STUDENT_TYPES.length] : studentType;
+        int credits = MINIMUM_CREDITS + number % NUMBER_OF_CREDIT_VALUES;
+        switch (type) {
+            case RESIDENT : return new Resident(profile(number), credits);
+            case NON_RESIDENT : return new NonResident(profile(number), credits);
+            case TRI_STATE : return new TriState(profile(number), credits, (number % 2 == 0) ? State.NY : State.CT);
+            case INTERNATIONAL : return new International(profile(number), Math.max(credits, MINIMUM_INTERNATIONAL_CREDITS), number % 5 == 0);
+            default : throw new IllegalArgumentException("Unknown student type: " + studentType);
+        }
+    }
+    
+    /**
+     * Creates an array of students of the given type.
+     * @param count the number of students.
+     * @param studentType one of RESIDENT, NON_RESIDENT, TRI_STATE, INTERNATIONAL, or MIXED.
+     * @return an array of new students numbered from 0.
+     */
+    public static Student[] students(int count, String studentType) {
+        Student[] students = new Student[count];
+        for (int i = 0; i < count; i++)
+            students[i] = student(i, studentType);
+        return students;
+    }
+    
+    /**
+     * Creates a payment date in "mm/dd/yyyy" format; dates cycle through every month of 2021.
+     * @param number the number of the date.
+     * @return the date as a String.
+     */
+    public static String paymentDate(int number) {
+        return (1 + number % MONTHS) + "/" + (1 + (number / MONTHS) % DAYS) + "/" + PAYMENT_YEAR;
+    }
+    
+    /**
+     * Creates a command feed that adds the given number of students of every type, calculates their tuition, and pays part of it.
+     * @param numberOfStudents the number of students to add.
+     * @return the commands, one per line.
+     */
+    public static String commandFeed(int numberOfStudents) {
+        StringBuilder commands = new StringBuilder();
+        for (int i = 0; i < numberOfStudents; i++) {
+            Profile profile = profile(i);
+            int credits = MINIMUM_INTERNATIONAL_CREDITS + i % (NUMBER_OF_CREDIT_VALUES - MINIMUM_INTERNATIONAL_CREDITS + MINIMUM_CREDITS);
+            String nameAndMajor = profile.toString().replace(':', ',');
+            switch (i % STUDENT_TYPES.length) {
+                case 0 : commands.append("AR,").append(nameAndMajor).append(',').append(credits); break;
+                case 1 : commands.append("AN,").append(nameAndMajor).append(',').append(credits); break;
+                case 2 : commands.append("AT,").append(nameAndMajor).append(',').append(credits).append(i % 2 == 0 ? ",NY" : ",CT"); break;
+                default : commands.append("AI,").append(nameAndMajor).append(',').append(credits).append(",false");
+            }
+            commands.append('\n');
+        }
+        commands.append("C\n");
+        for (int i = 0; i < numberOfStudents; i++) {
+            commands.append("T,").append(profile(i).toString().replace(':', ',')).append(",100,").append(paymentDate(i)).append('\n');
+        }
+        return commands.toString();
+    }
+    
+    /**
+     * Creates an output sink that discards everything written to it, so that reports can be measured without console I/O.
+     * @return an output sink that writes nowhere.
+     */
+    public static OutputSink discardingOutput() {
+        return new OutputSink(Writer.nullWriter());
+    }
+}
\ No newline at end of file
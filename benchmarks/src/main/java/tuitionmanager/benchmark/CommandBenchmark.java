@@ -0,0 +1,107 @@
+package tuitionmanager.benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import tuitionmanager.CommandReader;
+import tuitionmanager.Roster;
+import tuitionmanager.TuitionManager;
+import tuitionmanager.TuitionMetrics;
+
+/**
+ * JMH benchmarks for the throughput of TuitionManager command parsing and of a full batch run over a generated command feed.
+ * Results are reported per command line.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandBenchmark {
+    
+    private static final int NUMBER_OF_STUDENTS = 10000;
+    private static final int NUMBER_OF_LINES = 2 * NUMBER_OF_STUDENTS + 1;  // add every student, calculate, and pay for every student
+    
+    @Param({ "1" })
+    private int parallelism;
+    
+    @Param({ "0" })
+    private int parsingThreads;
+    
+    @Param({ "false" })
+    private boolean measured;
+    
+    private String commandFeed;
+    private String[] commandLines;
+    
+    /**
+     * Builds the command feed.
+     */
+    @Setup(Level.Trial)
+    public void createCommandFeed() {
+        commandFeed = BenchmarkData.commandFeed(NUMBER_OF_STUDENTS);
+        commandLines = commandFeed.split("\n");
+    }
+    
+    /**
+     * Measures splitting every line of the feed into tokens with CommandReader.tokenize().
+     * @param blackhole consumes the tokens so the work cannot be eliminated.
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_LINES)
+    public void tokenize(Blackhole blackhole) {
+        for (String line : commandLines)
+            blackhole.consume(CommandReader.tokenize(line));
+    }
+    
+    /**
+     * Measures streaming the feed through a CommandReader.
+     * @param blackhole consumes the tokens so the work cannot be eliminated.
+     * @throws IOException never, since the feed is read from memory.
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_LINES)
+    public void readCommands(Blackhole blackhole) throws IOException {
+        CommandReader commandReader = new CommandReader(new StringReader(commandFeed));
+        String[] commandTokens;
+        while ((commandTokens = commandReader.nextCommand()) != null)
+            blackhole.consume(commandTokens);
+    }
+    
+    /**
+     * Measures applying the whole feed to an empty roster in batch mode, including validation and the roster operations.
+     * With parsing threads the lines are split and validated on those threads while the commands are applied on the benchmark thread.
+     * If measured is true, every command is also counted and timed in TuitionMetrics.
+     * @throws IOException never, since the feed is read from memory.
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_LINES)
+    public void runBatch() throws IOException {
+        Roster roster = new Roster();
+        TuitionManager tuitionManager = new TuitionManager(new StringReader(""), Writer.nullWriter(), roster);
+        if (measured)
+            tuitionManager.setMetrics(new TuitionMetrics(roster));
+        tuitionManager.setCalculationParallelism(parallelism);
+        tuitionManager.setParsingThreads(parsingThreads);
+        tuitionManager.runBatch(new StringReader(commandFeed));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+package tuitionmanager.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tuitionmanager.CommandServer;
+import tuitionmanager.ConcurrentRoster;
+import tuitionmanager.Roster;
+import tuitionmanager.Student;
+
+/**
+ * JMH benchmark for the round trip of a payment command sent by several clerk sessions to one command server over localhost.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class CommandServerBenchmark {
+    
+    @Param({ "10000" })
+    private int rosterSize;
+    
+    private CommandServer server;
+    private Student[] students;
+    private final AtomicInteger nextSession = new AtomicInteger();
+    
+    /**
+     * Builds a mixed roster of rosterSize students, calculates their tuition, and starts a server on a free port of the loopback address.
+     * @throws IOException if the server cannot be started.
+     */
+    @Setup(Level.Trial)
+    public void startServer() throws IOException {
+        students = BenchmarkData.students(rosterSize, BenchmarkData.MIXED);
+        Roster roster = new Roster(rosterSize);
+        for (Student student : students)
+            roster.add(student);
+        roster.calculateTuition();
+        server = CommandServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), new ConcurrentRoster(roster), null);
+    }
+    
+    /**
+     * Stops the server.
+     * @throws IOException if the server cannot be stopped.
+     */
+    @TearDown(Level.Trial)
+    public void stopServer() throws IOException {
+        server.close();
+    }
+    
+    /**
+     * A clerk session: one connection per benchmark thread, paying towards its own share of the roster.
+     */
+    @State(Scope.Thread)
+    public static class Session {
+        private SocketChannel connection;
+        private Writer commands;
+        private BufferedReader replies;
+        private String[] paymentCommands;
+        private int next;
+    
+        /**
+         * Connects to the server, skips the greeting, and prepares the payment command lines.
+         * @param benchmark the benchmark holding the server.
+         * @throws IOException if the connection fails.
+         */
+        @Setup(Level.Trial)
+        public void connect(CommandServerBenchmark benchmark) throws IOException {
+            connection = SocketChannel.open(benchmark.server.getLocalAddress());
+            commands = Channels.newWriter(connection, StandardCharsets.UTF_8);
+            replies = new BufferedReader(Channels.newReader(connection, StandardCharsets.UTF_8));
+            replies.readLine();
+            int session = benchmark.nextSession.getAndIncrement();
+            paymentCommands = new String[benchmark.rosterSize / 8];
+            for (int i = 0; i < paymentCommands.length; i++) {
+                Student student = benchmark.students[(session + 8 * i) % benchmark.rosterSize];
+                paymentCommands[i] = "T," + student.getProfile().getName() + "," + student.getProfile().getMajor() + ",0.01,"
+                        + BenchmarkData.paymentDate(i) + "\n";
+            }
+        }
+    
+        /**
+         * Ends the session.
+         * @throws IOException if the connection cannot be closed.
+         */
+        @TearDown(Level.Trial)
+        public void disconnect() throws IOException {
+            connection.close();
+        }
+    }
+    
+    /**
+     * Measures sending one payment command and reading the server's reply.
+     * @param session the session of the thread.
+     * @return the reply.
+     * @throws IOException if the connection fails.
+     */
+    @Benchmark
+    public String payTuition(Session session) throws IOException {
+        session.commands.write(session.paymentCommands[session.next]);
+        session.commands.flush();
+        session.next = (session.next + 1) % session.paymentCommands.length;
+        String reply = session.replies.readLine();
+        while (reply.isEmpty())
+            reply = session.replies.readLine();
+        return reply;
+    }
+}
\ No newline at end of file
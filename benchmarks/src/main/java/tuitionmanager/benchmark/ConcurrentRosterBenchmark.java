@@ -0,0 +1,94 @@
+package tuitionmanager.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tuitionmanager.ConcurrentRoster;
+import tuitionmanager.Date;
+import tuitionmanager.OutputSink;
+import tuitionmanager.Roster;
+import tuitionmanager.Student;
+
+/**
+ * JMH benchmark for several payment feeds paying towards one shared roster at the same time.
+ * With one stripe every payment is serialized, as with a single lock; with the default number of stripes payments to different students run in parallel.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConcurrentRosterBenchmark {
+    
+    @Param({ "100000" })
+    private int rosterSize;
+    
+    @Param({ "1", "64" })
+    private int stripes;
+    
+    private ConcurrentRoster roster;
+    private Student[] students;
+    private Date paymentDate;
+    private OutputSink output;
+    
+    private static final long PAYMENT_AMOUNT = 1;  // one cent; small enough that no student runs out of tuition owed during a run
+    
+    /**
+     * Per-thread position in the roster, so that each feed pays towards a different sequence of students.
+     */
+    @State(Scope.Thread)
+    public static class Feed {
+        private int next;
+    
+        /**
+         * Starts each feed at a random position in the roster.
+         */
+        @Setup(Level.Trial)
+        public void start() {
+            next = (int)(Math.random() * Integer.MAX_VALUE);
+        }
+    }
+    
+    /**
+     * Builds a mixed roster of rosterSize students, calculates their tuition, and wraps it in a ConcurrentRoster.
+     */
+    @Setup(Level.Trial)
+    public void createRoster() {
+        students = BenchmarkData.students(rosterSize, BenchmarkData.MIXED);
+        Roster wrapped = new Roster(rosterSize);
+        for (Student student : students)
+            wrapped.add(student);
+        wrapped.calculateTuition();
+        roster = new ConcurrentRoster(wrapped, stripes);
+        paymentDate = new Date(BenchmarkData.paymentDate(0));
+        output = BenchmarkData.discardingOutput();
+    }
+    
+    /**
+     * Measures one payment towards the next student of the feed.
+     * @param feed the payment feed of the thread.
+     * @return true if the payment was processed.
+     */
+    @Benchmark
+    public boolean processPayment(Feed feed) {
+        feed.next = feed.next * 1103515245 + 12345;
+        Student student = students[(feed.next >>> 1) % rosterSize];
+        return roster.processPayment(student, PAYMENT_AMOUNT, paymentDate, output);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package tuitionmanager.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tuitionmanager.Date;
+import tuitionmanager.DateClock;
+
+/**
+ * JMH benchmarks for parsing, validating, and comparing Date instances, as done for every 'T' or pay tuition command.
+ * Dates are validated against a fixed clock, so results do not depend on the day the benchmarks are run.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateBenchmark {
+    
+    private static final int NUMBER_OF_DATES = 1024;  // a power of 2, so the next date can be picked with a mask
+    
+    private String[] datesAsStrings;
+    private Date[] dates;
+    private int[] packedDates;
+    private boolean[] valid;
+    private int nextDate;
+    
+    /**
+     * Builds the dates, cycling through every month of 2021, and fixes today's date at the end of 2021.
+     */
+    @Setup(Level.Trial)
+    public void createDates() {
+        Date.setClock(DateClock.fixed(new Date("12/31/2021")));
+        datesAsStrings = new String[NUMBER_OF_DATES];
+        dates = new Date[NUMBER_OF_DATES];
+        packedDates = new int[NUMBER_OF_DATES];
+        valid = new boolean[NUMBER_OF_DATES];
+        for (int i = 0; i < NUMBER_OF_DATES; i++) {
+            datesAsStrings[i] = BenchmarkData.paymentDate(i);
+            dates[i] = new Date(datesAsStrings[i]);
+            packedDates[i] = dates[i].toPackedDate();
+        }
+        nextDate = 0;
+    }
+    
+    /**
+     * Private helper method to pick the position of the next date.
+     * @return the position of the next date.
+     */
+    private int next() {
+        nextDate = (nextDate + 1) & (NUMBER_OF_DATES - 1);
+        return nextDate;
+    }
+    
+    /**
+     * Measures parsing a date in "mm/dd/yyyy" format.
+     * @return the parsed date.
+     */
+    @Benchmark
+    public Date parse() {
+        return new Date(datesAsStrings[next()]);
+    }
+    
+    /**
+     * Measures checking whether a date is a valid payment date.
+     * @return whether the date is valid.
+     */
+    @Benchmark
+    public boolean isValid() {
+        return dates[next()].isValid();
+    }
+    
+    /**
+     * Measures parsing and validating a date, which is what the 'T' command does for every payment.
+     * @return whether the date is valid.
+     */
+    @Benchmark
+    public boolean parseAndValidate() {
+        return new Date(datesAsStrings[next()]).isValid();
+    }
+    
+    /**
+     * Measures validating every date at once, as done for a payment file; divide by 1024 for the time per date.
+     * @return the number of valid dates.
+     */
+    @Benchmark
+    public int validateAll() {
+        return Date.validateAll(packedDates, valid);
+    }
+    
+    /**
+     * Measures comparing two dates, as done when sorting the 'PT' report.
+     * @return the result of the comparison.
+     */
+    @Benchmark
+    public int compareTo() {
+        int position = next();
+        return dates[position].compareTo(dates[(position + 1) & (NUMBER_OF_DATES - 1)]);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package tuitionmanager.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tuitionmanager.Date;
+import tuitionmanager.Money;
+import tuitionmanager.OutputSink;
+import tuitionmanager.PaymentLedger;
+
+/**
+ * JMH benchmarks for the date range queries of the payment ledger, as used for a month-end reconciliation.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LedgerBenchmark {
+    
+    @Param({ "1000000" })
+    private int numberOfPayments;
+    
+    private PaymentLedger ledger;
+    private Date monthStart;
+    private Date monthEnd;
+    private OutputSink output;
+    
+    /**
+     * Records numberOfPayments payments spread over a year, in no particular date order, and sorts the index once.
+     */
+    @Setup(Level.Trial)
+    public void recordPayments() {
+        ledger = new PaymentLedger();
+        for (int i = 0; i < numberOfPayments; i++)
+            ledger.record(BenchmarkData.profile(i % 10000), Money.dollars(100), new Date(BenchmarkData.paymentDate(i * 131 % 336)));
+        monthStart = new Date("3/1/2021");
+        monthEnd = new Date("3/31/2021");
+        ledger.paymentsBetween(monthStart, monthEnd);
+        output = BenchmarkData.discardingOutput();
+    }
+    
+    /**
+     * Measures finding every payment of one month.
+     * @return the numbers of the payments.
+     */
+    @Benchmark
+    public int[] paymentsOfOneMonth() {
+        return ledger.paymentsBetween(monthStart, monthEnd);
+    }
+    
+    /**
+     * Measures totaling the payments of each day of one month.
+     */
+    @Benchmark
+    public void dailyTotalsOfOneMonth() {
+        ledger.printDailyTotals(monthStart, monthEnd, output);
+    }
+}
\ No newline at end of file
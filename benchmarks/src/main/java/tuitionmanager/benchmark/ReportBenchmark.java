@@ -0,0 +1,102 @@
+package tuitionmanager.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tuitionmanager.Date;
+import tuitionmanager.Money;
+import tuitionmanager.OutputSink;
+import tuitionmanager.Roster;
+import tuitionmanager.Student;
+
+/**
+ * JMH benchmarks for the sorted reports (the 'PN' and 'PT' commands), which go through the private sortByStudentName() and sortByPaymentDate() methods.
+ * Every report is written to an output sink that discards the text, so the numbers cover sorting and formatting but not console I/O.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportBenchmark {
+    
+    @Param({ "1000", "100000" })
+    private int rosterSize;
+    
+    private Roster roster;
+    private Student extraStudent;
+    private OutputSink output;
+    
+    /**
+     * Builds a roster holding rosterSize students, every one of whom has calculated tuition and made a payment.
+     */
+    @Setup(Level.Trial)
+    public void createRoster() {
+        output = BenchmarkData.discardingOutput();
+        roster = new Roster(rosterSize + 1);
+        for (Student student : BenchmarkData.students(rosterSize, BenchmarkData.MIXED))
+            roster.add(student);
+        roster.calculateTuition();
+        for (int i = 0; i < rosterSize; i++)
+            roster.processPayment(BenchmarkData.student(i, BenchmarkData.MIXED), Money.dollars(1), new Date(BenchmarkData.paymentDate(i)), output);
+        extraStudent = BenchmarkData.student(rosterSize, BenchmarkData.MIXED);
+    }
+    
+    /**
+     * Measures the 'PN' report when the roster has not changed since the last report.
+     */
+    @Benchmark
+    public void printByStudentName() {
+        roster.printByStudentName(output);
+    }
+    
+    /**
+     * Measures the 'PN' report right after a student was added and removed, so the sorted view has to be rebuilt.
+     */
+    @Benchmark
+    public void printByStudentNameAfterChange() {
+        roster.add(extraStudent);
+        roster.remove(extraStudent);
+        roster.printByStudentName(output);
+    }
+    
+    /**
+     * Measures the 'PT' report when no payment has been made since the last report.
+     */
+    @Benchmark
+    public void printByPaymentDate() {
+        roster.printByPaymentDate(output);
+    }
+    
+    /**
+     * Measures the 'PT' report right after a student was added and removed, so the sorted view has to be rebuilt.
+     */
+    @Benchmark
+    public void printByPaymentDateAfterChange() {
+        roster.add(extraStudent);
+        roster.remove(extraStudent);
+        roster.printByPaymentDate(output);
+    }
+    
+    /**
+     * Measures the 'P' report, which lists the roster in insertion order without sorting, as a baseline for the sorted reports.
+     */
+    @Benchmark
+    public void print() {
+        roster.print(output);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package tuitionmanager.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tuitionmanager.Roster;
+import tuitionmanager.Student;
+
+/**
+ * JMH benchmarks for Roster.add(), Roster.remove(), and Roster.contains() (which goes through the private find() method) at different roster sizes.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RosterBenchmark {
+    
+    @Param({ "1000", "100000", "1000000" })
+    private int rosterSize;
+    
+    @Param({ "false", "true" })
+    private boolean swapRemove;
+    
+    private Student[] students;
+    private Student[] probes;  // students with the same profiles as the ones in the roster, so lookups go through equals()
+    private Student extraStudent;
+    private Roster roster;
+    private int nextStudent;
+    
+    /**
+     * Builds a roster holding rosterSize students of every type.
+     */
+    @Setup(Level.Trial)
+    public void createRoster() {
+        students = BenchmarkData.students(rosterSize, BenchmarkData.MIXED);
+        probes = BenchmarkData.students(rosterSize, BenchmarkData.MIXED);
+        extraStudent = BenchmarkData.student(rosterSize, BenchmarkData.MIXED);
+        roster = new Roster(rosterSize, swapRemove);
+        for (Student student : students)
+            roster.add(student);
+        nextStudent = 0;
+    }
+    
+    /**
+     * Private helper method to pick the next student, walking through the roster with a stride so consecutive lookups touch different slots.
+     * @return the position of the next student.
+     */
+    private int next() {
+        nextStudent = (nextStudent + 7919) % rosterSize;
+        return nextStudent;
+    }
+    
+    /**
+     * Measures looking up a student who is in the roster.
+     * @return whether the student was found.
+     */
+    @Benchmark
+    public boolean find() {
+        return roster.contains(probes[next()]);
+    }
+    
+    /**
+     * Measures adding a student at the end of the roster and removing it again, which never shifts other students.
+     * @return whether the student was removed.
+     */
+    @Benchmark
+    public boolean addAndRemoveLast() {
+        roster.add(extraStudent);
+        return roster.remove(extraStudent);
+    }
+    
+    /**
+     * Measures removing a student from anywhere in the roster and adding it back; in the default mode the removal shifts the students after it.
+     * @return whether the student was added back.
+     */
+    @Benchmark
+    public boolean removeAndAdd() {
+        Student student = students[next()];
+        roster.remove(student);
+        return roster.add(student);
+    }
+    
+    /**
+     * Measures loading rosterSize students into an empty roster that starts at the default capacity.
+     * @return the loaded roster.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = 1)
+    @Measurement(iterations = 5, batchSize = 1)
+    public Roster load() {
+        Roster loadedRoster = new Roster();
+        for (Student student : students)
+            loadedRoster.add(student);
+        return loadedRoster;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package tuitionmanager.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tuitionmanager.Roster;
+import tuitionmanager.RosterSnapshot;
+import tuitionmanager.Student;
+
+/**
+ * JMH benchmarks for saving a roster to a snapshot file and restoring it, as done when the tuition manager stops and starts.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+    
+    @Param({ "1000000" })
+    private int rosterSize;
+    
+    private Roster roster;
+    private Path snapshotFile;
+    
+    /**
+     * Builds a mixed roster of rosterSize students and saves it once, so there is a snapshot to restore.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    @Setup(Level.Trial)
+    public void createSnapshot() throws IOException {
+        Student[] students = BenchmarkData.students(rosterSize, BenchmarkData.MIXED);
+        roster = new Roster(rosterSize);
+        for (Student student : students)
+            roster.add(student);
+        roster.calculateTuition();
+        snapshotFile = Files.createTempFile("roster", ".snapshot");
+        RosterSnapshot.write(roster, 0, snapshotFile);
+    }
+    
+    /**
+     * Deletes the snapshot file.
+     * @throws IOException if the snapshot file cannot be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void deleteSnapshot() throws IOException {
+        Files.deleteIfExists(snapshotFile);
+    }
+    
+    /**
+     * Measures saving the whole roster to the snapshot file, including the fsync.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    @Benchmark
+    public void write() throws IOException {
+        RosterSnapshot.write(roster, 0, snapshotFile);
+    }
+    
+    /**
+     * Measures restoring the whole roster from the snapshot file into a new roster.
+     * @return the restored roster.
+     * @throws IOException if the snapshot cannot be read.
+     */
+    @Benchmark
+    public Roster read() throws IOException {
+        Roster restored = new Roster();
+        RosterSnapshot.read(snapshotFile, restored);
+        return restored;
+    }
+}
\ No newline at end of file
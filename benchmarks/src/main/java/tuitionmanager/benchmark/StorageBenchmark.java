@@ -0,0 +1,67 @@
+package tuitionmanager.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tuitionmanager.ColumnarRoster;
+import tuitionmanager.Roster;
+import tuitionmanager.Student;
+import tuitionmanager.StudentRoster;
+
+/**
+ * JMH benchmarks comparing the two roster storage engines, Roster (one Student object per student) and ColumnarRoster (primitive columns), on bulk passes.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StorageBenchmark {
+    
+    /* Storage engine names used as parameter values */
+    public static final String OBJECT = "OBJECT";
+    public static final String COLUMNAR = "COLUMNAR";
+    
+    @Param({ "1000000" })
+    private int rosterSize;
+    
+    @Param({ OBJECT, COLUMNAR })
+    private String storage;
+    
+    private StudentRoster roster;
+    
+    /**
+     * Adds new students to a new roster of the chosen storage engine before every invocation, so that every student's tuition is dirty.
+     * The students are created again each time because calculating the tuition of a Roster clears the dirty flag of its Student objects.
+     */
+    @Setup(Level.Invocation)
+    public void createRoster() {
+        roster = null;
+        roster = storage.equals(COLUMNAR) ? new ColumnarRoster(rosterSize) : new Roster(rosterSize);
+        for (Student student : BenchmarkData.students(rosterSize, BenchmarkData.MIXED))
+            roster.add(student);
+    }
+    
+    /**
+     * Measures the 'C' command over a roster in which every student has to be recalculated.
+     * @return the number of students recalculated.
+     */
+    @Benchmark
+    public int calculateTuitionAllDirty() {
+        return roster.calculateTuition();
+    }
+}
\ No newline at end of file
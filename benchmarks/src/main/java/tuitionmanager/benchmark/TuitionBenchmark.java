@@ -0,0 +1,96 @@
+package tuitionmanager.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tuitionmanager.Roster;
+import tuitionmanager.Student;
+
+/**
+ * JMH benchmarks for tuition calculation: tuitionDue() for each of the four student subclasses and Roster.calculateTuition() (the 'C' command).
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TuitionBenchmark {
+    
+    @Param({ "100000" })
+    private int rosterSize;
+    
+    @Param({ BenchmarkData.RESIDENT, BenchmarkData.NON_RESIDENT, BenchmarkData.TRI_STATE, BenchmarkData.INTERNATIONAL, BenchmarkData.MIXED })
+    private String studentType;
+    
+    @Param({ "1", "4" })
+    private int parallelism;
+    
+    private Student[] students;
+    private int[] credits;
+    private Roster roster;
+    private boolean alternateCredits;
+    
+    /**
+     * Builds a roster holding rosterSize students of the given type.
+     */
+    @Setup(Level.Trial)
+    public void createRoster() {
+        students = BenchmarkData.students(rosterSize, studentType);
+        credits = new int[rosterSize];
+        roster = new Roster(rosterSize);
+        roster.setParallelism(parallelism);
+        for (int i = 0; i < rosterSize; i++) {
+            credits[i] = students[i].getCredits();
+            roster.add(students[i]);
+        }
+        alternateCredits = false;
+    }
+    
+    /**
+     * Measures calling tuitionDue() on every student directly, without going through the roster.
+     * @return the tuition owed by the last student, so the calculation cannot be eliminated.
+     */
+    @Benchmark
+    public long tuitionDue() {
+        for (Student student : students)
+            student.tuitionDue();
+        return students[students.length - 1].getTuitionOwed();
+    }
+    
+    /**
+     * Measures the 'C' command after every student's credits changed, so every student is recalculated.
+     * The credits alternate between two values that give the same tuition band, and the cost of changing them is included.
+     * @return the number of students recalculated.
+     */
+    @Benchmark
+    public int calculateTuitionAllDirty() {
+        alternateCredits = !alternateCredits;
+        int creditChange = alternateCredits ? 1 : 0;
+        for (int i = 0; i < students.length; i++)
+            students[i].setCredits(credits[i] + creditChange);
+        return roster.calculateTuition();
+    }
+    
+    /**
+     * Measures the 'C' command when nothing changed since the last calculation, so no student is recalculated.
+     * @return the number of students recalculated.
+     */
+    @Benchmark
+    public int calculateTuitionNoneDirty() {
+        return roster.calculateTuition();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package tuitionmanager;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Class that defines the Java Flight Recorder event of one command file run in batch mode, e.g. a term import;
+ * the events of its commands happen within it on the same thread.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@Name("tuitionmanager.Batch")
+@Label("Batch")
+@Category("Tuition Manager")
+@Description("A command file run in batch mode")
+@StackTrace(false)
+final class BatchEvent extends jdk.jfr.Event {
+    
+    @Label("Applied Commands")
+    @Description("The number of commands that were applied")
+    int appliedCommands;
+    
+    @Label("Rejected Commands")
+    @Description("The number of commands that were rejected")
+    int rejectedCommands;
+    
+    @Label("Parsing Threads")
+    @Description("The number of threads that parsed the lines while they were applied")
+    int parsingThreads;
+    
+    @Label("Roster Size")
+    @Description("The number of students in the roster at the end of the batch")
+    int rosterSize;
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package tuitionmanager;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Class that defines the Java Flight Recorder event of one calculation of tuition (the 'C' command) over the whole roster.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@Name("tuitionmanager.Calculation")
+@Label("Tuition Calculation")
+@Category("Tuition Manager")
+@Description("The tuition of every student in the roster calculated by the C command")
+@StackTrace(false)
+final class CalculationEvent extends jdk.jfr.Event {
+    
+    @Label("Roster Size")
+    @Description("The number of students in the roster")
+    int rosterSize;
+    
+    @Label("Recalculated Students")
+    @Description("The number of students whose tuition changed since the last calculation and was recalculated")
+    int recalculatedStudents;
+}
\ No newline at end of file
@@ -0,0 +1,790 @@
+package tuitionmanager;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Class that defines the 'Columnar Roster' abstract data type; a roster that keeps every field of every student in a column (a primitive array) instead of a Student object.
+ * The student type and major are byte columns; credits, tuition owed, total tuition paid, financial aid, and the packed last payment date are primitive columns;
+ * only the names are objects. Students are found through a StudentIndex, an open-addressing hash table of positions keyed by name and major, so no Profile objects are kept either.
+ * Bulk passes such as calculateTuition() are linear scans over contiguous arrays, and a student takes a fraction of the heap of a Student object.
+ * Student objects are only created to print the roster or to return a copy from getStudent(); they are not linked to the roster.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class ColumnarRoster implements StudentRoster {
+    
+    private byte[] types;  // StudentType codes
+    private byte[] majors;  // Major ordinals, or NONE
+    private String[] names;
+    private int[] credits;
+    private long[] tuitionOwed;  // amounts of money are in cents
+    private long[] totalTuitionPaid;
+    private long[] financialAid;  // residents only
+    private int[] lastPaymentDates;  // packed dates, or NO_PAYMENT_DATE
+    private byte[] states;  // State ordinals for tri-state students, or NONE
+    private boolean[] studyAbroad;  // international students only
+    private boolean[] tuitionDirty;  // true when a change since the last calculation may have changed the tuition due
+    private int size;
+    private StudentIndex index;  // the position of every student by name and major
+    private boolean swapRemove;  // when true, remove() fills the gap with the last student instead of shifting
+    private int[] sortedByStudentName;  // cached positions ordered by name; null when it has to be rebuilt
+    private int[] sortedByPaymentDate;  // cached positions of the students who made payments ordered by date; null when it has to be rebuilt
+    private int parallelism;  // number of threads used to calculate tuition; 1 means the calculation is serial
+    private ForkJoinPool calculationPool;  // created the first time a parallel calculation runs
+    private RosterAggregates aggregates;  // running totals by major, student type, and state
+    
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int GROWTH_FACTOR = 2;
+    private static final int NOT_FOUND = -1;
+    private static final byte NONE = -1;
+    private static final int NO_PAYMENT_DATE = Date.INVALID_FORMAT;
+    private static final long MAXIMUM_FINANCIAL_AID = Money.dollars(10000);
+    private static final int SERIAL_PARALLELISM = 1;
+    private static final int PARALLEL_CALCULATION_THRESHOLD = 4096;  // smallest range of students worth splitting across threads
+    
+    private static final byte RESIDENT = StudentType.RESIDENT.code();
+    private static final byte TRI_STATE = StudentType.TRI_STATE.code();
+    private static final byte INTERNATIONAL = StudentType.INTERNATIONAL.code();
+    private static final State[] STATES = State.values();
+    private static final Major[] MAJORS = Major.values();
+    
+    /**
+     * Default constructor to instantiate an empty roster with a capacity of INITIAL_CAPACITY (or 4).
+     */
+    public ColumnarRoster() {
+        this(INITIAL_CAPACITY, false);
+    }
+    
+    /**
+     * Parameterized constructor to instantiate an empty roster pre-sized to hold the expected number of students without growing.
+     * @param expectedCapacity the number of students the roster is expected to hold.
+     */
+    public ColumnarRoster(int expectedCapacity) {
+        this(expectedCapacity, false);
+    }
+    
+    /**
+     * Parameterized constructor to instantiate an empty, pre-sized roster and choose how students are removed.
+     * In swap-remove mode a removal moves the last student into the vacated position, so the roster no longer keeps insertion order.
+     * @param expectedCapacity the number of students the roster is expected to hold.
+     * @param swapRemove true to remove students by swapping in the last student, false to shift the following students up.
+     */
+    public ColumnarRoster(int expectedCapacity, boolean swapRemove) {
+        if (expectedCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + expectedCapacity);
+        allocateColumns(expectedCapacity);
+        index = new ColumnIndex(expectedCapacity);
+        size = 0;
+        this.swapRemove = swapRemove;
+        parallelism = SERIAL_PARALLELISM;
+        aggregates = new RosterAggregates();
+    }
+    
+    /**
+     * Private helper method to allocate every column with the given capacity.
+     * @param capacity the number of students every column can hold.
+     */
+    private void allocateColumns(int capacity) {
+        types = new byte[capacity];
+        majors = new byte[capacity];
+        names = new String[capacity];
+        credits = new int[capacity];
+        tuitionOwed = new long[capacity];
+        totalTuitionPaid = new long[capacity];
+        financialAid = new long[capacity];
+        lastPaymentDates = new int[capacity];
+        states = new byte[capacity];
+        studyAbroad = new boolean[capacity];
+        tuitionDirty = new boolean[capacity];
+    }
+    
+    /**
+     * Class that defines the index of the students' positions, reading their names and majors from the columns.
+     */
+    private class ColumnIndex extends StudentIndex {
+    
+        /**
+         * Parameterized constructor that creates an empty index sized for the given number of students.
+         * @param capacity the number of students the index should hold without growing.
+         */
+        ColumnIndex(int capacity) {
+            super(capacity);
+        }
+    
+        /**
+         * Returns the name of the student at a position from the names column.
+         * @param position the position of the student.
+         * @return the name of the student.
+         */
+        @Override
+        String nameAt(int position) {
+            return names[position];
+        }
+    
+        /**
+         * Returns the major code of the student at a position from the majors column.
+         * @param position the position of the student.
+         * @return the ordinal of the student's major, or NONE.
+         */
+        @Override
+        byte majorAt(int position) {
+            return majors[position];
+        }
+    }
+    
+    /**
+     * A private helper method to find a student in the roster by looking up its name and major in the index, without creating any objects.
+     * @param name the name of the student.
+     * @param major the major of the student, or null.
+     * @return the position at which the student was found in the roster; if not found, return NOT_FOUND (or -1).
+     */
+    private int find(String name, Major major) {
+        if (size == 0)
+            return NOT_FOUND;
+        return index.find(name, StudentIndex.majorCode(major));
+    }
+    
+    /**
+     * This method checks whether a student with the same profile (name and major) is in the roster.
+     * @param student the student that the application wants to search for.
+     * @return true if the student is in the roster, false otherwise.
+     */
+    @Override
+    public boolean contains(Student student) {
+        return contains(student.getProfile().getName(), student.getProfile().getMajor());
+    }
+    
+    /**
+     * This method checks whether a student with a name and major is in the roster, without creating any objects.
+     * @param name the name of the student.
+     * @param major the major of the student.
+     * @return true if the student is in the roster, false otherwise.
+     */
+    @Override
+    public boolean contains(String name, Major major) {
+        return find(name, major) != NOT_FOUND;
+    }
+    
+    /**
+     * Getter method to return the number of students in the roster.
+     * @return the number of students in the roster.
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+    
+    /**
+     * Getter method to return the number of students the roster can hold before its columns have to grow.
+     * @return the capacity of the roster.
+     */
+    @Override
+    public int getCapacity() {
+        return types.length;
+    }
+    
+    /**
+     * Getter method to return a copy of the student at a position in the roster, built from the columns.
+     * Changing the returned student does not change the roster.
+     * @param position the position of the student, from 0 to getSize() - 1.
+     * @return a new Student of the right subclass holding the student's fields.
+     */
+    @Override
+    public Student getStudent(int position) {
+        if (position < 0 || position >= size)
+            throw new IndexOutOfBoundsException("Index " + position + " out of bounds for length " + size);
+        Profile profile = new Profile(names[position], (majors[position] == NONE) ? null : MAJORS[majors[position]]);
+        Student student;
+        byte type = types[position];
+        if (type == RESIDENT) {
+            Resident resident = new Resident(profile, credits[position]);
+            resident.setFinancialAid(financialAid[position]);
+            student = resident;
+        }
+        else if (type == TRI_STATE)
+            student = new TriState(profile, credits[position], STATES[states[position]]);
+        else if (type == INTERNATIONAL)
+            student = new International(profile, credits[position], studyAbroad[position]);
+        else
+            student = new NonResident(profile, credits[position]);
+        student.setTuitionOwed(tuitionOwed[position]);
+        student.setTotalTuitionPaid(totalTuitionPaid[position]);
+        if (lastPaymentDates[position] != NO_PAYMENT_DATE)
+            student.setLastPaymentDate(Date.fromPackedDate(lastPaymentDates[position]));
+        student.restoreTuitionDirty(tuitionDirty[position]);
+        return student;
+    }
+    
+    /**
+     * A private helper method to copy every column into new arrays of the given capacity.
+     * @param capacity the length of the new columns; must not be smaller than the number of students.
+     */
+    private void resize(int capacity) {
+        types = Arrays.copyOf(types, capacity);
+        majors = Arrays.copyOf(majors, capacity);
+        names = Arrays.copyOf(names, capacity);
+        credits = Arrays.copyOf(credits, capacity);
+        tuitionOwed = Arrays.copyOf(tuitionOwed, capacity);
+        totalTuitionPaid = Arrays.copyOf(totalTuitionPaid, capacity);
+        financialAid = Arrays.copyOf(financialAid, capacity);
+        lastPaymentDates = Arrays.copyOf(lastPaymentDates, capacity);
+        states = Arrays.copyOf(states, capacity);
+        studyAbroad = Arrays.copyOf(studyAbroad, capacity);
+        tuitionDirty = Arrays.copyOf(tuitionDirty, capacity);
+        index.ensureCapacity(capacity, size);
+    }
+    
+    /**
+     * This method increases the capacity of the roster, if necessary, so that it can hold at least the given number of students without growing.
+     * @param minimumCapacity the number of students the roster should be able to hold.
+     */
+    @Override
+    public void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > types.length)
+            resize(Math.max(minimumCapacity, types.length * GROWTH_FACTOR));
+    }
+    
+    /**
+     * This method shrinks the capacity of the roster to the number of students it currently holds, releasing unused space in every column.
+     */
+    public void trimToSize() {
+        if (size < types.length)
+            resize(size);
+    }
+    
+    /**
+     * This method adds a student to the roster if the student is not already in it, copying the student's fields into the columns.
+     * @param student the student to be added to the roster.
+     * @return true if the student was added successfully, false otherwise.
+     */
+    @Override
+    public boolean add(Student student) {
+        Profile profile = student.getProfile();
+        if (find(profile.getName(), profile.getMajor()) != NOT_FOUND)
+            return false;
+        StudentType type = StudentType.of(student);
+        if (size == types.length)
+            resize(Math.max(INITIAL_CAPACITY, types.length * GROWTH_FACTOR));
+        int position = size;
+        types[position] = type.code();
+        majors[position] = StudentIndex.majorCode(profile.getMajor());
+        names[position] = profile.getName();
+        credits[position] = student.getCredits();
+        tuitionOwed[position] = student.getTuitionOwed();
+        totalTuitionPaid[position] = student.getTotalTuitionPaid();
+        Date lastPaymentDate = student.getLastPaymentDate();
+        lastPaymentDates[position] = (lastPaymentDate == null) ? NO_PAYMENT_DATE : lastPaymentDate.toPackedDate();
+        financialAid[position] = (type == StudentType.RESIDENT) ? ((Resident)student).getFinancialAid() : 0;
+        State state = (type == StudentType.TRI_STATE) ? ((TriState)student).getState() : null;
+        states[position] = (state == null) ? NONE : (byte)state.ordinal();
+        studyAbroad[position] = (type == StudentType.INTERNATIONAL) && ((International)student).isStudyAbroad();
+        tuitionDirty[position] = student.isTuitionDirty();
+        index.insert(position);
+        size++;
+        updateAggregates(aggregates, position, 1, tuitionOwed[position], totalTuitionPaid[position], financialAid[position]);
+        invalidateSortedViews();
+        return true;
+    }
+    
+    /**
+     * This method removes a student from the roster if the roster is not empty and if the student is found within it.
+     * The students after the removed one are shifted up to keep their order, unless the roster is in swap-remove mode.
+     * @param student the student to be removed from the roster.
+     * @return true if the student was removed successfully, false otherwise.
+     */
+    @Override
+    public boolean remove(Student student) {
+        return remove(student.getProfile().getName(), student.getProfile().getMajor());
+    }
+    
+    /**
+     * This method removes the student with a name and major from the roster if the student is found within it, without creating any objects to find the student.
+     * The students after the removed one are shifted up to keep their order, unless the roster is in swap-remove mode.
+     * @param name the name of the student to be removed.
+     * @param major the major of the student to be removed.
+     * @return true if the student was removed successfully, false otherwise.
+     */
+    @Override
+    public boolean remove(String name, Major major) {
+        int position = find(name, major);
+        if (position == NOT_FOUND)
+            return false;
+        index.delete(position);
+        updateAggregates(aggregates, position, -1, -tuitionOwed[position], -totalTuitionPaid[position], -financialAid[position]);
+        int lastPosition = size - 1;
+        if (swapRemove) {
+            if (position != lastPosition) {
+                move(lastPosition, position, 1);
+                index.reindex(lastPosition, position);
+            }
+        }
+        else if (position != lastPosition) {
+            move(position + 1, position, lastPosition - position);
+            for (int i = position; i < lastPosition; i++)
+                index.reindex(i + 1, i);
+        }
+        names[lastPosition] = null;
+        size--;
+        invalidateSortedViews();
+        return true;
+    }
+    
+    /**
+     * Private helper method to update the totals of the groups (major, student type, and state) of the student at a position.
+     * @param changes the aggregates to update.
+     * @param position the position of the student.
+     * @param countChange 1 if the student was added, -1 if the student was removed, 0 otherwise.
+     * @param owedChange the change in the tuition the student owes.
+     * @param paidChange the change in the tuition the student has paid.
+     * @param aidChange the change in the financial aid of the student.
+     */
+    private void updateAggregates(RosterAggregates changes, int position, int countChange, long owedChange, long paidChange, long aidChange) {
+        Major major = (majors[position] == NONE) ? null : MAJORS[majors[position]];
+        State state = (states[position] == NONE) ? null : STATES[states[position]];
+        changes.update(Profile.hashCode(names[position], major), StudentType.fromCode(types[position]), major, state, countChange, owedChange, paidChange, aidChange);
+    }
+    
+    /**
+     * Private helper method to move a range of students within every column.
+     * @param from the position of the first student to be moved.
+     * @param to the position the first student is moved to.
+     * @param length the number of students to be moved.
+     */
+    private void move(int from, int to, int length) {
+        System.arraycopy(types, from, types, to, length);
+        System.arraycopy(majors, from, majors, to, length);
+        System.arraycopy(names, from, names, to, length);
+        System.arraycopy(credits, from, credits, to, length);
+        System.arraycopy(tuitionOwed, from, tuitionOwed, to, length);
+        System.arraycopy(totalTuitionPaid, from, totalTuitionPaid, to, length);
+        System.arraycopy(financialAid, from, financialAid, to, length);
+        System.arraycopy(lastPaymentDates, from, lastPaymentDates, to, length);
+        System.arraycopy(states, from, states, to, length);
+        System.arraycopy(studyAbroad, from, studyAbroad, to, length);
+        System.arraycopy(tuitionDirty, from, tuitionDirty, to, length);
+    }
+    
+    /**
+     * Setter method to set the number of threads that calculateTuition() splits the roster across.
+     * @param parallelism the number of threads to use; 1 calculates tuition serially on the calling thread.
+     */
+    @Override
+    public void setParallelism(int parallelism) {
+        if (parallelism < SERIAL_PARALLELISM)
+            throw new IllegalArgumentException("Illegal parallelism: " + parallelism);
+        if (parallelism != this.parallelism && calculationPool != null) {
+            calculationPool.shutdown();
+            calculationPool = null;
+        }
+        this.parallelism = parallelism;
+    }
+    
+    /**
+     * This method calculates the tuition for every student in the roster whose tuition is dirty, scanning the columns from start to end.
+     * Students who have paid part of their tuition keep the tuition they owe, as in the tuitionDue() methods of the Student subclasses.
+     * When the parallelism is greater than 1 and the roster is large enough, the columns are split into ranges that are calculated on a fork-join pool.
+     * @return the number of students whose tuition was recalculated.
+     */
+    @Override
+    public int calculateTuition() {
+        if (parallelism == SERIAL_PARALLELISM || size < PARALLEL_CALCULATION_THRESHOLD)
+            return calculateTuition(0, size, aggregates);
+        if (calculationPool == null)
+            calculationPool = new ForkJoinPool(parallelism);
+        int rangeSize = Math.max(PARALLEL_CALCULATION_THRESHOLD, size / (parallelism * 4));
+        TuitionCalculation calculation = new TuitionCalculation(0, size, rangeSize);
+        int recalculatedStudents = calculationPool.invoke(calculation);
+        aggregates.addAll(calculation.changes);
+        return recalculatedStudents;
+    }
+    
+    /**
+     * Private helper method to calculate the tuition for the dirty students in a range of positions.
+     * @param from the position of the first student in the range.
+     * @param to the position one past the last student in the range.
+     * @param changes the aggregates that the changes in tuition owed are added to.
+     * @return the number of students whose tuition was recalculated.
+     */
+    private int calculateTuition(int from, int to, RosterAggregates changes) {
+        TuitionRateTable rates = TuitionRateTable.getCurrent();
+        int recalculatedStudents = 0;
+        for (int i = from; i < to; i++) {
+            if (!tuitionDirty[i])
+                continue;
+            tuitionDirty[i] = false;
+            recalculatedStudents++;
+            if (totalTuitionPaid[i] > 0)
+                continue;
+            long tuition = tuitionFor(rates, i);
+            if (tuition != tuitionOwed[i])
+                updateAggregates(changes, i, 0, tuition - tuitionOwed[i], 0, 0);
+            tuitionOwed[i] = tuition;
+        }
+        return recalculatedStudents;
+    }
+    
+    /**
+     * Private helper method to look up the tuition of the student at a position in the rate table, by the student's type.
+     * @param rates the rate table.
+     * @param position the position of the student.
+     * @return the tuition owed, in cents.
+     */
+    private long tuitionFor(TuitionRateTable rates, int position) {
+        byte type = types[position];
+        if (type == RESIDENT)
+            return rates.residentTuition(credits[position], financialAid[position]);
+        if (type == TRI_STATE)
+            return rates.triStateTuition(credits[position], STATES[states[position]]);
+        if (type == INTERNATIONAL)
+            return rates.internationalTuition(credits[position], studyAbroad[position]);
+        return rates.nonResidentTuition(credits[position]);
+    }
+    
+    /**
+     * Class that defines a fork-join task which calculates the tuition for a range of positions, splitting the range in half until it is small enough to calculate directly.
+     */
+    private class TuitionCalculation extends RecursiveTask<Integer> {
+    
+        private static final long serialVersionUID = 1L;
+    
+        private final int from;
+        private final int to;
+        private final int rangeSize;
+        private final RosterAggregates changes;  // the changes in tuition owed in the range; merged by the parent task
+    
+        /**
+         * Parameterized constructor that creates a task for the students in the range [from, to).
+         * @param from the position of the first student in the range.
+         * @param to the position one past the last student in the range.
+         * @param rangeSize the largest range that is calculated without splitting it further.
+         */
+        TuitionCalculation(int from, int to, int rangeSize) {
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+            changes = RosterAggregates.unstriped();
+        }
+    
+        /**
+         * Calculates the range directly if it is small enough; otherwise forks the first half and calculates the second half on the current thread.
+         * @return the number of students whose tuition was recalculated.
+         */
+        @Override
+        protected Integer compute() {
+            if (to - from <= rangeSize)
+                return calculateTuition(from, to, changes);
+            int middle = (from + to) >>> 1;
+            TuitionCalculation firstHalf = new TuitionCalculation(from, middle, rangeSize);
+            TuitionCalculation secondHalf = new TuitionCalculation(middle, to, rangeSize);
+            firstHalf.fork();
+            int recalculatedStudents = secondHalf.compute() + firstHalf.join();
+            changes.addAll(firstHalf.changes);
+            changes.addAll(secondHalf.changes);
+            return recalculatedStudents;
+        }
+    }
+    
+    /**
+     * This method processes student tuition payments and recalculates the tuition that the student owes.
+     * @param studentToUpdate the student that the application wants to update the information for.
+     * @param paymentAmount the amount of money in cents that the student is paying towards tuition.
+     * @param dateOfPayment the date that the student is making a payment on.
+     * @param output the output sink that error messages are written to.
+     * @return true if the payment was successfully processed, false otherwise.
+     */
+    @Override
+    public boolean processPayment(Student studentToUpdate, long paymentAmount, Date dateOfPayment, OutputSink output) {
+        Profile profile = studentToUpdate.getProfile();
+        return applyPayment(profile.getName(), profile.getMajor(), paymentAmount, dateOfPayment, output);
+    }
+    
+    /**
+     * This method applies a tuition payment to the student with a name and major, without creating any objects to find the student.
+     * @param name the name of the student who is paying.
+     * @param major the major of the student who is paying.
+     * @param paymentAmount the amount of money in cents that the student is paying towards tuition.
+     * @param dateOfPayment the date that the student is making a payment on.
+     * @param output the output sink that error messages are written to.
+     * @return true if the payment was successfully processed, false otherwise.
+     */
+    @Override
+    public boolean applyPayment(String name, Major major, long paymentAmount, Date dateOfPayment, OutputSink output) {
+        int position = find(name, major);
+        if (position == NOT_FOUND)
+            return false;
+        if (paymentAmount > tuitionOwed[position]) {
+            output.println("Amount is greater than amount due.");
+            return false;
+        }
+        setTotalTuitionPaid(position, totalTuitionPaid[position] + paymentAmount);
+        tuitionOwed[position] -= paymentAmount;
+        lastPaymentDates[position] = dateOfPayment.toPackedDate();
+        updateAggregates(aggregates, position, 0, -paymentAmount, paymentAmount, 0);
+        sortedByPaymentDate = null;
+        return true;
+    }
+    
+    /**
+     * Private helper method to set the total tuition paid by a student, marking the tuition dirty when the total paid drops back to 0, as Student.setTotalTuitionPaid() does.
+     * @param position the position of the student.
+     * @param amount the new total tuition paid, in cents.
+     */
+    private void setTotalTuitionPaid(int position, long amount) {
+        if (amount <= 0 && totalTuitionPaid[position] > 0)
+            tuitionDirty[position] = true;
+        totalTuitionPaid[position] = amount;
+    }
+    
+    /**
+     * This method sets the study abroad status of an international student.
+     * @param internationalStudent the international student whose study abroad status we want to set.
+     * @param studyAbroadStatus boolean value (true/false) that dictates whether or not an international student is studying abroad.
+     * @param output the output sink that error messages are written to.
+     * @return true if international student's study abroad status was changed successfully, false otherwise.
+     */
+    @Override
+    public boolean setStudyAbroadToTrue(International internationalStudent, boolean studyAbroadStatus, OutputSink output) {
+        Profile profile = internationalStudent.getProfile();
+        return setStudyAbroad(profile.getName(), profile.getMajor(), studyAbroadStatus, output);
+    }
+    
+    /**
+     * This method sets the study abroad status of the international student with a name and major, without creating any objects to find the student.
+     * @param name the name of the international student.
+     * @param major the major of the international student.
+     * @param studyAbroadStatus boolean value (true/false) that dictates whether or not the student is studying abroad.
+     * @param output the output sink that error messages are written to.
+     * @return true if the study abroad status was changed successfully, false otherwise.
+     */
+    @Override
+    public boolean setStudyAbroad(String name, Major major, boolean studyAbroadStatus, OutputSink output) {
+        int position = find(name, major);
+        if (position == NOT_FOUND || types[position] != INTERNATIONAL) {
+            output.println("Couldn't find the international student."); return false;
+        }
+        if (credits[position] > TuitionManager.MINIMUM_INTERNATIONAL_CREDITS) {
+            credits[position] = TuitionManager.MINIMUM_INTERNATIONAL_CREDITS;
+            tuitionDirty[position] = true;
+        }
+        updateAggregates(aggregates, position, 0, 0, -totalTuitionPaid[position], 0);
+        setTotalTuitionPaid(position, 0);
+        lastPaymentDates[position] = NO_PAYMENT_DATE;
+        sortedByPaymentDate = null;
+        if (studyAbroad[position] != studyAbroadStatus) {
+            studyAbroad[position] = studyAbroadStatus;
+            tuitionDirty[position] = true;
+        }
+        updateTuitionIfDirty(position);
+        return true;
+    }
+    
+    /**
+     * This method sets the financial aid amount for a resident student.
+     * @param residentStudent an instance of a 'Resident' student whose financial aid amount we are updating.
+     * @param financialAidAmount the amount of financial aid in cents to be set.
+     * @param output the output sink that error messages are written to.
+     * @return true if resident student's financial aid amount was successfully changed, false otherwise.
+     */
+    @Override
+    public boolean setFinancialAid(Resident residentStudent, long financialAidAmount, OutputSink output) {
+        Profile profile = residentStudent.getProfile();
+        return awardAid(profile.getName(), profile.getMajor(), financialAidAmount, output);
+    }
+    
+    /**
+     * This method awards financial aid to the resident student with a name and major, without creating any objects to find the student.
+     * @param name the name of the resident student.
+     * @param major the major of the resident student.
+     * @param financialAidAmount the amount of financial aid in cents to be awarded.
+     * @param output the output sink that error messages are written to.
+     * @return true if the financial aid was awarded successfully, false otherwise.
+     */
+    @Override
+    public boolean awardAid(String name, Major major, long financialAidAmount, OutputSink output) {
+        int position = find(name, major);
+        if (position == NOT_FOUND) {
+            output.println("Student not in the roster."); return false;
+        }
+        if (types[position] != RESIDENT) {
+            output.println("Not a resident student."); return false;
+        }
+        if (financialAidAmount < 0 || financialAidAmount > MAXIMUM_FINANCIAL_AID) {
+            output.println("Invalid amount."); return false;
+        }
+        if (financialAid[position] != 0) {
+            output.println("Awarded once already."); return false;
+        }
+        if (credits[position] < Student.MINIMUM_FULL_TIME_CREDITS) {
+            output.println("Parttime student doesn't qualify for the award."); return false;
+        }
+        if (financialAidAmount != financialAid[position]) {
+            updateAggregates(aggregates, position, 0, 0, 0, financialAidAmount - financialAid[position]);
+            financialAid[position] = financialAidAmount;
+            tuitionDirty[position] = true;
+        }
+        updateTuitionIfDirty(position);
+        return true;
+    }
+    
+    /**
+     * Private helper method to recalculate the tuition of one student if it is dirty, as Student.updateTuitionIfDirty() does.
+     * @param position the position of the student.
+     */
+    private void updateTuitionIfDirty(int position) {
+        calculateTuition(position, position + 1, aggregates);
+    }
+    
+    /**
+     * Getter method to return the totals of the students in the roster by major, student type, and state; they are kept up to date as the roster changes.
+     * @return a copy of the aggregates.
+     */
+    @Override
+    public RosterAggregates getAggregates() {
+        return aggregates.copy();
+    }
+    
+    /**
+     * Print out the list of students in the roster.
+     * If the collection is empty, print a message to the console letting the user know.
+     * @param output the output sink that the list is written to.
+     */
+    @Override
+    public void print(OutputSink output) {
+        if (size == 0) {
+            output.println("Student roster is empty!"); return;
+        }
+        output.println("* list of students in the roster **");
+        StringBuilder row = new StringBuilder(Student.ROW_CAPACITY);
+        for (int i = 0; i < size; i++)
+            output.println(renderRow(row, i));
+        output.println("* end of roster **");
+    }
+    
+    /**
+     * Print out the list of students in the roster sorted by payment date from oldest to newest.
+     * Students with the same payment date are printed in the order they are held in the roster.
+     * @param output the output sink that the list is written to.
+     */
+    @Override
+    public void printByPaymentDate(OutputSink output) {
+        if (size == 0) {
+            output.println("Student roster is empty!"); return;
+        }
+        output.println("* list of students made payments ordered by payment date **");
+        StringBuilder row = new StringBuilder(Student.ROW_CAPACITY);
+        for (int position : sortByPaymentDate())
+            output.println(renderRow(row, position));
+        output.println("* end of roster **");
+    }
+    
+    /**
+     * Print out the list of students in the roster sorted by student name in alphabetical order.
+     * Students with the same name are printed in the order they are held in the roster.
+     * @param output the output sink that the list is written to.
+     */
+    @Override
+    public void printByStudentName(OutputSink output) {
+        if (size == 0) {
+            output.println("Student roster is empty!"); return;
+        }
+        output.println("* list of students ordered by name **");
+        StringBuilder row = new StringBuilder(Student.ROW_CAPACITY);
+        for (int position : sortByStudentName())
+            output.println(renderRow(row, position));
+        output.println("* end of roster **");
+    }
+    
+    /**
+     * Private helper method to render the row of the student at a position straight from the columns, in the format of the student's toString(), without creating a Student.
+     * @param row the StringBuilder that is cleared and the row is rendered into.
+     * @param position the position of the student.
+     * @return the StringBuilder holding the row.
+     */
+    private StringBuilder renderRow(StringBuilder row, int position) {
+        row.setLength(0);
+        Major major = (majors[position] == NONE) ? null : MAJORS[majors[position]];
+        Student.appendFields(row, names[position], major, credits[position], tuitionOwed[position], totalTuitionPaid[position], lastPaymentDates[position]);
+        byte type = types[position];
+        if (type == RESIDENT)
+            return Resident.appendFields(row, financialAid[position]);
+        NonResident.appendFields(row);
+        if (type == TRI_STATE)
+            return TriState.appendFields(row, STATES[states[position]]);
+        if (type == INTERNATIONAL)
+            return International.appendFields(row, studyAbroad[position]);
+        return row;
+    }
+    
+    /**
+     * Private helper method to discard the cached sorted views after the set of students in the roster has changed.
+     */
+    private void invalidateSortedViews() {
+        sortedByStudentName = null;
+        sortedByPaymentDate = null;
+    }
+    
+    /**
+     * Private helper method to return the positions of the students who made payments sorted according to payment date (from oldest to newest).
+     * Each student is sorted as one long holding the packed payment date in the high half and the position in the low half,
+     * so a primitive sort orders by date and keeps roster order for students paying on the same date.
+     * @return the positions of the students who made payments, sorted by payment date.
+     */
+    private int[] sortByPaymentDate() {
+        if (sortedByPaymentDate == null) {
+            long[] keys = new long[size];
+            int numberOfStudentsWithPayments = 0;
+            for (int i = 0; i < size; i++) {
+                if (lastPaymentDates[i] != NO_PAYMENT_DATE)
+                    keys[numberOfStudentsWithPayments++] = ((long)lastPaymentDates[i] << Integer.SIZE) | i;
+            }
+            Arrays.sort(keys, 0, numberOfStudentsWithPayments);
+            int[] positions = new int[numberOfStudentsWithPayments];
+            for (int i = 0; i < numberOfStudentsWithPayments; i++)
+                positions[i] = (int)keys[i];
+            sortedByPaymentDate = positions;
+        }
+        return sortedByPaymentDate;
+    }
+    
+    /**
+     * Private helper method to return the positions of the students in the roster sorted alphabetically according to name.
+     * The positions are merge sorted, which is stable, so students with the same name keep their roster order.
+     * @return the positions of the students in the roster, sorted by name.
+     */
+    private int[] sortByStudentName() {
+        if (sortedByStudentName == null) {
+            int[] positions = new int[size];
+            for (int i = 0; i < size; i++)
+                positions[i] = i;
+            mergeSortByName(positions, new int[size], 0, size);
+            sortedByStudentName = positions;
+        }
+        return sortedByStudentName;
+    }
+    
+    /**
+     * Private helper method to merge sort a range of positions by the names of the students at those positions.
+     * @param positions the positions to be sorted.
+     * @param buffer a scratch array at least as long as positions.
+     * @param from the index of the first position in the range.
+     * @param to the index one past the last position in the range.
+     */
+    private void mergeSortByName(int[] positions, int[] buffer, int from, int to) {
+        if (to - from < 2)
+            return;
+        int middle = (from + to) >>> 1;
+        mergeSortByName(positions, buffer, from, middle);
+        mergeSortByName(positions, buffer, middle, to);
+        if (names[positions[middle - 1]].compareTo(names[positions[middle]]) <= 0)
+            return;
+        System.arraycopy(positions, from, buffer, from, to - from);
+        int left = from, right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && names[buffer[left]].compareTo(names[buffer[right]]) <= 0))
+                positions[i] = buffer[left++];
+            else
+                positions[i] = buffer[right++];
+        }
+    }
+}
\ No newline at end of file
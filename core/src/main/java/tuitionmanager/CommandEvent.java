@@ -0,0 +1,49 @@
+package tuitionmanager;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Class that defines the Java Flight Recorder event of one command executed by a tuition manager, so a latency spike in a recording can be traced to the command and the line that caused it.
+ * The duration covers applying the command to the roster and printing its messages, but not waiting for the journal.
+ * Like every event of the tuition manager, it only costs a check whether it is enabled unless a recording is running; the fields are only filled in for an event that is committed.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@Name("tuitionmanager.Command")
+@Label("Command")
+@Category("Tuition Manager")
+@Description("A command executed by a tuition manager")
+@StackTrace(false)
+final class CommandEvent extends jdk.jfr.Event {
+    
+    @Label("Command")
+    @Description("The command at the start of the line, e.g. AR")
+    String command;
+    
+    @Label("Student")
+    @Description("The name of the student named by the command, if any")
+    String student;
+    
+    @Label("Major")
+    @Description("The major of the student named by the command, if any")
+    String major;
+    
+    @Label("Line Number")
+    @Description("The number of the line of the command in the command file, journal, or console session, starting from 1")
+    int lineNumber;
+    
+    @Label("Roster Size")
+    @Description("The number of students in the roster after the command")
+    int rosterSize;
+    
+    @Label("Carried Out")
+    @Description("True if the command was carried out, false if it was rejected or failed")
+    boolean carriedOut;
+    
+    @Label("Invalid")
+    @Description("True if the command failed validation or the line could not be parsed")
+    boolean invalid;
+}
\ No newline at end of file
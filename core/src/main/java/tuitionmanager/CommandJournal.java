@@ -0,0 +1,428 @@
+package tuitionmanager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Class that defines the 'Command Journal' abstract data type; an append-only file of the commands that changed the roster, one command line per line.
+ * Appending a command only copies it into memory. A background thread writes the appended commands and forces them to disk together,
+ * waiting up to a configurable latency window for more commands to arrive first (group commit), so a burst of payments costs one fsync per batch instead of one per payment.
+ * A caller that must not acknowledge a command before it is durable waits for its sequence number with awaitDurable().
+ * Appending only wakes the background thread, and only when it is idle; the callers waiting in awaitDurable() are woken once per fsync.
+ * The journal is guarded by a ReentrantLock rather than its monitor, so waiting callers running on virtual threads do not pin their carrier threads.
+ * When the journal is opened, a partly written last line left by a crash is cut off, so replaying the journal only sees complete commands.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class CommandJournal implements Closeable {
+    
+    private final FileChannel channel;
+    private final long groupCommitWindowNanos;
+    private final Thread syncThread;
+    private final ReentrantLock lock;  // guards every field below
+    private final Condition commandsAppended;  // signalled to the background thread when it has commands to write, or when the journal is closed
+    private final Condition commandsDurable;  // signalled to the callers of awaitDurable() after every fsync, and when the journal fails
+    
+    private byte[] pending;  // appended commands that have not been written yet
+    private int pendingLength;
+    private long appendedSequence;  // the number of commands appended since the journal was opened
+    private long durableSequence;  // the number of commands forced to disk since the journal was opened
+    private long durableLength;  // the length in bytes of the journal file up to the last command forced to disk
+    private IOException failure;  // set if the background thread failed to write the journal; every later call fails with it
+    private boolean closed;
+    
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final int GROWTH_FACTOR = 2;
+    private static final byte LINE_FEED = '\n';
+    private static final int SCAN_BUFFER_SIZE = 4096;
+    private static final int FINGERPRINT_SIZE = 4096;  // the number of bytes before the fingerprinted length that the fingerprint covers
+    
+    /**
+     * Private constructor that creates a journal over an open file and starts its background thread.
+     * @param channel the journal file, positioned at its end.
+     * @param groupCommitWindowNanos how long to wait for more commands before forcing a batch to disk.
+     * @param length the length of the journal file when it was opened.
+     */
+    private CommandJournal(FileChannel channel, long groupCommitWindowNanos, long length) {
+        this.channel = channel;
+        durableLength = length;
+        this.groupCommitWindowNanos = groupCommitWindowNanos;
+        pending = new byte[INITIAL_BUFFER_SIZE];
+        lock = new ReentrantLock();
+        commandsAppended = lock.newCondition();
+        commandsDurable = lock.newCondition();
+        syncThread = new Thread(this::syncLoop, "command-journal-sync");
+        syncThread.setDaemon(true);
+        syncThread.start();
+    }
+    
+    /**
+     * This method opens a journal file for appending, creating it if it does not exist and cutting off a partly written last line.
+     * @param path the path of the journal file.
+     * @param groupCommitWindow how long to wait for more commands before forcing a batch to disk; 0 forces every batch as soon as it is seen.
+     * @param unit the time unit of groupCommitWindow.
+     * @return the open journal.
+     * @throws IOException if the journal file cannot be opened.
+     */
+    public static CommandJournal open(Path path, long groupCommitWindow, TimeUnit unit) throws IOException {
+        if (groupCommitWindow < 0)
+            throw new IllegalArgumentException("groupCommitWindow is negative: " + groupCommitWindow);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long completeLength;
+        try {
+            completeLength = endOfLastCompleteLine(channel);
+            if (completeLength < channel.size()) {
+                channel.truncate(completeLength);
+                channel.force(true);
+            }
+            channel.position(completeLength);
+        }
+        catch (IOException exception) {
+            channel.close();
+            throw exception;
+        }
+        return new CommandJournal(channel, unit.toNanos(groupCommitWindow), completeLength);
+    }
+    
+    /**
+     * Private helper method to find the end of the last complete line of a journal file by scanning backwards from its end.
+     * @param channel the journal file.
+     * @return the length of the file up to and including its last line feed, or 0 if it has none.
+     * @throws IOException if the journal file cannot be read.
+     */
+    private static long endOfLastCompleteLine(FileChannel channel) throws IOException {
+        ByteBuffer scanBuffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long end = channel.size();
+        while (end > 0) {
+            long start = Math.max(0, end - SCAN_BUFFER_SIZE);
+            scanBuffer.clear().limit((int)(end - start));
+            while (scanBuffer.hasRemaining())
+                if (channel.read(scanBuffer, start + scanBuffer.position()) < 0)
+                    throw new IOException("journal file shrank while it was being opened");
+            for (int i = scanBuffer.limit() - 1; i >= 0; i--) {
+                if (scanBuffer.get(i) == LINE_FEED)
+                    return start + i + 1;
+            }
+            end = start;
+        }
+        return 0;
+    }
+    
+    /**
+     * This method opens a journal file for reading, so its commands can be replayed with a CommandReader.
+     * @param path the path of the journal file.
+     * @return a reader over the journal file; the caller must close it.
+     * @throws IOException if the journal file cannot be opened.
+     */
+    public static Reader openForReplay(Path path) throws IOException {
+        return openForReplay(path, 0);
+    }
+    
+    /**
+     * This method opens a journal file for reading from a position, e.g. the journal length recorded in a roster snapshot, so only the later commands are replayed.
+     * @param path the path of the journal file.
+     * @param position the position in bytes of the first command to be read; it must be the start of a line.
+     * @return a reader over the rest of the journal file; the caller must close it.
+     * @throws IOException if the journal file cannot be opened.
+     */
+    public static Reader openForReplay(Path path, long position) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            channel.position(position);
+        }
+        catch (IOException exception) {
+            channel.close();
+            throw exception;
+        }
+        return new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * This method computes the fingerprint of the journal up to a length, e.g. the durable length recorded in a roster snapshot,
+     * so the snapshot can later tell whether it belongs to a journal file; see fingerprint(Path, long).
+     * @param length the length in bytes of the part of the journal to be fingerprinted; it must not be past the durable part of the journal.
+     * @return the fingerprint; never negative.
+     * @throws IOException if the journal file cannot be read.
+     */
+    public long fingerprint(long length) throws IOException {
+        return fingerprint(channel, length);
+    }
+    
+    /**
+     * This method computes the fingerprint of a journal file up to a length: a CRC-32 of the last bytes before the length,
+     * where two journals that hold different commands differ, read in one positioned read however long the journal is.
+     * @param path the path of the journal file.
+     * @param length the length in bytes of the part of the journal to be fingerprinted.
+     * @return the fingerprint; never negative.
+     * @throws IOException if the journal file cannot be read or is shorter than the length.
+     */
+    public static long fingerprint(Path path, long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return fingerprint(channel, length);
+        }
+    }
+    
+    /**
+     * Private helper method to compute the fingerprint of a journal file up to a length.
+     * @param channel the journal file.
+     * @param length the length in bytes of the part of the journal to be fingerprinted.
+     * @return the CRC-32 of the last bytes before the length.
+     * @throws IOException if the journal file cannot be read or is shorter than the length.
+     */
+    private static long fingerprint(FileChannel channel, long length) throws IOException {
+        long start = Math.max(0, length - FINGERPRINT_SIZE);
+        ByteBuffer fingerprintBuffer = ByteBuffer.allocate((int)(length - start));
+        while (fingerprintBuffer.hasRemaining())
+            if (channel.read(fingerprintBuffer, start + fingerprintBuffer.position()) < 0)
+                throw new IOException("journal file is shorter than " + length + " bytes");
+        CRC32 checksum = new CRC32();
+        checksum.update(fingerprintBuffer.flip());
+        return checksum.getValue();
+    }
+    
+    /**
+     * This method appends a command line to the journal; the command is written and forced to disk later by the background thread.
+     * @param commandLine the comma-delimited command line, without a line separator.
+     * @return the sequence number of the command, to be passed to awaitDurable().
+     */
+    public long append(String commandLine) {
+        byte[] encodedLine = commandLine.getBytes(StandardCharsets.UTF_8);
+        lock.lock();
+        try {
+            checkUsable();
+            int requiredLength = pendingLength + encodedLine.length + 1;
+            if (requiredLength > pending.length)
+                pending = Arrays.copyOf(pending, Math.max(requiredLength, pending.length * GROWTH_FACTOR));
+            if (pendingLength == 0)
+                commandsAppended.signal();  // the background thread is idle, or about to swap in an empty buffer and go idle
+            System.arraycopy(encodedLine, 0, pending, pendingLength, encodedLine.length);
+            pendingLength += encodedLine.length;
+            pending[pendingLength++] = LINE_FEED;
+            appendedSequence++;
+            return appendedSequence;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * This method waits until a command, and every command appended before it, has been forced to disk.
+     * @param sequence the sequence number returned by append().
+     */
+    public void awaitDurable(long sequence) {
+        boolean interrupted = false;
+        lock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (failure != null)
+                    throw new UncheckedIOException("command journal could not be written", failure);
+                try {
+                    commandsDurable.await();
+                }
+                catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+        }
+        finally {
+            lock.unlock();
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * This method waits until every command appended so far has been forced to disk.
+     */
+    public void awaitDurable() {
+        awaitDurable(getAppendedSequence());
+    }
+    
+    /**
+     * Getter method to return the number of commands appended since the journal was opened.
+     * @return the sequence number of the last command appended.
+     */
+    public long getAppendedSequence() {
+        lock.lock();
+        try {
+            return appendedSequence;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Getter method to return the number of commands forced to disk since the journal was opened.
+     * @return the sequence number of the last durable command.
+     */
+    public long getDurableSequence() {
+        lock.lock();
+        try {
+            return durableSequence;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Getter method to return the length of the journal file up to the last command forced to disk.
+     * @return the length of the durable part of the journal in bytes.
+     */
+    public long getDurableLength() {
+        lock.lock();
+        try {
+            return durableLength;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * This method forces every appended command to disk, stops the background thread, and closes the journal file.
+     * @throws IOException if the journal could not be written or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed)
+                return;
+            closed = true;
+            commandsAppended.signal();
+        }
+        finally {
+            lock.unlock();
+        }
+        boolean interrupted = false;
+        while (syncThread.isAlive()) {
+            try {
+                syncThread.join();
+            }
+            catch (InterruptedException exception) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+        channel.close();
+        lock.lock();
+        try {
+            if (failure != null)
+                throw failure;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Private helper method that fails if the journal has been closed or can no longer be written.
+     */
+    private void checkUsable() {
+        if (failure != null)
+            throw new UncheckedIOException("command journal could not be written", failure);
+        if (closed)
+            throw new IllegalStateException("command journal is closed");
+    }
+    
+    /**
+     * Private method run by the background thread: it waits for appended commands, lets the group commit window pass,
+     * writes every command appended in the meantime, forces them to disk with a single fsync, and wakes the waiting callers once.
+     * If a flight recording is running, each batch is recorded as a JournalSyncEvent.
+     * On close, the commands still pending are written before the thread ends.
+     */
+    private void syncLoop() {
+        byte[] writing = new byte[INITIAL_BUFFER_SIZE];
+        while (true) {
+            long batchSequence, previousSequence;
+            int batchLength;
+            lock.lock();
+            try {
+                while (pendingLength == 0 && !closed)
+                    commandsAppended.awaitUninterruptibly();
+                if (pendingLength == 0)
+                    return;
+                if (!closed && groupCommitWindowNanos > 0) {
+                    long deadline = System.nanoTime() + groupCommitWindowNanos;
+                    for (long remaining = groupCommitWindowNanos; remaining > 0 && !closed; remaining = deadline - System.nanoTime())
+                        awaitAppendedUninterruptibly(remaining);
+                }
+                byte[] swap = writing;
+                writing = pending;
+                pending = swap;
+                batchLength = pendingLength;
+                batchSequence = appendedSequence;
+                previousSequence = durableSequence;
+                pendingLength = 0;
+            }
+            finally {
+                lock.unlock();
+            }
+            JournalSyncEvent event = new JournalSyncEvent();
+            event.begin();
+            try {
+                ByteBuffer batch = ByteBuffer.wrap(writing, 0, batchLength);
+                while (batch.hasRemaining())
+                    channel.write(batch);
+                channel.force(false);
+            }
+            catch (IOException exception) {
+                lock.lock();
+                try {
+                    failure = exception;
+                    commandsDurable.signalAll();
+                }
+                finally {
+                    lock.unlock();
+                }
+                return;
+            }
+            if (event.shouldCommit()) {
+                event.commands = batchSequence - previousSequence;
+                event.bytes = batchLength;
+                event.durableSequence = batchSequence;
+                event.commit();
+            }
+            lock.lock();
+            try {
+                durableSequence = batchSequence;
+                durableLength += batchLength;
+                commandsDurable.signalAll();
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+    
+    /**
+     * Private helper method for the background thread to wait, while the group commit window passes, until the journal is closed or the time is up, ignoring interrupts; the thread only stops on close.
+     * Appending a command does not cut the wait short, since the window is only over when the time is up.
+     * @param nanos the longest time to wait.
+     */
+    private void awaitAppendedUninterruptibly(long nanos) {
+        try {
+            commandsAppended.awaitNanos(nanos);
+        }
+        catch (InterruptedException exception) {
+            // the thread is only stopped by close()
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,222 @@
+package tuitionmanager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Class that defines the 'Command Pipeline' abstract data type which reads the lines of a command file, and splits and validates them on a pool of worker threads,
+ * while the thread that calls next() takes the parsed commands in the order of the file and applies them.
+ * The stages are connected by a bounded ring buffer of lines: a reader thread fills the ring, each worker claims the next line that has not been parsed yet,
+ * and a slot is only refilled once the command in it has been taken, so the reader never gets more than the size of the ring ahead of the commands being applied.
+ * Since parsing has no side effects (see ParsedCommand), applying the commands in order gives exactly the result and the messages of a single thread,
+ * and a long command file is limited by how fast the commands can be applied rather than by how fast they can be parsed.
+ * With no workers there are no threads at all; every line is read and parsed by the thread that calls next().
+ * @author Aatif Sayed, Pranav Tailor
+ */
+class CommandPipeline implements Closeable {
+    
+    /**
+     * Private class that holds one line of the ring buffer and the command parsed from it.
+     */
+    private static final class Slot {
+        private String line;
+        private int lineNumber;
+        private ParsedCommand command;
+        private volatile long parsedSequence = NOT_PARSED;  // the sequence number of the line once its command has been parsed
+    }
+    
+    private final CommandReader commandReader;
+    private final Slot[] ring;  // null if there are no workers
+    private final int mask;
+    private final AtomicLong nextToParse;  // the sequence number of the next line a worker claims
+    private volatile long published;  // the number of lines the reader has put in the ring
+    private volatile long taken;  // the number of commands next() has taken from the ring; their slots can be refilled
+    private volatile boolean endOfFile;  // set once published holds the number of lines in the file
+    private volatile Exception readFailure;  // an IOException or a RuntimeException, set if the reader thread could not read the file
+    private volatile boolean closed;
+    private String line;  // the line of the command most recently returned by next(), if there are workers
+    private int lineNumber;
+    
+    private static final long NOT_PARSED = -1;
+    private static final int DEFAULT_RING_SIZE = 4096;
+    private static final int SPIN_TRIES = 100;  // times a waiting thread checks again at once before it yields
+    private static final int YIELD_TRIES = 100;  // times a waiting thread yields before it parks
+    private static final long PARK_NANOSECONDS = 50_000;
+    
+    /**
+     * Private constructor used by start(); the threads are started by start().
+     * @param commandFile the character stream holding the comma-delimited commands.
+     * @param numberOfWorkers the number of threads that parse lines.
+     * @param ringSize the number of lines the ring buffer holds.
+     */
+    private CommandPipeline(Reader commandFile, int numberOfWorkers, int ringSize) {
+        commandReader = new CommandReader(commandFile);
+        nextToParse = new AtomicLong();
+        if (numberOfWorkers == 0) {
+            ring = null;
+            mask = 0;
+            return;
+        }
+        int slotCount = Integer.highestOneBit(Math.max(ringSize - 1, 1)) << 1;
+        ring = new Slot[slotCount];
+        for (int i = 0; i < slotCount; i++)
+            ring[i] = new Slot();
+        mask = slotCount - 1;
+    }
+    
+    /**
+     * This method starts a pipeline over a command file with a ring buffer of the default size.
+     * @param commandFile the character stream holding the comma-delimited commands.
+     * @param numberOfWorkers the number of threads that parse lines; 0 parses every line on the thread that calls next().
+     * @return the running pipeline; the caller must close it.
+     */
+    static CommandPipeline start(Reader commandFile, int numberOfWorkers) {
+        return start(commandFile, numberOfWorkers, DEFAULT_RING_SIZE);
+    }
+    
+    /**
+     * This method starts a pipeline over a command file.
+     * @param commandFile the character stream holding the comma-delimited commands.
+     * @param numberOfWorkers the number of threads that parse lines; 0 parses every line on the thread that calls next().
+     * @param ringSize the number of lines the ring buffer holds; it is rounded up to a power of 2.
+     * @return the running pipeline; the caller must close it.
+     */
+    static CommandPipeline start(Reader commandFile, int numberOfWorkers, int ringSize) {
+        if (numberOfWorkers < 0)
+            throw new IllegalArgumentException("numberOfWorkers is negative: " + numberOfWorkers);
+        if (ringSize < 1)
+            throw new IllegalArgumentException("ringSize is not positive: " + ringSize);
+        CommandPipeline pipeline = new CommandPipeline(commandFile, numberOfWorkers, ringSize);
+        if (numberOfWorkers == 0)
+            return pipeline;
+        Thread reader = new Thread(pipeline::readLines, "command-pipeline-reader");
+        reader.setDaemon(true);
+        reader.start();
+        for (int i = 0; i < numberOfWorkers; i++) {
+            Thread worker = new Thread(pipeline::parseLines, "command-pipeline-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        return pipeline;
+    }
+    
+    /**
+     * This method takes the next command of the file, in the order of the file, waiting for it to be read and parsed.
+     * @return the parsed command, or null if the end of the file has been reached.
+     * @throws IOException if the command file cannot be read.
+     */
+    ParsedCommand next() throws IOException {
+        if (ring == null) {
+            String[] commandTokens = commandReader.nextCommand();
+            if (commandTokens == null)
+                return null;
+            return ParsedCommand.parse(commandTokens);
+        }
+        long sequence = taken;
+        Slot slot = ring[(int)(sequence & mask)];
+        for (int attempt = 0; slot.parsedSequence != sequence; attempt++) {
+            if (endOfFile && sequence >= published) {
+                if (readFailure instanceof IOException)
+                    throw (IOException)readFailure;
+                if (readFailure != null)
+                    throw (RuntimeException)readFailure;
+                return null;
+            }
+            backOff(attempt);
+        }
+        ParsedCommand command = slot.command;
+        line = slot.line;
+        lineNumber = slot.lineNumber;
+        slot.command = null;
+        slot.line = null;
+        taken = sequence + 1;
+        return command;
+    }
+    
+    /**
+     * Getter method to return the text of the command most recently returned by next().
+     * With no workers the String is only created when this method is called.
+     * @return the line without its line terminator.
+     */
+    String getLine() {
+        return (ring == null) ? commandReader.getLine() : line;
+    }
+    
+    /**
+     * Getter method to return the number of the line of the command most recently returned by next(), starting from 1.
+     * @return the line number.
+     */
+    int getLineNumber() {
+        return (ring == null) ? commandReader.getLineNumber() : lineNumber;
+    }
+    
+    /**
+     * This method stops the reader and the workers, e.g. once the command "Q" ends a batch early; the rest of the file is not read.
+     * The threads end on their own once they see the pipeline is closed; a reader blocked on the command file ends when the file is closed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+    
+    /**
+     * Private helper method run by the reader thread; it reads every line of the file into the ring, waiting for a slot to be taken whenever the ring is full.
+     */
+    private void readLines() {
+        try {
+            String nextLine;
+            while (!closed && (nextLine = commandReader.nextLine()) != null) {
+                long sequence = published;
+                for (int attempt = 0; sequence - taken >= ring.length; attempt++) {
+                    if (closed)
+                        return;
+                    backOff(attempt);
+                }
+                Slot slot = ring[(int)(sequence & mask)];
+                slot.line = nextLine;
+                slot.lineNumber = commandReader.getLineNumber();
+                published = sequence + 1;
+            }
+        }
+        catch (IOException | RuntimeException exception) {
+            readFailure = exception;
+        }
+        finally {
+            endOfFile = true;
+        }
+    }
+    
+    /**
+     * Private helper method run by each worker thread; it claims the next line that has not been parsed, waits for the reader to put it in the ring, and parses it.
+     */
+    private void parseLines() {
+        while (!closed) {
+            long sequence = nextToParse.getAndIncrement();
+            for (int attempt = 0; sequence >= published; attempt++) {
+                if (closed || (endOfFile && sequence >= published))
+                    return;
+                backOff(attempt);
+            }
+            Slot slot = ring[(int)(sequence & mask)];
+            slot.command = ParsedCommand.parse(CommandReader.tokenize(slot.line));
+            slot.parsedSequence = sequence;
+        }
+    }
+    
+    /**
+     * Private helper method to wait before a thread checks the ring again: first by spinning, then by yielding, and then by parking for a short time,
+     * so a stage that is briefly ahead does not give up its processor while a stage that is idle for longer does not keep one busy.
+     * @param attempt the number of times the thread has already checked.
+     */
+    private static void backOff(int attempt) {
+        if (attempt < SPIN_TRIES)
+            Thread.onSpinWait();
+        else if (attempt < SPIN_TRIES + YIELD_TRIES)
+            Thread.yield();
+        else
+            LockSupport.parkNanos(PARK_NANOSECONDS);
+    }
+}
\ No newline at end of file
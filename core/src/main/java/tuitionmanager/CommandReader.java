@@ -0,0 +1,182 @@
+package tuitionmanager;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Class that defines the 'Command Reader' abstract data type which streams comma-delimited commands from a character stream.
+ * Characters are read in large blocks into a reusable buffer and each line is split on commas by scanning the buffer directly,
+ * so a command file of any length is processed without regular expressions or per-line String copies.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class CommandReader {
+    
+    private Reader source;
+    private char[] buffer;
+    private int position;  // start of the next unread line in the buffer
+    private int limit;  // number of valid characters in the buffer
+    private int lineStart;  // start and end of the most recently read line, excluding the line terminator
+    private int lineEnd;
+    private int lineNumber;
+    
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int END_OF_STREAM = -1;
+    private static final char DELIMITER = ',';
+    private static final String[] NO_TOKENS = new String[0];
+    
+    /**
+     * Parameterized constructor that creates a command reader which reads lines from the given character stream.
+     * @param source the character stream that the commands are read from.
+     */
+    public CommandReader(Reader source) {
+        this.source = source;
+        buffer = new char[DEFAULT_BUFFER_SIZE];
+        position = 0;
+        limit = 0;
+        lineNumber = 0;
+    }
+    
+    /**
+     * This method reads the next line of the stream and splits it into a command and its data.
+     * @return an array of Strings containing a command and relevant data, or null if the end of the stream has been reached.
+     * @throws IOException if the underlying stream cannot be read.
+     */
+    public String[] nextCommand() throws IOException {
+        if (!advance())
+            return null;
+        return split(buffer, lineStart, lineEnd);
+    }
+    
+    /**
+     * This method reads the next line of the stream without splitting it, e.g. so that it can be split and validated on another thread (see CommandPipeline).
+     * @return the next line without its line terminator, or null if the end of the stream has been reached.
+     * @throws IOException if the underlying stream cannot be read.
+     */
+    public String nextLine() throws IOException {
+        if (!advance())
+            return null;
+        return getLine();
+    }
+    
+    /**
+     * Private helper method to move to the next line of the stream, reading more characters if the buffer holds no complete line.
+     * @return true if there is a next line, false if the end of the stream has been reached.
+     * @throws IOException if the underlying stream cannot be read.
+     */
+    private boolean advance() throws IOException {
+        int scanFrom = position;
+        int newline = indexOfNewline(scanFrom);
+        while (newline == END_OF_STREAM) {
+            scanFrom = limit - position;
+            if (!fill()) {
+                if (position == limit)
+                    return false;
+                newline = limit;  // last line of the stream has no line terminator
+                break;
+            }
+            scanFrom += position;
+            newline = indexOfNewline(scanFrom);
+        }
+        lineStart = position;
+        lineEnd = newline;
+        if (lineEnd > lineStart && buffer[lineEnd - 1] == '\r')
+            lineEnd--;
+        position = Math.min(newline + 1, limit);
+        lineNumber++;
+        return true;
+    }
+    
+    /**
+     * Getter method to return the number of the most recently read line, starting from 1.
+     * @return the line number of the most recently read command.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+    
+    /**
+     * Getter method to return the text of the most recently read line; the String is only created when this method is called.
+     * @return the most recently read line without its line terminator.
+     */
+    public String getLine() {
+        return new String(buffer, lineStart, lineEnd - lineStart);
+    }
+    
+    /**
+     * This method splits a single comma-delimited line into a command and its data.
+     * The result matches String.split(",") on the same line: trailing empty tokens are dropped and an empty line yields a single empty token.
+     * @param line a comma-delimited line.
+     * @return an array of Strings containing a command and relevant data.
+     */
+    public static String[] tokenize(String line) {
+        return split(line.toCharArray(), 0, line.length());
+    }
+    
+    /**
+     * Private helper method to split a range of characters on commas.
+     * @param characters the array holding the line.
+     * @param start the index of the first character of the line.
+     * @param end the index one past the last character of the line.
+     * @return an array of Strings containing a command and relevant data.
+     */
+    private static String[] split(char[] characters, int start, int end) {
+        if (start == end)
+            return new String[] { "" };
+        while (end > start && characters[end - 1] == DELIMITER)
+            end--;
+        if (end == start)
+            return NO_TOKENS;
+        int numberOfTokens = 1;
+        for (int i = start; i < end; i++) {
+            if (characters[i] == DELIMITER)
+                numberOfTokens++;
+        }
+        String[] tokens = new String[numberOfTokens];
+        int tokenStart = start;
+        int tokenIndex = 0;
+        for (int i = start; i < end; i++) {
+            if (characters[i] == DELIMITER) {
+                tokens[tokenIndex++] = new String(characters, tokenStart, i - tokenStart);
+                tokenStart = i + 1;
+            }
+        }
+        tokens[tokenIndex] = new String(characters, tokenStart, end - tokenStart);
+        return tokens;
+    }
+    
+    /**
+     * Private helper method to find the next line terminator in the buffered characters.
+     * @param from the index in the buffer where the search starts.
+     * @return the index of the next '\n' character, or END_OF_STREAM (or -1) if the buffer holds no complete line.
+     */
+    private int indexOfNewline(int from) {
+        for (int i = from; i < limit; i++) {
+            if (buffer[i] == '\n')
+                return i;
+        }
+        return END_OF_STREAM;
+    }
+    
+    /**
+     * Private helper method to read more characters into the buffer, moving the unread part of the buffer to the front and growing the buffer for very long lines.
+     * @return true if more characters were read, false if the end of the stream has been reached.
+     * @throws IOException if the underlying stream cannot be read.
+     */
+    private boolean fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            char[] largerBuffer = new char[buffer.length * 2];
+            System.arraycopy(buffer, 0, largerBuffer, 0, limit);
+            buffer = largerBuffer;
+        }
+        int charactersRead = source.read(buffer, limit, buffer.length - limit);
+        if (charactersRead == END_OF_STREAM)
+            return false;
+        limit += charactersRead;
+        return true;
+    }
+}
\ No newline at end of file
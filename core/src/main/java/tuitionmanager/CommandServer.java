@@ -0,0 +1,390 @@
+package tuitionmanager;
+
+import java.io.Closeable;
+import java.io.FilterReader;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Class that defines the 'Command Server' abstract data type; a server that accepts the comma-delimited commands of the tuition manager over a local TCP or Unix domain socket.
+ * Every connection is a session of its own tuition manager, which writes its messages and reports back to the connection; every session shares one thread-safe roster, one payment ledger, and one journal,
+ * so the commands of all sessions that arrive within the same group commit window are forced to disk together.
+ * Each session runs on its own thread; on a Java runtime with virtual threads every session gets a virtual thread, so thousands of sessions that are mostly waiting for the next command are cheap,
+ * otherwise sessions run on a cached pool of platform threads.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class CommandServer implements Closeable {
+    
+    private final ServerSocketChannel serverChannel;
+    private final SocketAddress localAddress;
+    private final ConcurrentRoster roster;
+    private final PaymentLedger ledger;
+    private final CommandJournal journal;  // null if there is no journal
+    private final TuitionMetrics metrics;  // shared by every session
+    private final ExecutorService sessions;  // runs one session per connection
+    private final Set<SocketChannel> openConnections;  // closed when the server is closed, so that every session ends
+    private final Thread acceptor;
+    private volatile boolean closed;
+    
+    private static final int CONNECTION_BACKLOG = 4096;  // connections that may wait to be accepted, so a burst of clerks connecting at once is not refused
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final long FIRST_ACCEPT_RETRY_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(1);  // doubled after every failed accept in a row
+    private static final long LONGEST_ACCEPT_RETRY_NANOSECONDS = TimeUnit.SECONDS.toNanos(1);
+    private static final String SESSION_FAILED_MESSAGE = "Tuition Manager failed: ";
+    
+    /**
+     * Private constructor used by start(); the server channel is already bound.
+     * @param serverChannel the bound server channel.
+     * @param roster the roster shared by every session.
+     * @param ledger the payment ledger shared by every session.
+     * @param journal the journal shared by every session, or null.
+     * @throws IOException if the address of the server channel cannot be read.
+     */
+    private CommandServer(ServerSocketChannel serverChannel, ConcurrentRoster roster, PaymentLedger ledger, CommandJournal journal) throws IOException {
+        this.serverChannel = serverChannel;
+        localAddress = serverChannel.getLocalAddress();
+        this.roster = roster;
+        this.ledger = ledger;
+        this.journal = journal;
+        metrics = new TuitionMetrics(roster);
+        sessions = newSessionExecutor();
+        openConnections = ConcurrentHashMap.newKeySet();
+        acceptor = new Thread(this::acceptConnections, "command-server-acceptor");
+        acceptor.setDaemon(true);
+    }
+    
+    /**
+     * This method starts a server listening on a local address with a new payment ledger; it returns once the server accepts connections.
+     * @param address an InetSocketAddress to listen on TCP (port 0 picks a free port), or a UnixDomainSocketAddress to listen on a Unix domain socket; an existing socket file is replaced.
+     * @param roster the roster shared by every session.
+     * @param journal the journal every session logs its commands to, or null if there is no journal.
+     * @return the running server.
+     * @throws IOException if the address cannot be bound.
+     */
+    public static CommandServer start(SocketAddress address, ConcurrentRoster roster, CommandJournal journal) throws IOException {
+        return start(address, roster, new PaymentLedger(), journal);
+    }
+    
+    /**
+     * This method starts a server listening on a local address; it returns once the server accepts connections.
+     * @param address an InetSocketAddress to listen on TCP (port 0 picks a free port), or a UnixDomainSocketAddress to listen on a Unix domain socket; an existing socket file is replaced.
+     * @param roster the roster shared by every session.
+     * @param ledger the payment ledger every session records its payments in.
+     * @param journal the journal every session logs its commands to, or null if there is no journal.
+     * @return the running server.
+     * @throws IOException if the address cannot be bound.
+     */
+    public static CommandServer start(SocketAddress address, ConcurrentRoster roster, PaymentLedger ledger, CommandJournal journal) throws IOException {
+        ServerSocketChannel serverChannel;
+        if (address instanceof UnixDomainSocketAddress) {
+            Files.deleteIfExists(((UnixDomainSocketAddress)address).getPath());
+            serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        }
+        else
+            serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.bind(address, CONNECTION_BACKLOG);
+        }
+        catch (IOException exception) {
+            serverChannel.close();
+            throw exception;
+        }
+        CommandServer server = new CommandServer(serverChannel, roster, ledger, journal);
+        server.acceptor.start();
+        return server;
+    }
+    
+    /**
+     * Private helper method to create the executor that runs the sessions: one new virtual thread per session if the Java runtime has virtual threads,
+     * otherwise a cached pool of daemon platform threads. The virtual thread executor is looked up by reflection so the tuition manager still runs on Java 17.
+     * @return the executor.
+     */
+    private static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException exception) {
+            return Executors.newCachedThreadPool(session -> {
+                Thread thread = new Thread(session, "command-server-session");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+    
+    /**
+     * Getter method to return the address the server listens on, e.g. to find the port chosen for port 0.
+     * @return the local address of the server.
+     */
+    public SocketAddress getLocalAddress() {
+        return localAddress;
+    }
+    
+    /**
+     * Getter method to return the metrics that the commands of every session are counted and timed in.
+     * @return the metrics of the server.
+     */
+    public TuitionMetrics getMetrics() {
+        return metrics;
+    }
+    
+    /**
+     * Getter method to return the number of connections that currently have a session.
+     * @return the number of open connections.
+     */
+    public int getOpenConnections() {
+        return openConnections.size();
+    }
+    
+    /**
+     * Private method run by the acceptor thread: it accepts connections until the server is closed and starts a session for each of them.
+     * If accepting fails, e.g. because the process has run out of file descriptors, the thread waits before it tries again, twice as long after every failure in a row,
+     * so it does not keep a processor busy retrying while the sessions that could release descriptors are running.
+     */
+    private void acceptConnections() {
+        long retryNanoseconds = 0;
+        while (!closed) {
+            SocketChannel connection;
+            try {
+                connection = serverChannel.accept();
+            }
+            catch (ClosedChannelException exception) {
+                return;
+            }
+            catch (IOException exception) {
+                retryNanoseconds = (retryNanoseconds == 0) ? FIRST_ACCEPT_RETRY_NANOSECONDS : Math.min(retryNanoseconds * 2, LONGEST_ACCEPT_RETRY_NANOSECONDS);
+                LockSupport.parkNanos(retryNanoseconds);
+                continue;
+            }
+            retryNanoseconds = 0;
+            openConnections.add(connection);
+            if (closed) {
+                closeQuietly(connection);
+                return;
+            }
+            try {
+                sessions.execute(() -> runSession(connection));
+            }
+            catch (RejectedExecutionException exception) {
+                openConnections.remove(connection);
+                closeQuietly(connection);
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Private helper method to run a session: a tuition manager that reads commands from the connection, applies them to the shared roster,
+     * and writes its messages and reports back, until the client sends "Q", sends a malformed line, or closes the connection.
+     * If the session fails for any other reason than the client going away (e.g. the journal cannot be written), the client is sent an error line
+     * and the exception is rethrown, so it reaches the uncaught exception handler of the session thread instead of being hidden.
+     * @param connection the connection of the client.
+     */
+    private void runSession(SocketChannel connection) {
+        SessionOutput commandOutput = new SessionOutput(Channels.newWriter(connection, StandardCharsets.UTF_8));
+        try {
+            Reader commandInput = new SessionInput(Channels.newReader(connection, StandardCharsets.UTF_8));
+            TuitionManager session = new TuitionManager(commandInput, commandOutput, roster);
+            session.setPaymentLedger(ledger);
+            session.setJournal(journal);
+            session.setMetrics(metrics);
+            session.runSession();
+        }
+        catch (RuntimeException exception) {
+            if (commandOutput.hasFailed())
+                return;  // the client closed the connection; there is no one left to report to
+            reportFailure(commandOutput, exception);
+            throw exception;
+        }
+        finally {
+            openConnections.remove(connection);
+            closeQuietly(connection);
+        }
+    }
+    
+    /**
+     * Private helper method to send the client an error line naming the exception that ended its session.
+     * @param commandOutput the writer of the connection.
+     * @param exception the exception that ended the session; if the line cannot be written, the error is added to it as a suppressed exception.
+     */
+    private static void reportFailure(Writer commandOutput, RuntimeException exception) {
+        try {
+            commandOutput.write(SESSION_FAILED_MESSAGE + exception + System.lineSeparator());
+            commandOutput.flush();
+        }
+        catch (IOException writeFailure) {
+            exception.addSuppressed(writeFailure);
+        }
+    }
+    
+    /**
+     * Reader of the commands of a session that is not closed with the session's Scanner when the client sends "Q";
+     * closing the reader would close the connection before the tuition manager's last message is written. The connection is closed when the session ends.
+     */
+    private static class SessionInput extends FilterReader {
+    
+        /**
+         * Parameterized constructor that wraps the reader of a connection.
+         * @param connectionInput the reader of the connection.
+         */
+        SessionInput(Reader connectionInput) {
+            super(connectionInput);
+        }
+    
+        /**
+         * Does nothing; the connection is closed when the session ends.
+         */
+        @Override
+        public void close() {
+        }
+    }
+    
+    /**
+     * Writer of the messages of a session that remembers whether writing to the connection failed,
+     * so a client that went away is told apart from a failure of the tuition manager, which also surfaces as an UncheckedIOException if the journal cannot be written.
+     */
+    private static class SessionOutput extends FilterWriter {
+    
+        private boolean failed;
+    
+        /**
+         * Parameterized constructor that wraps the writer of a connection.
+         * @param connectionOutput the writer of the connection.
+         */
+        SessionOutput(Writer connectionOutput) {
+            super(connectionOutput);
+        }
+    
+        /**
+         * Getter method to return whether writing to the connection has failed.
+         * @return true if a write or flush threw an IOException, false otherwise.
+         */
+        boolean hasFailed() {
+            return failed;
+        }
+    
+        /**
+         * Writes a character to the connection.
+         * @param c the character.
+         * @throws IOException if the connection cannot be written.
+         */
+        @Override
+        public void write(int c) throws IOException {
+            try {
+                super.write(c);
+            }
+            catch (IOException exception) {
+                failed = true;
+                throw exception;
+            }
+        }
+    
+        /**
+         * Writes part of an array of characters to the connection.
+         * @param characters the characters.
+         * @param offset the index of the first character to write.
+         * @param length the number of characters to write.
+         * @throws IOException if the connection cannot be written.
+         */
+        @Override
+        public void write(char[] characters, int offset, int length) throws IOException {
+            try {
+                super.write(characters, offset, length);
+            }
+            catch (IOException exception) {
+                failed = true;
+                throw exception;
+            }
+        }
+    
+        /**
+         * Writes part of a String to the connection.
+         * @param text the String.
+         * @param offset the index of the first character to write.
+         * @param length the number of characters to write.
+         * @throws IOException if the connection cannot be written.
+         */
+        @Override
+        public void write(String text, int offset, int length) throws IOException {
+            try {
+                super.write(text, offset, length);
+            }
+            catch (IOException exception) {
+                failed = true;
+                throw exception;
+            }
+        }
+    
+        /**
+         * Flushes the buffered characters to the connection.
+         * @throws IOException if the connection cannot be written.
+         */
+        @Override
+        public void flush() throws IOException {
+            try {
+                super.flush();
+            }
+            catch (IOException exception) {
+                failed = true;
+                throw exception;
+            }
+        }
+    }
+    
+    /**
+     * Private helper method to close a connection, ignoring errors.
+     * @param connection the connection to close.
+     */
+    private static void closeQuietly(SocketChannel connection) {
+        try {
+            connection.close();
+        }
+        catch (IOException exception) {
+            // the connection is closed either way
+        }
+    }
+    
+    /**
+     * This method stops accepting connections, closes every open connection, and waits for the sessions to end.
+     * The journal is not closed; every command a session acknowledged has already been forced to disk.
+     * @throws IOException if the server channel cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed)
+            return;
+        closed = true;
+        LockSupport.unpark(acceptor);
+        serverChannel.close();
+        if (localAddress instanceof UnixDomainSocketAddress)
+            Files.deleteIfExists(((UnixDomainSocketAddress)localAddress).getPath());
+        for (SocketChannel connection : openConnections)
+            closeQuietly(connection);
+        sessions.shutdown();
+        try {
+            acceptor.join();
+            sessions.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
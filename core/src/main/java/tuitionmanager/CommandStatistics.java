@@ -0,0 +1,175 @@
+package tuitionmanager;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class that defines the statistics of one command of the tuition manager: how often it was executed, how often it was rejected or failed validation,
+ * and a histogram of how long it took to execute.
+ * Executions can be recorded by many sessions at once without locking.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class CommandStatistics implements CommandStatisticsMXBean {
+    
+    private final String command;
+    private final LongAdder errors;
+    private final LongAdder invalidCommands;
+    private final LatencyHistogram latencies;  // also counts the executions
+    
+    private static final double MEDIAN = 50;
+    private static final double PERCENTILE_90 = 90;
+    private static final double PERCENTILE_99 = 99;
+    private static final double PERCENTILE_999 = 99.9;
+    private static final int NANOSECONDS_PER_MICROSECOND = 1000;
+    private static final int TENTHS_OF_A_MICROSECOND = 100;  // nanoseconds in a tenth of a microsecond
+    
+    /**
+     * Parameterized constructor that creates empty statistics for a command.
+     * @param command the command, e.g. "AR".
+     */
+    CommandStatistics(String command) {
+        this.command = command;
+        errors = new LongAdder();
+        invalidCommands = new LongAdder();
+        latencies = new LatencyHistogram();
+    }
+    
+    /**
+     * This method records one execution of the command.
+     * @param nanoseconds how long the command took to execute.
+     * @param carriedOut true if the command was carried out, false if it was rejected or failed.
+     * @param invalid true if the command failed validation.
+     */
+    void record(long nanoseconds, boolean carriedOut, boolean invalid) {
+        latencies.record(nanoseconds);
+        if (!carriedOut)
+            errors.increment();
+        if (invalid)
+            invalidCommands.increment();
+    }
+    
+    /**
+     * Getter method to return the command these statistics are for.
+     * @return the command.
+     */
+    public String getCommand() {
+        return command;
+    }
+    
+    /**
+     * Getter method to return the histogram of the latencies of the command.
+     * @return the histogram; latencies are in nanoseconds.
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+    
+    /**
+     * Getter method to return the number of times the command was executed.
+     * @return the number of commands.
+     */
+    @Override
+    public long getCount() {
+        return latencies.getCount();
+    }
+    
+    /**
+     * Getter method to return the number of times the command was rejected or failed, for any reason.
+     * @return the number of commands that were not carried out.
+     */
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+    
+    /**
+     * Getter method to return the number of times the command failed validation.
+     * @return the number of invalid commands; these are also counted as errors.
+     */
+    @Override
+    public long getInvalidCount() {
+        return invalidCommands.sum();
+    }
+    
+    /**
+     * Getter method to return the mean time taken to execute the command.
+     * @return the mean latency in nanoseconds.
+     */
+    @Override
+    public long getMeanLatency() {
+        return latencies.getMean();
+    }
+    
+    /**
+     * Getter method to return the median time taken to execute the command.
+     * @return the 50th percentile latency in nanoseconds.
+     */
+    @Override
+    public long getLatency50thPercentile() {
+        return latencies.getValueAtPercentile(MEDIAN);
+    }
+    
+    /**
+     * Getter method to return the time that 90% of the executions of the command took at most.
+     * @return the 90th percentile latency in nanoseconds.
+     */
+    @Override
+    public long getLatency90thPercentile() {
+        return latencies.getValueAtPercentile(PERCENTILE_90);
+    }
+    
+    /**
+     * Getter method to return the time that 99% of the executions of the command took at most.
+     * @return the 99th percentile latency in nanoseconds.
+     */
+    @Override
+    public long getLatency99thPercentile() {
+        return latencies.getValueAtPercentile(PERCENTILE_99);
+    }
+    
+    /**
+     * Getter method to return the time that 99.9% of the executions of the command took at most.
+     * @return the 99.9th percentile latency in nanoseconds.
+     */
+    @Override
+    public long getLatency999thPercentile() {
+        return latencies.getValueAtPercentile(PERCENTILE_999);
+    }
+    
+    /**
+     * Getter method to return the longest time taken to execute the command.
+     * @return the maximum latency in nanoseconds.
+     */
+    @Override
+    public long getMaximumLatency() {
+        return latencies.getMaximum();
+    }
+    
+    /**
+     * This method empties the statistics.
+     */
+    void reset() {
+        latencies.reset();
+        errors.reset();
+        invalidCommands.reset();
+    }
+    
+    /**
+     * This method prints out the statistics on one line, with latencies in microseconds.
+     * @param output the output sink that the line is written to.
+     */
+    void print(OutputSink output) {
+        output.println(command + ":" + getCount() + " commands:" + getErrorCount() + " errors:" + getInvalidCount() + " invalid:mean "
+                + microseconds(getMeanLatency()) + ":p50 " + microseconds(getLatency50thPercentile()) + ":p90 " + microseconds(getLatency90thPercentile())
+                + ":p99 " + microseconds(getLatency99thPercentile()) + ":p99.9 " + microseconds(getLatency999thPercentile())
+                + ":max " + microseconds(getMaximumLatency()));
+    }
+    
+    /**
+     * Private helper method to format a latency in microseconds with one decimal place.
+     * @param nanoseconds the latency in nanoseconds.
+     * @return the latency, e.g. "12.3 us".
+     */
+    private static String microseconds(long nanoseconds) {
+        return nanoseconds / NANOSECONDS_PER_MICROSECOND + "." + nanoseconds % NANOSECONDS_PER_MICROSECOND / TENTHS_OF_A_MICROSECOND + " us";
+    }
+}
\ No newline at end of file
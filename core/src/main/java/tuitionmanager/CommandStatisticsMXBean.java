@@ -0,0 +1,63 @@
+package tuitionmanager;
+
+/**
+ * Interface that defines the attributes of the statistics of one command that are published over JMX, as "tuitionmanager:type=Command,name=" followed by the command.
+ * Latencies are in nanoseconds.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public interface CommandStatisticsMXBean {
+    
+    /**
+     * Getter method to return the number of times the command was executed.
+     * @return the number of commands.
+     */
+    long getCount();
+    
+    /**
+     * Getter method to return the number of times the command was rejected or failed, for any reason.
+     * @return the number of commands that were not carried out.
+     */
+    long getErrorCount();
+    
+    /**
+     * Getter method to return the number of times the command failed validation, e.g. a missing argument or an invalid major, date, or amount.
+     * @return the number of invalid commands; these are also counted as errors.
+     */
+    long getInvalidCount();
+    
+    /**
+     * Getter method to return the mean time taken to execute the command.
+     * @return the mean latency.
+     */
+    long getMeanLatency();
+    
+    /**
+     * Getter method to return the median time taken to execute the command.
+     * @return the 50th percentile latency.
+     */
+    long getLatency50thPercentile();
+    
+    /**
+     * Getter method to return the time that 90% of the executions of the command took at most.
+     * @return the 90th percentile latency.
+     */
+    long getLatency90thPercentile();
+    
+    /**
+     * Getter method to return the time that 99% of the executions of the command took at most.
+     * @return the 99th percentile latency.
+     */
+    long getLatency99thPercentile();
+    
+    /**
+     * Getter method to return the time that 99.9% of the executions of the command took at most.
+     * @return the 99.9th percentile latency.
+     */
+    long getLatency999thPercentile();
+    
+    /**
+     * Getter method to return the longest time taken to execute the command.
+     * @return the maximum latency.
+     */
+    long getMaximumLatency();
+}
\ No newline at end of file
@@ -0,0 +1,391 @@
+package tuitionmanager;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Class that defines the 'Concurrent Roster' abstract data type; a thread-safe roster that wraps a Roster or a ColumnarRoster.
+ * Operations that change which students are in the roster, or that read or recalculate every student (add, remove, calculateTuition, and the reports), hold a write lock;
+ * a report is rendered into a buffer under the lock and written to its output after the lock is released, so a slow output does not hold up the roster.
+ * Operations on a single student (payments, financial aid, and study abroad status) hold the read lock together with one of a fixed set of striped locks chosen by the hash of the student's profile,
+ * so operations on different students proceed in parallel while two operations on the same student are serialized; this keeps the overpayment and "awarded once" checks correct under contention.
+ * This relies on the per-student operations of the wrapped roster only changing the state of that student (and clearing a cached report), which is true of Roster and ColumnarRoster.
+ * The wrapped roster must not be used directly once it is wrapped.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class ConcurrentRoster implements StudentRoster {
+    
+    private final StudentRoster roster;
+    private final ReadWriteLock structureLock;  // the write lock is held while students are added or removed or every student is read
+    private final ReentrantLock[] stripes;  // the striped locks that serialize operations on the same student
+    
+    private static final int MINIMUM_STRIPES = 16;
+    private static final int STRIPES_PER_PROCESSOR = 4;
+    
+    /**
+     * Parameterized constructor that wraps a roster, using four striped locks per available processor (at least 16).
+     * @param roster the roster to be made thread-safe.
+     */
+    public ConcurrentRoster(StudentRoster roster) {
+        this(roster, Math.max(MINIMUM_STRIPES, STRIPES_PER_PROCESSOR * Runtime.getRuntime().availableProcessors()));
+    }
+    
+    /**
+     * Parameterized constructor that wraps a roster using the given number of striped locks.
+     * @param roster the roster to be made thread-safe.
+     * @param numberOfStripes the number of striped locks; rounded up to a power of 2.
+     */
+    public ConcurrentRoster(StudentRoster roster, int numberOfStripes) {
+        if (roster == null)
+            throw new IllegalArgumentException("roster is null");
+        if (numberOfStripes < 1)
+            throw new IllegalArgumentException("Illegal number of stripes: " + numberOfStripes);
+        this.roster = roster;
+        structureLock = new ReentrantReadWriteLock();
+        int stripeCount = Integer.highestOneBit(numberOfStripes);
+        if (stripeCount < numberOfStripes)
+            stripeCount *= 2;
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++)
+            stripes[i] = new ReentrantLock();
+    }
+    
+    /**
+     * Private helper method to choose the striped lock of a student from the hash of its profile, without creating the profile.
+     * @param name the name of the student.
+     * @param major the major of the student.
+     * @return the striped lock.
+     */
+    private ReentrantLock stripeFor(String name, Major major) {
+        int hash = Profile.hashCode(name, major);
+        hash ^= (hash >>> 16);
+        return stripes[hash & (stripes.length - 1)];
+    }
+    
+    /**
+     * This method runs an operation while holding the write lock, so no other operation on the roster runs at the same time.
+     * It is meant for compound operations, e.g. adding a student and logging the command that added it, that must not interleave with other operations.
+     * @param <T> the type of the result.
+     * @param operation the operation to run; it may call any method of this roster.
+     * @return the result of the operation.
+     */
+    public <T> T callExclusively(Supplier<T> operation) {
+        structureLock.writeLock().lock();
+        try {
+            return operation.get();
+        }
+        finally {
+            structureLock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * This method runs an operation while holding the read lock and the striped lock of a student, so no other operation on the same student, and no add, remove, or report, runs at the same time.
+     * It is meant for compound operations on one student, e.g. applying a payment and logging the command that applied it.
+     * @param <T> the type of the result.
+     * @param profile the profile of the student.
+     * @param operation the operation to run; it may only call contains(), processPayment(), setFinancialAid(), and setStudyAbroadToTrue() for the same student.
+     * @return the result of the operation.
+     */
+    public <T> T callForStudent(Profile profile, Supplier<T> operation) {
+        return callForStudent(profile.getName(), profile.getMajor(), operation);
+    }
+    
+    /**
+     * This method runs an operation for the student with a name and major as callForStudent(Profile, Supplier) does, without creating a profile to choose the lock.
+     * @param <T> the type of the result.
+     * @param name the name of the student.
+     * @param major the major of the student.
+     * @param operation the operation to run; it may only call the operations on one student (contains(), applyPayment(), awardAid(), setStudyAbroad(),
+     * and the methods they stand in for) for the same student.
+     * @return the result of the operation.
+     */
+    public <T> T callForStudent(String name, Major major, Supplier<T> operation) {
+        ReentrantLock stripe = stripeFor(name, major);
+        structureLock.readLock().lock();
+        try {
+            stripe.lock();
+            try {
+                return operation.get();
+            }
+            finally {
+                stripe.unlock();
+            }
+        }
+        finally {
+            structureLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * This method checks whether a student with the same profile (name and major) is in the roster.
+     * @param student the student that the application wants to search for.
+     * @return true if the student is in the roster, false otherwise.
+     */
+    @Override
+    public boolean contains(Student student) {
+        return contains(student.getProfile().getName(), student.getProfile().getMajor());
+    }
+    
+    /**
+     * This method checks whether a student with a name and major is in the roster.
+     * @param name the name of the student.
+     * @param major the major of the student.
+     * @return true if the student is in the roster, false otherwise.
+     */
+    @Override
+    public boolean contains(String name, Major major) {
+        structureLock.readLock().lock();
+        try {
+            return roster.contains(name, major);
+        }
+        finally {
+            structureLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Getter method to return the number of students in the roster.
+     * @return the number of students in the roster.
+     */
+    @Override
+    public int getSize() {
+        structureLock.readLock().lock();
+        try {
+            return roster.getSize();
+        }
+        finally {
+            structureLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Getter method to return the number of students the roster can hold before it has to grow.
+     * @return the capacity of the roster.
+     */
+    @Override
+    public int getCapacity() {
+        structureLock.readLock().lock();
+        try {
+            return roster.getCapacity();
+        }
+        finally {
+            structureLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Getter method to return the student at a position in the roster.
+     * @param position the position of the student, from 0 to getSize() - 1.
+     * @return the student at that position.
+     */
+    @Override
+    public Student getStudent(int position) {
+        return callExclusively(() -> roster.getStudent(position));
+    }
+    
+    /**
+     * This method increases the capacity of the roster, if necessary, so that it can hold at least the given number of students without growing.
+     * @param minimumCapacity the number of students the roster should be able to hold.
+     */
+    @Override
+    public void ensureCapacity(int minimumCapacity) {
+        callExclusively(() -> {
+            roster.ensureCapacity(minimumCapacity);
+            return null;
+        });
+    }
+    
+    /**
+     * This method adds a student to the roster if the student is not already in it; the check and the insertion are atomic.
+     * @param student the student to be added to the roster.
+     * @return true if the student was added successfully, false otherwise.
+     */
+    @Override
+    public boolean add(Student student) {
+        return callExclusively(() -> roster.add(student));
+    }
+    
+    /**
+     * This method removes a student from the roster if the student is found within it.
+     * @param student the student to be removed from the roster.
+     * @return true if the student was removed successfully, false otherwise.
+     */
+    @Override
+    public boolean remove(Student student) {
+        return remove(student.getProfile().getName(), student.getProfile().getMajor());
+    }
+    
+    /**
+     * This method removes the student with a name and major from the roster if the student is found within it.
+     * @param name the name of the student to be removed.
+     * @param major the major of the student to be removed.
+     * @return true if the student was removed successfully, false otherwise.
+     */
+    @Override
+    public boolean remove(String name, Major major) {
+        return callExclusively(() -> roster.remove(name, major));
+    }
+    
+    /**
+     * Setter method to set the number of threads that calculateTuition() splits the roster across.
+     * @param parallelism the number of threads to use; 1 calculates tuition serially on the calling thread.
+     */
+    @Override
+    public void setParallelism(int parallelism) {
+        callExclusively(() -> {
+            roster.setParallelism(parallelism);
+            return null;
+        });
+    }
+    
+    /**
+     * This method calculates the tuition for every student in the roster whose tuition is dirty, while no other operation runs.
+     * @return the number of students whose tuition was recalculated.
+     */
+    @Override
+    public int calculateTuition() {
+        return callExclusively(roster::calculateTuition);
+    }
+    
+    /**
+     * This method processes a student's tuition payment; the overpayment check and the update are atomic for the student.
+     * @param studentToUpdate the student that the application wants to update the information for.
+     * @param paymentAmount the amount of money in cents that the student is paying towards tuition.
+     * @param dateOfPayment the date that the student is making a payment on.
+     * @param output the output sink that error messages are written to.
+     * @return true if the payment was successfully processed, false otherwise.
+     */
+    @Override
+    public boolean processPayment(Student studentToUpdate, long paymentAmount, Date dateOfPayment, OutputSink output) {
+        Profile profile = studentToUpdate.getProfile();
+        return applyPayment(profile.getName(), profile.getMajor(), paymentAmount, dateOfPayment, output);
+    }
+    
+    /**
+     * This method applies a tuition payment to the student with a name and major; the overpayment check and the update are atomic for the student.
+     * @param name the name of the student who is paying.
+     * @param major the major of the student who is paying.
+     * @param paymentAmount the amount of money in cents that the student is paying towards tuition.
+     * @param dateOfPayment the date that the student is making a payment on.
+     * @param output the output sink that error messages are written to.
+     * @return true if the payment was successfully processed, false otherwise.
+     */
+    @Override
+    public boolean applyPayment(String name, Major major, long paymentAmount, Date dateOfPayment, OutputSink output) {
+        return callForStudent(name, major, () -> roster.applyPayment(name, major, paymentAmount, dateOfPayment, output));
+    }
+    
+    /**
+     * This method sets the study abroad status of an international student atomically for the student.
+     * @param internationalStudent the international student whose study abroad status we want to set.
+     * @param studyAbroadStatus boolean value (true/false) that dictates whether or not an international student is studying abroad.
+     * @param output the output sink that error messages are written to.
+     * @return true if international student's study abroad status was changed successfully, false otherwise.
+     */
+    @Override
+    public boolean setStudyAbroadToTrue(International internationalStudent, boolean studyAbroadStatus, OutputSink output) {
+        Profile profile = internationalStudent.getProfile();
+        return setStudyAbroad(profile.getName(), profile.getMajor(), studyAbroadStatus, output);
+    }
+    
+    /**
+     * This method sets the study abroad status of the international student with a name and major atomically for the student.
+     * @param name the name of the international student.
+     * @param major the major of the international student.
+     * @param studyAbroadStatus boolean value (true/false) that dictates whether or not the student is studying abroad.
+     * @param output the output sink that error messages are written to.
+     * @return true if the study abroad status was changed successfully, false otherwise.
+     */
+    @Override
+    public boolean setStudyAbroad(String name, Major major, boolean studyAbroadStatus, OutputSink output) {
+        return callForStudent(name, major, () -> roster.setStudyAbroad(name, major, studyAbroadStatus, output));
+    }
+    
+    /**
+     * This method sets the financial aid amount for a resident student; the "awarded once" check and the update are atomic for the student.
+     * @param residentStudent an instance of a 'Resident' student whose financial aid amount we are updating.
+     * @param financialAidAmount the amount of financial aid in cents to be set.
+     * @param output the output sink that error messages are written to.
+     * @return true if resident student's financial aid amount was successfully changed, false otherwise.
+     */
+    @Override
+    public boolean setFinancialAid(Resident residentStudent, long financialAidAmount, OutputSink output) {
+        Profile profile = residentStudent.getProfile();
+        return awardAid(profile.getName(), profile.getMajor(), financialAidAmount, output);
+    }
+    
+    /**
+     * This method awards financial aid to the resident student with a name and major; the "awarded once" check and the update are atomic for the student.
+     * @param name the name of the resident student.
+     * @param major the major of the resident student.
+     * @param financialAidAmount the amount of financial aid in cents to be awarded.
+     * @param output the output sink that error messages are written to.
+     * @return true if the financial aid was awarded successfully, false otherwise.
+     */
+    @Override
+    public boolean awardAid(String name, Major major, long financialAidAmount, OutputSink output) {
+        return callForStudent(name, major, () -> roster.awardAid(name, major, financialAidAmount, output));
+    }
+    
+    /**
+     * Getter method to return the totals of the students in the roster by major, student type, and state.
+     * Only the read lock is held, so finance can poll the totals while payments are applied; every payment, financial aid award, and study abroad change is applied to the totals at once.
+     * @return a copy of the aggregates.
+     */
+    @Override
+    public RosterAggregates getAggregates() {
+        structureLock.readLock().lock();
+        try {
+            return roster.getAggregates();
+        }
+        finally {
+            structureLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Print out the list of students in the roster. The report is rendered while no other operation runs, and written to the output once the lock is released.
+     * @param output the output sink that the list is written to.
+     */
+    @Override
+    public void print(OutputSink output) {
+        printOutsideLock(roster::print, output);
+    }
+    
+    /**
+     * Print out the list of students who made payments, sorted by payment date. The report is rendered while no other operation runs, and written to the output once the lock is released.
+     * @param output the output sink that the list is written to.
+     */
+    @Override
+    public void printByPaymentDate(OutputSink output) {
+        printOutsideLock(roster::printByPaymentDate, output);
+    }
+    
+    /**
+     * Print out the list of students sorted by name. The report is rendered while no other operation runs, and written to the output once the lock is released.
+     * @param output the output sink that the list is written to.
+     */
+    @Override
+    public void printByStudentName(OutputSink output) {
+        printOutsideLock(roster::printByStudentName, output);
+    }
+    
+    /**
+     * Private helper method to print a report of the wrapped roster: the report is rendered into a buffer while holding the write lock, and the buffer is written to the output after the lock is released.
+     * The output may be the connection of a client that reads slowly or not at all, and writing to it must not keep every other operation on the roster waiting.
+     * @param report the report of the wrapped roster, printed to the output sink it is given.
+     * @param output the output sink that the report is written to.
+     */
+    private void printOutsideLock(Consumer<OutputSink> report, OutputSink output) {
+        StringBuilder renderedReport = new StringBuilder();
+        callExclusively(() -> {
+            report.accept(new OutputSink(renderedReport));
+            return null;
+        });
+        output.print(renderedReport);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,359 @@
+package tuitionmanager;
+
+/**
+ * Class that defines the Date abstract data type with year, month, and day.
+ * The year, month, and day are packed into a single int as (year << 16) | (month << 8) | day, so two dates are compared with one int comparison
+ * and code that stores many dates (e.g. payment records) can keep the packed value instead of a Date object.
+ * Dates are validated against today's date from a DateClock, which can be replaced to make validation deterministic.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class Date implements Comparable<Date> {
+    
+    private final int packedDate;
+    
+    /* Returned by parse() when a String is not in "mm/dd/yyyy" format; no date packs to this value */
+    public static final int INVALID_FORMAT = Integer.MIN_VALUE;
+    
+    private static final int JAN = 1;
+    private static final int FEB = 2;
+//  private static final int MAR = 3;
+    private static final int APR = 4;
+//  private static final int MAY = 5;
+    private static final int JUN = 6;
+//  private static final int JUL = 7;
+//  private static final int AUG = 8;
+    private static final int SEP = 9;
+//  private static final int OCT = 10;
+    private static final int NOV = 11;
+    private static final int DEC = 12;
+    
+    private static final int QUADRENNIAL = 4;
+    private static final int CENTENNIAL = 100;
+    private static final int QUARTERCENTENNIAL = 400;
+    private static final int CURRENT_YEAR = 2021;
+    
+    private static final int MINIMUM_DAY_NUMBER = 1;
+    private static final int DAYS_IN_MONTH_1 = 30;  // For April, June, September, and November
+    private static final int DAYS_IN_MONTH_2 = 31;  // For all other months besides February and the ones listed above
+//  private static final int DAYS_IN_NON_LEAP_YEAR = 365;
+//  private static final int DAYS_IN_LEAP_YEAR = 366;
+    private static final int NON_LEAP_YEAR_FEBRUARY_DAYS = 28;
+    private static final int LEAP_YEAR_FEBRUARY_DAYS = 29;
+    
+    private static final int YEAR_SHIFT = 16;
+    private static final int MONTH_SHIFT = 8;
+    private static final int FIELD_MASK = 0xFF;  // months and days are kept in 8 bits each
+    private static final int MAXIMUM_FIELD = 0xFF;
+    private static final int MAXIMUM_YEAR = Short.MAX_VALUE;
+    private static final int MINIMUM_YEAR = -Short.MAX_VALUE;  // keeps every packed date above INVALID_FORMAT
+    private static final char DATE_DELIMITER = '/';
+    private static final int NUMBER_OF_FIELDS = 3;
+    private static final int DECIMAL_RADIX = 10;
+    
+    private static volatile DateClock clock = DateClock.systemDefault();
+    
+    /**
+     * This is a parameterized constructor that takes a String in the form of "mm/dd/yyyy" and creates an instance of Date.
+     * @param date a date in the format: "mm/dd/yyyy".
+     * @throws NumberFormatException if the String is not in "mm/dd/yyyy" format.
+     */
+    public Date(String date) {
+        int parsedDate = parse(date, 0, date.length());
+        if (parsedDate == INVALID_FORMAT)
+            throw new NumberFormatException("Not a date in mm/dd/yyyy format: \"" + date + "\"");
+        packedDate = parsedDate;
+    }
+    
+    /**
+     * Private constructor that creates an instance of Date from a packed date.
+     * @param packedDate the date packed as (year << 16) | (month << 8) | day.
+     */
+    private Date(int packedDate) {
+        this.packedDate = packedDate;
+    }
+    
+    /**
+     * This method creates an instance of Date from a date packed by parse() or toPackedDate().
+     * @param packedDate the date packed as (year << 16) | (month << 8) | day.
+     * @return the Date instance.
+     */
+    public static Date fromPackedDate(int packedDate) {
+        return new Date(packedDate);
+    }
+    
+    /**
+     * This method parses a date in "mm/dd/yyyy" format from a range of characters without creating any objects.
+     * Each field may have a leading sign; months and days outside 0-255 and years outside +/-32767 are clamped, which leaves them invalid.
+     * @param text the characters holding the date.
+     * @param start the index of the first character of the date.
+     * @param end the index one past the last character of the date.
+     * @return the date packed as (year << 16) | (month << 8) | day, or INVALID_FORMAT if the characters are not in "mm/dd/yyyy" format.
+     */
+    public static int parse(CharSequence text, int start, int end) {
+        int month = 0, day = 0, year = 0;
+        int fieldStart = start;
+        for (int field = 0; field < NUMBER_OF_FIELDS; field++) {
+            int fieldEnd = fieldStart;
+            while (fieldEnd < end && text.charAt(fieldEnd) != DATE_DELIMITER)
+                fieldEnd++;
+            if (field < NUMBER_OF_FIELDS - 1 && fieldEnd == end)
+                return INVALID_FORMAT;
+            if (field == NUMBER_OF_FIELDS - 1 && fieldEnd != end)
+                return INVALID_FORMAT;
+            long value = parseField(text, fieldStart, fieldEnd);
+            if (value == Long.MIN_VALUE)
+                return INVALID_FORMAT;
+            if (field == 0)
+                month = (int)Math.max(0, Math.min(MAXIMUM_FIELD, value));
+            else if (field == 1)
+                day = (int)Math.max(0, Math.min(MAXIMUM_FIELD, value));
+            else
+                year = (int)Math.max(MINIMUM_YEAR, Math.min(MAXIMUM_YEAR, value));
+            fieldStart = fieldEnd + 1;
+        }
+        return pack(year, month, day);
+    }
+    
+    /**
+     * Private helper method to parse one optionally signed decimal field of a date.
+     * @param text the characters holding the date.
+     * @param start the index of the first character of the field.
+     * @param end the index one past the last character of the field.
+     * @return the value of the field, saturated at +/-Integer.MAX_VALUE, or Long.MIN_VALUE if the field is empty or not a number.
+     */
+    private static long parseField(CharSequence text, int start, int end) {
+        boolean negative = false;
+        if (start < end && (text.charAt(start) == '-' || text.charAt(start) == '+')) {
+            negative = text.charAt(start) == '-';
+            start++;
+        }
+        if (start == end)
+            return Long.MIN_VALUE;
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9)
+                return Long.MIN_VALUE;
+            value = Math.min(Integer.MAX_VALUE, value * DECIMAL_RADIX + digit);
+        }
+        return negative ? -value : value;
+    }
+    
+    /**
+     * Private helper method to pack a year, month, and day into a single int that orders dates chronologically.
+     * @param year the year.
+     * @param month the month, from 0 to 255.
+     * @param day the day, from 0 to 255.
+     * @return the date packed as (year << 16) | (month << 8) | day.
+     */
+    static int pack(int year, int month, int day) {
+        return (year << YEAR_SHIFT) | (month << MONTH_SHIFT) | day;
+    }
+    
+    /**
+     * Getter method to return the year of a packed date.
+     * @param packedDate the date packed as (year << 16) | (month << 8) | day.
+     * @return the year.
+     */
+    public static int yearOf(int packedDate) {
+        return packedDate >> YEAR_SHIFT;
+    }
+    
+    /**
+     * Getter method to return the month of a packed date.
+     * @param packedDate the date packed as (year << 16) | (month << 8) | day.
+     * @return the month.
+     */
+    public static int monthOf(int packedDate) {
+        return (packedDate >> MONTH_SHIFT) & FIELD_MASK;
+    }
+    
+    /**
+     * Getter method to return the day of a packed date.
+     * @param packedDate the date packed as (year << 16) | (month << 8) | day.
+     * @return the day.
+     */
+    public static int dayOf(int packedDate) {
+        return packedDate & FIELD_MASK;
+    }
+    
+    /**
+     * Getter method to return the date packed into a single int.
+     * @return the date packed as (year << 16) | (month << 8) | day.
+     */
+    public int toPackedDate() {
+        return packedDate;
+    }
+    
+    /**
+     * Setter method to replace the clock that supplies today's date when dates are validated.
+     * @param dateClock the new clock.
+     */
+    public static void setClock(DateClock dateClock) {
+        if (dateClock == null)
+            throw new IllegalArgumentException("dateClock is null");
+        clock = dateClock;
+    }
+    
+    /**
+     * Getter method to return the clock that supplies today's date when dates are validated.
+     * @return the clock.
+     */
+    public static DateClock getClock() {
+        return clock;
+    }
+    
+    /**
+     * This method checks whether an instance of Date is a valid date or not.
+     * A Date is considered valid if it corresponds to a valid calendar date, is not before 2021, and is not a future date.
+     * @return true if Date is a valid date, false otherwise.
+     */
+    public boolean isValid() {
+        return isValid(packedDate, clock.today());
+    }
+    
+    /**
+     * This method checks whether a packed date is a valid date or not, without creating a Date instance.
+     * A date is considered valid if it corresponds to a valid calendar date, is not before 2021, and is not a future date.
+     * @param packedDate the date packed as (year << 16) | (month << 8) | day.
+     * @return true if the date is a valid date, false otherwise.
+     */
+    public static boolean isValid(int packedDate) {
+        return isValid(packedDate, clock.today());
+    }
+    
+    /**
+     * This method checks a batch of packed dates, such as the payment dates of a payment file, reading today's date only once.
+     * @param packedDates the dates packed as (year << 16) | (month << 8) | day.
+     * @param valid the array that receives whether the date at the same position is valid; it must be at least as long as packedDates.
+     * @return the number of valid dates.
+     */
+    public static int validateAll(int[] packedDates, boolean[] valid) {
+        if (valid.length < packedDates.length)
+            throw new IllegalArgumentException("valid has " + valid.length + " elements, expected at least " + packedDates.length);
+        int today = clock.today();
+        int numberOfValidDates = 0;
+        for (int i = 0; i < packedDates.length; i++) {
+            valid[i] = isValid(packedDates[i], today);
+            if (valid[i])
+                numberOfValidDates++;
+        }
+        return numberOfValidDates;
+    }
+    
+    /**
+     * Private helper method that checks whether a packed date is a valid date or not, given today's date.
+     * Since packed dates order chronologically, a date is in the future exactly when its packed value is greater than today's.
+     * @param packedDate the date packed as (year << 16) | (month << 8) | day.
+     * @param today today's date packed as (year << 16) | (month << 8) | day.
+     * @return true if the date is a valid date, false otherwise.
+     */
+    private static boolean isValid(int packedDate, int today) {
+        if (packedDate == INVALID_FORMAT)
+            return false;
+        int year = yearOf(packedDate), month = monthOf(packedDate), day = dayOf(packedDate);
+        if (month == SEP && day == DEC && year == CURRENT_YEAR)
+            return true;
+        if (month < JAN || month > DEC || year < CURRENT_YEAR || day < MINIMUM_DAY_NUMBER || day > DAYS_IN_MONTH_2)
+            return false;
+        if (month == APR || month == JUN || month == SEP || month == NOV) {
+            if (day > DAYS_IN_MONTH_1)
+                return false;
+        }
+        if (!(isValidFebruary(year, month, day)))
+            return false;
+        if (packedDate > today)
+            return false;
+        return true;
+    }
+    
+    /**
+     * This is a private helper method that checks if a date with the month as February is valid or not.
+     * @param year the year of the date.
+     * @param month the month of the date.
+     * @param day the day of the date.
+     * @return true if the date is a valid February date, false otherwise.
+     */
+    private static boolean isValidFebruary(int year, int month, int day) {
+        if (month == FEB) {
+            if (isLeapYear(year)) {
+                if (day > LEAP_YEAR_FEBRUARY_DAYS)
+                    return false;
+            }
+            else {
+                if (day > NON_LEAP_YEAR_FEBRUARY_DAYS)
+                    return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * This method checks whether a given year is a leap year or not.
+     * @param year the year that is going to be checked.
+     * @return true if specified year is a leap year, false otherwise.
+     */
+    private static boolean isLeapYear(int year) {
+        if (year % QUADRENNIAL == 0) {
+            if (year % CENTENNIAL == 0) {
+                if (year % QUARTERCENTENNIAL == 0) {
+                    return true;
+                }
+                return false;
+            }
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * This method overrides the compareTo() method and compares 2 Date instances with a single comparison of their packed values.
+     * @return a negative integer, zero, or a positive integer as this date is before, the same as, or after the given date; return 0 if date is null.
+     */
+    @Override
+    public int compareTo(Date date) {
+        if (date != null)
+            return Integer.compare(packedDate, date.packedDate);
+        return 0;
+    }
+    
+    /**
+     * Determines if two 'Date' instances are equal to each other or not by comparing their packed values.
+     * @param obj 'Date' object to be compared with.
+     * @return true if the 'Date' instances represent the same date, false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Date && packedDate == ((Date)obj).packedDate;
+    }
+    
+    /**
+     * Computes a hash code for a 'Date' instance, which is consistent with equals().
+     * @return the hash code of the 'Date' instance.
+     */
+    @Override
+    public int hashCode() {
+        return packedDate;
+    }
+    
+    /**
+     * This method converts a Date object to a textual representation (string) with "mm/dd/yyyy" format.
+     * @return the Date object formatted as a string in "mm/dd/yyyy" format.
+     */
+    @Override
+    public String toString() {
+        String dateAsString = Integer.toString(monthOf(packedDate)) + "/" + Integer.toString(dayOf(packedDate)) + "/" 
+                + Integer.toString(yearOf(packedDate));
+        return dateAsString;
+    }
+    
+    /**
+     * This method appends a packed date in the format of toString() to a StringBuilder without creating any objects.
+     * @param builder the StringBuilder that the date is appended to.
+     * @param packedDate the date packed as (year << 16) | (month << 8) | day.
+     * @return the StringBuilder, so calls can be chained.
+     */
+    public static StringBuilder appendTo(StringBuilder builder, int packedDate) {
+        return builder.append(monthOf(packedDate)).append(DATE_DELIMITER).append(dayOf(packedDate)).append(DATE_DELIMITER).append(yearOf(packedDate));
+    }
+}
\ No newline at end of file
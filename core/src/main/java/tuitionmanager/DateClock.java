@@ -0,0 +1,91 @@
+package tuitionmanager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Class that supplies today's date to Date validation as a packed int, as returned by Date.toPackedDate().
+ * Today's date is cached together with the instant the next day starts, so validating a date only reads the current instant,
+ * and the calendar date is worked out once per day instead of building a Calendar for every date that is validated.
+ * A fixed or offset java.time.Clock can be given to make validation deterministic in tests and benchmarks.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class DateClock {
+    
+    private final Clock source;
+    private volatile Today today;
+    
+    /**
+     * Private class that holds today's packed date and the instant, in epoch milliseconds, at which it stops being today.
+     * The two values are kept in one immutable object so a thread never sees the date of one day with the expiry of another.
+     */
+    private static final class Today {
+    
+        private final int packedDate;
+        private final long expiresAtMillis;
+    
+        /**
+         * Parameterized constructor that creates a snapshot of today's date.
+         * @param packedDate today's date packed as (year << 16) | (month << 8) | day.
+         * @param expiresAtMillis the epoch milliseconds at which the next day starts.
+         */
+        private Today(int packedDate, long expiresAtMillis) {
+            this.packedDate = packedDate;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+    
+    /**
+     * Parameterized constructor that creates a DateClock reading the current date from a java.time.Clock.
+     * @param source the clock that supplies the current instant and time zone.
+     */
+    public DateClock(Clock source) {
+        if (source == null)
+            throw new IllegalArgumentException("source is null");
+        this.source = source;
+    }
+    
+    /**
+     * This method creates a DateClock for the system clock in the default time zone.
+     * @return the DateClock.
+     */
+    public static DateClock systemDefault() {
+        return new DateClock(Clock.systemDefaultZone());
+    }
+    
+    /**
+     * This method creates a DateClock that always reports the same date, for deterministic tests and benchmarks.
+     * @param date the date to report as today.
+     * @return the DateClock.
+     */
+    public static DateClock fixed(Date date) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate day = LocalDate.of(Date.yearOf(date.toPackedDate()), Date.monthOf(date.toPackedDate()), Date.dayOf(date.toPackedDate()));
+        return new DateClock(Clock.fixed(day.atStartOfDay(zone).toInstant(), zone));
+    }
+    
+    /**
+     * Getter method to return today's date, refreshing the cached date once the day it was taken on has passed.
+     * @return today's date packed as (year << 16) | (month << 8) | day.
+     */
+    public int today() {
+        Today current = today;
+        if (current == null || source.millis() >= current.expiresAtMillis)
+            current = refresh();
+        return current.packedDate;
+    }
+    
+    /**
+     * Private helper method to read today's date from the time source and work out when the next day starts.
+     * @return the new snapshot of today's date.
+     */
+    private Today refresh() {
+        ZoneId zone = source.getZone();
+        LocalDate day = LocalDate.now(source);
+        long expiresAtMillis = day.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        Today current = new Today(Date.pack(day.getYear(), day.getMonthValue(), day.getDayOfMonth()), expiresAtMillis);
+        today = current;
+        return current;
+    }
+}
\ No newline at end of file
@@ -9,7 +9,7 @@ public class International extends NonResident {
     
     private boolean studyAbroad;
     
-    private static final double ADDITIONAL_INTERNATIONAL_FEE = 2650;
+    static final long ADDITIONAL_INTERNATIONAL_FEE = Money.dollars(2650);  // default rate of a TuitionRateTable
     
     /**
      * Parameterized constructor that takes a 'Profile' object, calls the superclass constructors, and creates an instance of an 'International' student.
@@ -38,15 +38,26 @@ public class International extends NonResident {
     public void tuitionDue() {
         if (getTotalTuitionPaid() > 0)
             return;
-        double _tuitionOwed = 0;
-        if (studyAbroad)
-            _tuitionOwed = FULL_TIME_UNIVERSITY_FEE + ADDITIONAL_INTERNATIONAL_FEE;
-        else if (getCredits() >= MINIMUM_FULL_TIME_CREDITS && getCredits() <= ADDITIONAL_TUITION_CREDIT_THRESHOLD)
-            _tuitionOwed = FULL_TIME_NONRESIDENT_TUITION + FULL_TIME_UNIVERSITY_FEE + ADDITIONAL_INTERNATIONAL_FEE;
-        else
-            _tuitionOwed = FULL_TIME_NONRESIDENT_TUITION + FULL_TIME_UNIVERSITY_FEE + ADDITIONAL_INTERNATIONAL_FEE +
-                    (NONRESIDENT_TUITION_RATE_PER_CREDIT * (getCredits() - ADDITIONAL_TUITION_CREDIT_THRESHOLD));
-        setTuitionOwed(_tuitionOwed);
+        setTuitionOwed(tuitionFor(getCredits(), studyAbroad));
+    }
+    
+    /**
+     * Calculates the tuition that an international student owes from the student's credits and study abroad status with the current TuitionRateTable,
+     * without needing an 'International' instance.
+     * @param credits the number of credits the student is taking this semester.
+     * @param studyAbroad true if the student studies abroad, false otherwise.
+     * @return the tuition owed, in cents.
+     */
+    public static long tuitionFor(int credits, boolean studyAbroad) {
+        return TuitionRateTable.getCurrent().internationalTuition(credits, studyAbroad);
+    }
+    
+    /**
+     * Getter method to return an international student's study abroad status.
+     * @return true if the international student studies abroad, false otherwise.
+     */
+    public boolean isStudyAbroad() {
+        return studyAbroad;
     }
     
     /**
@@ -54,18 +65,31 @@ public class International extends NonResident {
      * @param studyAbroad true or false value where true represents international student studying abroad and false represents international student not studying abroad.
      */
     public void setStudyAbroadStatus(boolean studyAbroad) {
+        if (studyAbroad != this.studyAbroad)
+            markTuitionDirty();
         this.studyAbroad = studyAbroad;
     }
     
     /**
-     * Method that calls upon superclass toString() methods and converts an 'International' student instance to a textual representation.
-     * @return 'International' student instance formatted as a string.
+     * Method that calls upon superclass appendTo() methods and appends the textual representation of an 'International' student instance to a StringBuilder.
+     * @param row the StringBuilder that the student is appended to.
+     * @return the StringBuilder, so calls can be chained.
      */
     @Override
-    public String toString() {
-        String studyAbroadAsString = "";
+    public StringBuilder appendTo(StringBuilder row) {
+        return appendFields(super.appendTo(row), studyAbroad);
+    }
+    
+    /**
+     * Method that appends the fields of an international student, in the format of toString(), after the fields of a non-resident student.
+     * @param row the StringBuilder that the fields are appended to.
+     * @param studyAbroad true if the student studies abroad, false otherwise.
+     * @return the StringBuilder, so calls can be chained.
+     */
+    static StringBuilder appendFields(StringBuilder row, boolean studyAbroad) {
+        row.append(":international");
         if (studyAbroad)
-            studyAbroadAsString = ":study abroad";
-        return super.toString() + ":international" + studyAbroadAsString;
+            row.append(":study abroad");
+        return row;
     }
 }
\ No newline at end of file
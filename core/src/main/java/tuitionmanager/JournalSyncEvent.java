@@ -0,0 +1,34 @@
+package tuitionmanager;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Class that defines the Java Flight Recorder event of one group commit of a command journal: writing a batch of commands and forcing it to disk.
+ * The group commit window the background thread waits for more commands is not part of the duration.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@Name("tuitionmanager.JournalSync")
+@Label("Journal Sync")
+@Category("Tuition Manager")
+@Description("A batch of commands written to the command journal and forced to disk")
+@StackTrace(false)
+final class JournalSyncEvent extends jdk.jfr.Event {
+    
+    @Label("Commands")
+    @Description("The number of commands in the batch")
+    long commands;
+    
+    @Label("Size")
+    @Description("The size of the batch")
+    @DataAmount(DataAmount.BYTES)
+    long bytes;
+    
+    @Label("Durable Sequence")
+    @Description("The sequence number of the last command of the batch")
+    long durableSequence;
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+package tuitionmanager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class that defines a histogram of latencies in nanoseconds whose buckets grow with the values they hold, like an HDR histogram,
+ * so that any percentile can be read with a bounded relative error from a fixed amount of memory, whatever the range of the values.
+ * Every power of 2 is split into SUB_BUCKETS buckets of equal width, so a percentile is never more than 1 / SUB_BUCKETS (6.25%) above the exact value;
+ * values below SUB_BUCKETS nanoseconds are counted exactly.
+ * Values can be recorded by many threads at once without locking.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public final class LatencyHistogram {
+    
+    private final AtomicLongArray counts;
+    private final LongAdder totalNanoseconds;
+    private final AtomicLong maximum;
+    
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int NUMBER_OF_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final double PERCENT = 100.0;
+    
+    /**
+     * Default constructor that creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        counts = new AtomicLongArray(NUMBER_OF_BUCKETS);
+        totalNanoseconds = new LongAdder();
+        maximum = new AtomicLong();
+    }
+    
+    /**
+     * This method records one latency.
+     * @param nanoseconds the latency; a negative latency (e.g. from a clock that went backwards) is recorded as 0.
+     */
+    public void record(long nanoseconds) {
+        long value = Math.max(nanoseconds, 0);
+        counts.incrementAndGet(bucketOf(value));
+        totalNanoseconds.add(value);
+        long currentMaximum = maximum.get();
+        while (value > currentMaximum && !maximum.compareAndSet(currentMaximum, value))
+            currentMaximum = maximum.get();
+    }
+    
+    /**
+     * Getter method to return the number of latencies recorded.
+     * @return the number of latencies.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++)
+            count += counts.get(i);
+        return count;
+    }
+    
+    /**
+     * Getter method to return the mean of the latencies recorded.
+     * @return the mean latency in nanoseconds, or 0 if none were recorded.
+     */
+    public long getMean() {
+        long count = getCount();
+        return (count == 0) ? 0 : totalNanoseconds.sum() / count;
+    }
+    
+    /**
+     * Getter method to return the largest latency recorded.
+     * @return the largest latency in nanoseconds, or 0 if none were recorded.
+     */
+    public long getMaximum() {
+        return maximum.get();
+    }
+    
+    /**
+     * This method finds the latency that a given percentage of the recorded latencies are at or below.
+     * @param percentile the percentage, from 0 to 100, e.g. 99.9.
+     * @return the highest latency in the bucket holding that percentile, but at most the largest latency recorded, or 0 if none were recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[NUMBER_OF_BUCKETS];
+        long count = 0;
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0)
+            return 0;
+        long rank = Math.max(1, (long)Math.ceil(Math.min(Math.max(percentile, 0), PERCENT) / PERCENT * count));
+        long seen = 0;
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank)
+                return Math.min(highestValueIn(i), maximum.get());
+        }
+        return maximum.get();
+    }
+    
+    /**
+     * This method empties the histogram; latencies recorded while it is being emptied may be kept or dropped.
+     */
+    public void reset() {
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++)
+            counts.set(i, 0);
+        totalNanoseconds.reset();
+        maximum.set(0);
+    }
+    
+    /**
+     * Private helper method to find the bucket that a value is counted in.
+     * @param value a value of at least 0.
+     * @return the index of the bucket.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS)
+            return (int)value;
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int)((value >>> shift) & (SUB_BUCKETS - 1));
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+    
+    /**
+     * Private helper method to find the highest value that is counted in a bucket.
+     * @param bucket the index of the bucket.
+     * @return the highest value of the bucket.
+     */
+    private static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowestValue = (long)(SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+}
\ No newline at end of file
@@ -10,7 +10,7 @@ public enum Major {
     BA,
     EE,
     ME;
-
+    
     /**
      * Convert a given String (ignore alphabetical case) to one of the declared majors.
      * If given String is not equivalent to a constant in the enum, convert it to the 'Unknown' enum. 
@@ -0,0 +1,149 @@
+package tuitionmanager;
+
+/**
+ * Class that holds the helper methods for amounts of money, which are kept as a long number of cents everywhere in the application
+ * (tuition owed, payments, financial aid, fees, and their totals), so adding and comparing amounts is exact.
+ * Amounts are parsed from and formatted to text by hand, without going through double or java.util.Formatter;
+ * the text format is the one String.format("%,.2f") produces in the US locale, e.g. "12,536.00".
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public final class Money {
+    
+    /* Returned by parse() when the characters are not an amount; no amount that parse() accepts has this value */
+    public static final long INVALID_AMOUNT = Long.MIN_VALUE;
+    
+    public static final long CENTS_PER_DOLLAR = 100;
+    
+    private static final int CENT_DIGITS = 2;
+    private static final long DOLLARS_PER_GROUP = 1000;  // a comma between every group of three digits
+    private static final char GROUP_SEPARATOR = ',';
+    private static final char DECIMAL_POINT = '.';
+    private static final int DECIMAL_RADIX = 10;
+    private static final int ROUNDING_DIGIT = 5;  // a third decimal of 5 or more rounds away from zero
+    private static final long MAXIMUM_DOLLARS = Long.MAX_VALUE / CENTS_PER_DOLLAR / DECIMAL_RADIX;
+    private static final int MAXIMUM_FORMATTED_LENGTH = 32;  // longest text of a long number of cents, with sign and separators
+    
+    /**
+     * Private constructor; the class only holds static methods.
+     */
+    private Money() {}
+    
+    /**
+     * This method converts a whole number of dollars to cents.
+     * @param dollars the number of dollars.
+     * @return the amount in cents.
+     */
+    public static long dollars(long dollars) {
+        return dollars * CENTS_PER_DOLLAR;
+    }
+    
+    /**
+     * This method parses an amount of dollars, such as "250", "250.5", or "-0.75", to cents.
+     * @param amount the text of the amount.
+     * @return the amount in cents.
+     * @throws NumberFormatException if the text is not an amount.
+     */
+    public static long parse(String amount) {
+        long cents = parse(amount, 0, amount.length());
+        if (cents == INVALID_AMOUNT)
+            throw new NumberFormatException("Not an amount: \"" + amount + "\"");
+        return cents;
+    }
+    
+    /**
+     * This method parses an amount of dollars from a range of characters without creating any objects.
+     * The amount is an optional sign, digits, and optionally a decimal point followed by more digits; digits past the cents are rounded half away from zero.
+     * @param text the characters holding the amount.
+     * @param start the index of the first character of the amount.
+     * @param end the index one past the last character of the amount.
+     * @return the amount in cents, or INVALID_AMOUNT if the characters are not an amount or the amount is too large.
+     */
+    public static long parse(CharSequence text, int start, int end) {
+        boolean negative = false;
+        if (start < end && (text.charAt(start) == '-' || text.charAt(start) == '+')) {
+            negative = text.charAt(start) == '-';
+            start++;
+        }
+        long dollars = 0;
+        int i = start;
+        for (; i < end && text.charAt(i) != DECIMAL_POINT; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || dollars >= MAXIMUM_DOLLARS)
+                return INVALID_AMOUNT;
+            dollars = dollars * DECIMAL_RADIX + digit;
+        }
+        boolean hasDollars = i > start;
+        long cents = 0;
+        int centDigits = 0;
+        boolean roundUp = false;
+        if (i < end)
+            i++;
+        boolean hasCents = i < end;
+        for (; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9)
+                return INVALID_AMOUNT;
+            if (centDigits < CENT_DIGITS)
+                cents = cents * DECIMAL_RADIX + digit;
+            else if (centDigits == CENT_DIGITS)
+                roundUp = digit >= ROUNDING_DIGIT;
+            centDigits++;
+        }
+        if (!hasDollars && !hasCents)
+            return INVALID_AMOUNT;
+        for (; centDigits < CENT_DIGITS; centDigits++)
+            cents *= DECIMAL_RADIX;
+        long amount = dollars * CENTS_PER_DOLLAR + cents + (roundUp ? 1 : 0);
+        return negative ? -amount : amount;
+    }
+    
+    /**
+     * This method formats an amount of cents as dollars with a comma between every group of three digits and two decimals, e.g. "1,234.50".
+     * @param cents the amount in cents.
+     * @return the formatted amount.
+     */
+    public static String format(long cents) {
+        return append(new StringBuilder(MAXIMUM_FORMATTED_LENGTH), cents).toString();
+    }
+    
+    /**
+     * This method appends an amount of cents, formatted as by format(), to a StringBuilder without creating any other objects.
+     * @param builder the StringBuilder that the amount is appended to.
+     * @param cents the amount in cents.
+     * @return the StringBuilder, so calls can be chained.
+     */
+    public static StringBuilder append(StringBuilder builder, long cents) {
+        if (cents < 0)
+            builder.append('-');
+        long dollars = Math.abs(cents / CENTS_PER_DOLLAR);
+        int remainingCents = (int)Math.abs(cents % CENTS_PER_DOLLAR);
+        appendGrouped(builder, dollars);
+        builder.append(DECIMAL_POINT);
+        if (remainingCents < DECIMAL_RADIX)
+            builder.append('0');
+        return builder.append(remainingCents);
+    }
+    
+    /**
+     * Private helper method to append a number of dollars with a comma between every group of three digits.
+     * @param builder the StringBuilder that the dollars are appended to.
+     * @param dollars the number of dollars, not negative.
+     */
+    private static void appendGrouped(StringBuilder builder, long dollars) {
+        long divisor = 1;
+        while (dollars / divisor >= DOLLARS_PER_GROUP)
+            divisor *= DOLLARS_PER_GROUP;
+        builder.append(dollars / divisor);
+        while (divisor > 1) {
+            dollars %= divisor;
+            divisor /= DOLLARS_PER_GROUP;
+            long group = dollars / divisor;
+            builder.append(GROUP_SEPARATOR);
+            if (group < DOLLARS_PER_GROUP / DECIMAL_RADIX)
+                builder.append('0');
+            if (group < DECIMAL_RADIX)
+                builder.append('0');
+            builder.append(group);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package tuitionmanager;
+
+/**
+ * Class that defines a non-resident student (a subgroup of student).
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class NonResident extends Student {
+    
+    /* Default rates of a TuitionRateTable */
+    public static final long FULL_TIME_NONRESIDENT_TUITION = Money.dollars(29737);
+    public static final long NONRESIDENT_TUITION_RATE_PER_CREDIT = Money.dollars(966);
+    
+    /**
+     * Parameterized constructor that takes a 'Profile' object, calls the superclass constructor, and creates an instance of an 'TriState' student.
+     * @param profile a 'Profile' instance which holds the name and major of a given student.
+     */
+    public NonResident(Profile profile) {
+        super(profile);
+    }
+    
+    /**
+     * Second parameterized constructor that takes a 'Profile' instance and a number of credits and uses them to construct an 'TriState' student instance by calling its superclass constructor.
+     * @param profile a 'Profile' instance which holds the name and major of a given student.
+     * @param credits the number of credits the student is taking this semester.
+     */
+    public NonResident(Profile profile, int credits) {
+        super(profile, credits);
+    }
+    
+    /**
+     * Method that overrides tuitionDue() method in 'Student' class; calculates and sets the tuition that a non-resident student owes.
+     */
+    @Override
+    public void tuitionDue() {
+        if (getTotalTuitionPaid() > 0)
+            return;
+        setTuitionOwed(tuitionFor(getCredits()));
+    }
+    
+    /**
+     * Calculates the tuition that a non-resident student owes from the student's credits with the current TuitionRateTable, without needing a 'NonResident' instance.
+     * @param credits the number of credits the student is taking this semester.
+     * @return the tuition owed, in cents.
+     */
+    public static long tuitionFor(int credits) {
+        return TuitionRateTable.getCurrent().nonResidentTuition(credits);
+    }
+    
+    /**
+     * Method that calls upon superclass appendTo() method and appends the textual representation of a 'NonResident' student instance to a StringBuilder.
+     * @param row the StringBuilder that the student is appended to.
+     * @return the StringBuilder, so calls can be chained.
+     */
+    @Override
+    public StringBuilder appendTo(StringBuilder row) {
+        return appendFields(super.appendTo(row));
+    }
+    
+    /**
+     * Method that appends the fields of a non-resident student, in the format of toString(), after the fields every student has.
+     * @param row the StringBuilder that the fields are appended to.
+     * @return the StringBuilder, so calls can be chained.
+     */
+    static StringBuilder appendFields(StringBuilder row) {
+        return row.append("non-resident");
+    }
+}
\ No newline at end of file
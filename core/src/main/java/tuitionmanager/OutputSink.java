@@ -0,0 +1,123 @@
+package tuitionmanager;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Class that defines the 'Output Sink' abstract data type; an instance of OutputSink writes lines of text produced by the tuition manager and the roster to an Appendable destination.
+ * The destination may be the console, a buffered writer, or a StringBuilder that collects the messages of a command.
+ * Nothing is flushed automatically; callers flush once per command or report so that a buffered destination is written in large blocks.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class OutputSink {
+    
+    private Appendable destination;
+    private char[] lineBuffer;  // reused to write a StringBuilder line to a Writer without converting it to a String
+    
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final int STANDARD_OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final int TEXT_BLOCK_SIZE = 8 * 1024;  // the characters print() hands a Writer at a time
+    
+    /**
+     * Parameterized constructor that creates an output sink which writes to the given destination.
+     * @param destination the Appendable (e.g. a PrintStream, Writer, or StringBuilder) that the lines are written to.
+     */
+    public OutputSink(Appendable destination) {
+        this.destination = destination;
+    }
+    
+    /**
+     * This method creates an output sink that writes to the standard output through a large buffer instead of one synchronized, autoflushing write per line.
+     * @return a buffered output sink for the standard output; it must be flushed for the text to appear.
+     */
+    public static OutputSink standardOutput() {
+        return new OutputSink(new BufferedWriter(new OutputStreamWriter(System.out), STANDARD_OUTPUT_BUFFER_SIZE));
+    }
+    
+    /**
+     * This method writes a line of text followed by the platform line separator.
+     * @param line the text to be written.
+     */
+    public void println(String line) {
+        try {
+            destination.append(line).append(LINE_SEPARATOR);
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+    
+    /**
+     * This method writes a line of text held in a StringBuilder, e.g. a row of a report rendered into a reused StringBuilder, followed by the platform line separator.
+     * A Writer destination is given the characters through a reused buffer, so no String is created for the line.
+     * @param line the text to be written.
+     */
+    public void println(StringBuilder line) {
+        try {
+            if (destination instanceof Writer) {
+                int length = line.length();
+                if (lineBuffer == null || lineBuffer.length < length)
+                    lineBuffer = new char[Math.max(length, Student.ROW_CAPACITY)];
+                line.getChars(0, length, lineBuffer, 0);
+                Writer writer = (Writer)destination;
+                writer.write(lineBuffer, 0, length);
+                writer.write(LINE_SEPARATOR);
+            }
+            else
+                destination.append(line).append(LINE_SEPARATOR);
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+    
+    /**
+     * This method writes text held in a StringBuilder as it is, e.g. a whole report rendered into a buffer, without adding a line separator.
+     * A Writer destination is given the characters a block at a time through a reused buffer, so no String is created for the text.
+     * @param text the text to be written.
+     */
+    public void print(StringBuilder text) {
+        try {
+            if (destination instanceof Writer) {
+                if (lineBuffer == null || lineBuffer.length < TEXT_BLOCK_SIZE)
+                    lineBuffer = new char[TEXT_BLOCK_SIZE];
+                Writer writer = (Writer)destination;
+                for (int start = 0; start < text.length(); start += TEXT_BLOCK_SIZE) {
+                    int end = Math.min(start + TEXT_BLOCK_SIZE, text.length());
+                    text.getChars(start, end, lineBuffer, 0);
+                    writer.write(lineBuffer, 0, end - start);
+                }
+            }
+            else
+                destination.append(text);
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+    
+    /**
+     * This method writes an empty line.
+     */
+    public void println() {
+        println("");
+    }
+    
+    /**
+     * This method flushes the destination if it holds buffered text; otherwise it does nothing.
+     */
+    public void flush() {
+        if (destination instanceof Flushable) {
+            try {
+                ((Flushable)destination).flush();
+            }
+            catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,228 @@
+package tuitionmanager;
+
+/**
+ * Class that defines a command line that has been split into tokens and validated without looking at or changing the roster.
+ * Parsing a command has no side effects, so the lines of a command file can be parsed on several threads while a single thread applies them in order (see CommandPipeline).
+ * A command that fails validation keeps the message that is printed when it is applied, and a line that is too malformed to parse keeps the exception that is thrown when it is applied,
+ * so applying a parsed command prints and throws exactly what executing the line directly would.
+ * Only the commands that change the roster are validated here; every other command just keeps its tokens.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+final class ParsedCommand {
+    
+    private final String[] commandTokens;
+    private String rejection;  // the message printed when the command is applied; null if the command is valid
+    private RuntimeException malformation;  // thrown when the command is applied; null if the line could be parsed
+    private Student student;  // the student added by an 'AR', 'AN', 'AT', or 'AI' command
+    private Major major;  // the major of the student named by an 'R', 'T', 'S', or 'F' command
+    private long amount;  // the payment of a 'T' command or the financial aid of an 'F' command, in cents
+    private Date paymentDate;  // the date of a 'T' command
+    private boolean studyAbroad;  // the study abroad status of an 'S' command
+    
+    private static final int MINIMUM_CREDITS = 3;
+    private static final int CREDIT_HOURS_MISSING_ARGUMENTS = 3;
+    private static final int F_COMMAND_NUMBER_OF_ARGUMENTS = 4;
+    private static final int MISSING_DATA_ARGUMENTS = 5;
+    
+    /**
+     * Private constructor used by parse().
+     * @param commandTokens an array of Strings, containing a command and relevant data, found by parsing comma-delimited lines.
+     */
+    private ParsedCommand(String[] commandTokens) {
+        this.commandTokens = commandTokens;
+    }
+    
+    /**
+     * This method parses and validates the tokens of a command line.
+     * @param commandTokens an array of Strings, containing a command and relevant data, found by parsing comma-delimited lines.
+     * @return the parsed command.
+     */
+    static ParsedCommand parse(String[] commandTokens) {
+        ParsedCommand command = new ParsedCommand(commandTokens);
+        if (commandTokens.length == 0)
+            return command;
+        try {
+            switch (commandTokens[0]) {
+                case "AR" : case "AN" : case "AT" : case "AI" : command.parseAdd();
+                    break;
+                case "R" : command.major = Major.convertStringToMajor(commandTokens[2]);
+                    break;
+                case "T" : command.parsePayment();
+                    break;
+                case "S" : command.parseStudyAbroad();
+                    break;
+                case "F" : command.parseFinancialAid();
+                    break;
+                default :
+                    break;
+            }
+        }
+        catch (RuntimeException exception) {
+            command.malformation = exception;
+        }
+        return command;
+    }
+    
+    /**
+     * Getter method to return the tokens of the command.
+     * @return an array of Strings containing a command and relevant data.
+     */
+    String[] getTokens() {
+        return commandTokens;
+    }
+    
+    /**
+     * Getter method to return the message printed when the command is applied, if it failed validation.
+     * @return the message, or null if the command is valid.
+     */
+    String getRejection() {
+        return rejection;
+    }
+    
+    /**
+     * Getter method to return the exception thrown when the command is applied, if the line could not be parsed.
+     * @return the exception, or null if the line could be parsed.
+     */
+    RuntimeException getMalformation() {
+        return malformation;
+    }
+    
+    /**
+     * This method checks if the command failed validation or the line could not be parsed.
+     * @return true if the command is rejected or malformed, false otherwise.
+     */
+    boolean isInvalid() {
+        return rejection != null || malformation != null;
+    }
+    
+    /**
+     * Getter method to return the student added by an 'AR', 'AN', 'AT', or 'AI' command.
+     * @return the new student.
+     */
+    Student getStudent() {
+        return student;
+    }
+    
+    /**
+     * Getter method to return the major of the student named by an 'R', 'T', 'S', or 'F' command.
+     * @return the major, or null if it is not a valid major.
+     */
+    Major getMajor() {
+        return major;
+    }
+    
+    /**
+     * Getter method to return the payment of a 'T' command or the financial aid of an 'F' command.
+     * @return the amount in cents.
+     */
+    long getAmount() {
+        return amount;
+    }
+    
+    /**
+     * Getter method to return the date of the payment of a 'T' command.
+     * @return the payment date.
+     */
+    Date getPaymentDate() {
+        return paymentDate;
+    }
+    
+    /**
+     * Getter method to return the study abroad status of an 'S' command.
+     * @return true if the student studies abroad, false otherwise.
+     */
+    boolean isStudyAbroad() {
+        return studyAbroad;
+    }
+    
+    /**
+     * Private helper method to validate the arguments of an 'AR', 'AN', 'AT', or 'AI' command and create the student it adds.
+     */
+    private void parseAdd() {
+        rejection = checkArgumentsForAdding();
+        if (rejection != null)
+            return;
+        Profile newProfile = new Profile(commandTokens[1], Major.convertStringToMajor(commandTokens[2]));
+        int numberOfCredits = Integer.parseInt(commandTokens[3]);
+        switch (commandTokens[0]) {
+            case "AR" : student = new Resident(newProfile, numberOfCredits);
+                break;
+            case "AN" : student = new NonResident(newProfile, numberOfCredits);
+                break;
+            case "AT" : student = new TriState(newProfile, numberOfCredits, State.convertStringToState(commandTokens[4]));
+                break;
+            default : student = new International(newProfile, numberOfCredits, Boolean.parseBoolean(commandTokens[4]));
+        }
+    }
+    
+    /**
+     * Private helper method to validate the arguments of a 'T' command.
+     * The payment date is parsed and validated as a packed int, so it is only parsed once and a Date is only created if it is valid.
+     */
+    private void parsePayment() {
+        if (commandTokens.length == CREDIT_HOURS_MISSING_ARGUMENTS) {
+            rejection = "Payment amount missing."; return;
+        }
+        amount = Money.parse(commandTokens[3]);
+        if (amount <= 0) {
+            rejection = "Invalid amount."; return;
+        }
+        String paymentDateToken = commandTokens[4];
+        int packedPaymentDate = Date.parse(paymentDateToken, 0, paymentDateToken.length());
+        if (!Date.isValid(packedPaymentDate)) {
+            rejection = "Payment date invalid."; return;
+        }
+        paymentDate = Date.fromPackedDate(packedPaymentDate);
+        major = Major.convertStringToMajor(commandTokens[2]);
+    }
+    
+    /**
+     * Private helper method to parse the arguments of an 'S' command.
+     */
+    private void parseStudyAbroad() {
+        major = Major.convertStringToMajor(commandTokens[2]);
+        studyAbroad = Boolean.parseBoolean(commandTokens[3]);
+    }
+    
+    /**
+     * Private helper method to validate the arguments of an 'F' command.
+     */
+    private void parseFinancialAid() {
+        if (commandTokens.length < F_COMMAND_NUMBER_OF_ARGUMENTS) {
+            rejection = "Missing the amount."; return;
+        }
+        amount = Money.parse(commandTokens[3]);
+        major = Major.convertStringToMajor(commandTokens[2]);
+    }
+    
+    /**
+     * Private helper method that checks if there are any errors with the arguments of an 'AR', 'AN', 'AT', or 'AI' command.
+     * @return the message describing the first error with the arguments, or null if there are none.
+     */
+    private String checkArgumentsForAdding() {
+        if (((commandTokens[0].equals("AR") || commandTokens[0].equals("AN")) && commandTokens.length < CREDIT_HOURS_MISSING_ARGUMENTS)
+                 || (commandTokens[0].equals("AT") && commandTokens.length < MISSING_DATA_ARGUMENTS))
+            return "Missing data in command line.";
+        if (commandTokens.length == CREDIT_HOURS_MISSING_ARGUMENTS)
+            return "Credit hours missing.";
+        if (Major.convertStringToMajor(commandTokens[2]) == null)
+            return "'" + commandTokens[2] + "' is not a valid major.";
+        if (commandTokens[0].equals("AT") && State.convertStringToState(commandTokens[4]) == null)
+            return "Not part of the tri-state area.";
+        try {
+            int numberOfCredits = Integer.parseInt(commandTokens[3]);
+            if (numberOfCredits < 0)
+                return "Credit hours cannot be negative.";
+            if (numberOfCredits < MINIMUM_CREDITS)
+                return "Minimum credit hours is " + MINIMUM_CREDITS + ".";
+            if (numberOfCredits > TuitionManager.MAXIMUM_CREDITS)
+                return "Credit hours exceed the maximum " + TuitionManager.MAXIMUM_CREDITS + ".";
+            if (commandTokens[0].equals("AI") && numberOfCredits < TuitionManager.MINIMUM_INTERNATIONAL_CREDITS)
+                return "International students must enroll at least " + TuitionManager.MINIMUM_INTERNATIONAL_CREDITS + " credits.";
+        }
+        catch (Exception exception) {
+            return "Invalid credit hours.";
+        }
+        return null;
+    }
+}
\ No newline at end of file
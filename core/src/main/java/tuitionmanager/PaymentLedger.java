@@ -0,0 +1,327 @@
+package tuitionmanager;
+
+import java.util.Arrays;
+
+/**
+ * Class that defines the 'Payment Ledger' abstract data type; an append-only history of every tuition payment, which the roster itself does not keep
+ * (a student only holds the total paid and the date of the last payment).
+ * Payments are stored as primitive records in parallel arrays: the student (a number into a table of profiles), the packed payment date, and the amount.
+ * An index of the payments sorted by date answers "every payment between two dates" and "payments per day" with a binary search followed by a scan of the matching payments,
+ * so a month-end reconciliation reads only that month instead of re-sorting the whole roster.
+ * Payments recorded in date order are appended to the index directly; payments recorded out of order are sorted and merged into it before the next query.
+ * A payment stays in the ledger when its student is removed or its payments are reset. Every method is synchronized, so sessions sharing a roster can share a ledger.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class PaymentLedger {
+    
+    private Profile[] students;  // the profile of every student with a payment, by student number
+    private StudentIndex studentNumbers;  // the student number of every student with a payment by name and major
+    private int numberOfStudents;
+    private int[] paymentStudents;  // student number of every payment
+    private int[] paymentDates;  // packed date of every payment
+    private long[] paymentAmounts;  // in cents
+    private int size;
+    private long[] dateIndex;  // (packed date << 32) | payment number of every payment; sorted up to sortedPayments
+    private int sortedPayments;
+    
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int GROWTH_FACTOR = 2;
+    private static final long PAYMENT_NUMBER_MASK = 0xFFFFFFFFL;
+    
+    /**
+     * Default constructor to instantiate an empty ledger.
+     */
+    public PaymentLedger() {
+        students = new Profile[INITIAL_CAPACITY];
+        studentNumbers = new ProfileIndex(INITIAL_CAPACITY);
+        numberOfStudents = 0;
+        paymentStudents = new int[INITIAL_CAPACITY];
+        paymentDates = new int[INITIAL_CAPACITY];
+        paymentAmounts = new long[INITIAL_CAPACITY];
+        dateIndex = new long[INITIAL_CAPACITY];
+        size = 0;
+        sortedPayments = 0;
+    }
+    
+    /**
+     * Class that defines the index of the student numbers, reading the names and majors from the table of profiles.
+     */
+    private class ProfileIndex extends StudentIndex {
+    
+        /**
+         * Parameterized constructor that creates an empty index sized for the given number of students.
+         * @param capacity the number of students the index should hold without growing.
+         */
+        ProfileIndex(int capacity) {
+            super(capacity);
+        }
+    
+        /**
+         * Returns the name of the student with a student number.
+         * @param position the student number.
+         * @return the name of the student.
+         */
+        @Override
+        String nameAt(int position) {
+            return students[position].getName();
+        }
+    
+        /**
+         * Returns the major code of the student with a student number.
+         * @param position the student number.
+         * @return the ordinal of the student's major, or StudentIndex.NO_MAJOR.
+         */
+        @Override
+        byte majorAt(int position) {
+            return majorCode(students[position].getMajor());
+        }
+    }
+    
+    /**
+     * Getter method to return the number of payments in the ledger.
+     * @return the number of payments.
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+    
+    /**
+     * Getter method to return the profile of the student who made a payment.
+     * @param payment the number of the payment, from 0 to getSize() - 1, in the order the payments were recorded.
+     * @return the profile of the student.
+     */
+    public synchronized Profile getStudent(int payment) {
+        checkPayment(payment);
+        return students[paymentStudents[payment]];
+    }
+    
+    /**
+     * Getter method to return the date of a payment.
+     * @param payment the number of the payment, from 0 to getSize() - 1, in the order the payments were recorded.
+     * @return the date of the payment.
+     */
+    public synchronized Date getPaymentDate(int payment) {
+        checkPayment(payment);
+        return Date.fromPackedDate(paymentDates[payment]);
+    }
+    
+    /**
+     * Getter method to return the amount of a payment.
+     * @param payment the number of the payment, from 0 to getSize() - 1, in the order the payments were recorded.
+     * @return the amount of the payment, in cents.
+     */
+    public synchronized long getPaymentAmount(int payment) {
+        checkPayment(payment);
+        return paymentAmounts[payment];
+    }
+    
+    /**
+     * Private helper method to check that a payment number is in the ledger.
+     * @param payment the number of the payment.
+     * @throws IndexOutOfBoundsException if there is no such payment.
+     */
+    private void checkPayment(int payment) {
+        if (payment < 0 || payment >= size)
+            throw new IndexOutOfBoundsException("Payment " + payment + " out of bounds for " + size + " payments");
+    }
+    
+    /**
+     * This method records a payment that has been applied to a student.
+     * @param student the profile of the student who made the payment.
+     * @param amount the amount of the payment, in cents.
+     * @param paymentDate the date of the payment.
+     * @return the number of the payment.
+     */
+    public synchronized int record(Profile student, long amount, Date paymentDate) {
+        return record(studentNumberOf(student.getName(), student.getMajor(), student), amount, paymentDate);
+    }
+    
+    /**
+     * This method records a payment that has been applied to the student with a name and major; a profile is only created for the first payment of a student.
+     * @param name the name of the student who made the payment.
+     * @param major the major of the student who made the payment.
+     * @param amount the amount of the payment, in cents.
+     * @param paymentDate the date of the payment.
+     * @return the number of the payment.
+     */
+    public synchronized int record(String name, Major major, long amount, Date paymentDate) {
+        return record(studentNumberOf(name, major, null), amount, paymentDate);
+    }
+    
+    /**
+     * Private helper method to find the student number of a student, adding the student to the table of profiles if the student has no payment yet.
+     * @param name the name of the student.
+     * @param major the major of the student.
+     * @param student the profile of the student, or null to create one if the student is added.
+     * @return the student number.
+     */
+    private int studentNumberOf(String name, Major major, Profile student) {
+        int studentNumber = studentNumbers.find(name, StudentIndex.majorCode(major));
+        if (studentNumber != StudentIndex.NOT_FOUND)
+            return studentNumber;
+        if (numberOfStudents == students.length) {
+            students = Arrays.copyOf(students, numberOfStudents * GROWTH_FACTOR);
+            studentNumbers.ensureCapacity(students.length, numberOfStudents);
+        }
+        studentNumber = numberOfStudents;
+        students[numberOfStudents++] = (student == null) ? new Profile(name, major) : student;
+        studentNumbers.insert(studentNumber);
+        return studentNumber;
+    }
+    
+    /**
+     * Private helper method to record a payment of a student who is already in the table of profiles.
+     * @param studentNumber the student number.
+     * @param amount the amount of the payment, in cents.
+     * @param paymentDate the date of the payment.
+     * @return the number of the payment.
+     */
+    private int record(int studentNumber, long amount, Date paymentDate) {
+        if (size == paymentDates.length)
+            growPayments();
+        int payment = size++;
+        paymentStudents[payment] = studentNumber;
+        paymentDates[payment] = paymentDate.toPackedDate();
+        paymentAmounts[payment] = amount;
+        long key = indexKey(paymentDates[payment], payment);
+        if (sortedPayments == payment && (payment == 0 || key > dateIndex[payment - 1]))
+            sortedPayments++;
+        dateIndex[payment] = key;
+        return payment;
+    }
+    
+    /**
+     * Private helper method to grow the payment arrays and the index by GROWTH_FACTOR (or 2).
+     */
+    private void growPayments() {
+        int capacity = paymentDates.length * GROWTH_FACTOR;
+        paymentStudents = Arrays.copyOf(paymentStudents, capacity);
+        paymentDates = Arrays.copyOf(paymentDates, capacity);
+        paymentAmounts = Arrays.copyOf(paymentAmounts, capacity);
+        dateIndex = Arrays.copyOf(dateIndex, capacity);
+    }
+    
+    /**
+     * Private helper method to build the index key of a payment; keys sort by date, then by the order the payments were recorded.
+     * @param packedDate the packed date of the payment.
+     * @param payment the number of the payment.
+     * @return the index key.
+     */
+    private static long indexKey(int packedDate, int payment) {
+        return ((long)packedDate << Integer.SIZE) | payment;
+    }
+    
+    /**
+     * Private helper method to sort the payments recorded out of date order and merge them into the sorted part of the index.
+     */
+    private void sortIndex() {
+        if (sortedPayments == size)
+            return;
+        Arrays.sort(dateIndex, sortedPayments, size);
+        long[] unsorted = Arrays.copyOfRange(dateIndex, sortedPayments, size);
+        int sorted = sortedPayments - 1, merged = size - 1;
+        for (int next = unsorted.length - 1; next >= 0; merged--) {
+            if (sorted >= 0 && dateIndex[sorted] > unsorted[next])
+                dateIndex[merged] = dateIndex[sorted--];
+            else
+                dateIndex[merged] = unsorted[next--];
+        }
+        sortedPayments = size;
+    }
+    
+    /**
+     * Private helper method to find the first position in the sorted index whose key is not less than a given key.
+     * @param key the key.
+     * @return the position, from 0 to size.
+     */
+    private int lowerBound(long key) {
+        int low = 0, high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (dateIndex[middle] < key)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+    
+    /**
+     * Private helper method to find the end of a date range in the sorted index.
+     * @param first the position of the first payment on or after the first date of the range.
+     * @param to the last date of the range.
+     * @return the position one past the last payment on or before the last date, and not before first.
+     */
+    private int endOfRange(int first, Date to) {
+        return Math.max(first, lowerBound(indexKey(to.toPackedDate() + 1, 0)));
+    }
+    
+    /**
+     * This method finds every payment made between two dates, inclusive, ordered by date and then by the order the payments were recorded.
+     * @param from the first date of the range.
+     * @param to the last date of the range.
+     * @return the numbers of the payments; empty if there are none or the range is empty.
+     */
+    public synchronized int[] paymentsBetween(Date from, Date to) {
+        sortIndex();
+        int first = lowerBound(indexKey(from.toPackedDate(), 0));
+        int end = endOfRange(first, to);
+        int[] payments = new int[end - first];
+        for (int i = first; i < end; i++)
+            payments[i - first] = (int)(dateIndex[i] & PAYMENT_NUMBER_MASK);
+        return payments;
+    }
+    
+    /**
+     * Print out every payment made between two dates, inclusive, ordered by date.
+     * @param from the first date of the range.
+     * @param to the last date of the range.
+     * @param output the output sink that the list is written to.
+     */
+    public synchronized void printPaymentsBetween(Date from, Date to, OutputSink output) {
+        int[] payments = paymentsBetween(from, to);
+        if (payments.length == 0) {
+            output.println("No payments from " + from + " to " + to + "."); return;
+        }
+        output.println("* list of payments from " + from + " to " + to + " **");
+        StringBuilder row = new StringBuilder(Student.ROW_CAPACITY);
+        for (int payment : payments) {
+            Profile student = students[paymentStudents[payment]];
+            row.setLength(0);
+            Date.appendTo(row, paymentDates[payment]).append(':');
+            Profile.appendTo(row, student.getName(), student.getMajor()).append(":payment:");
+            output.println(Money.append(row, paymentAmounts[payment]));
+        }
+        output.println("* end of payments **");
+    }
+    
+    /**
+     * Print out the number and total amount of the payments made on each day between two dates, inclusive; days without payments are left out.
+     * @param from the first date of the range.
+     * @param to the last date of the range.
+     * @param output the output sink that the list is written to.
+     */
+    public synchronized void printDailyTotals(Date from, Date to, OutputSink output) {
+        sortIndex();
+        int first = lowerBound(indexKey(from.toPackedDate(), 0));
+        int end = endOfRange(first, to);
+        if (first == end) {
+            output.println("No payments from " + from + " to " + to + "."); return;
+        }
+        output.println("* payments per day from " + from + " to " + to + " **");
+        StringBuilder row = new StringBuilder(Student.ROW_CAPACITY);
+        while (first < end) {
+            int day = (int)(dateIndex[first] >> Integer.SIZE);
+            long endOfDay = indexKey(day + 1, 0);
+            long total = 0;
+            int next = first;
+            for (; next < end && dateIndex[next] < endOfDay; next++)
+                total += paymentAmounts[(int)(dateIndex[next] & PAYMENT_NUMBER_MASK)];
+            row.setLength(0);
+            Date.appendTo(row, day).append(':').append(next - first).append(" payments:total:");
+            output.println(Money.append(row, total));
+            first = next;
+        }
+        output.println("* end of payments **");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package tuitionmanager;
+
+/**
+ * Class that defines the 'Profile' abstract data type which represents the profile of a student (a profile consists of a student's name and major).
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class Profile {
+    
+    private String name;
+    private Major major;  // 5 majors and 2 characters each (case-insensitive): CS, IT, BA, EE, ME
+    
+    /**
+     * Parameterized constructor that takes a name as a String and a major as a 'Major' enum and creates and instance of a 'Profile'.
+     * @param name the name of a student to be used in the profile as a String.
+     * @param major the major of a student to be used in the profile as a 'Major' enum.
+     */
+    public Profile(String name, Major major) {
+        this.name = name;
+        this.major = major;
+    }
+    
+    /**
+     * Getter method to return a name in a 'Profile' instance.
+     * @return a name as a String.
+     */
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Getter method to return a major in a 'Profile' instance.
+     * @return a major as a 'Major' enum.
+     */
+    public Major getMajor() {
+        return major;
+    }
+    
+    /**
+     * Determines if two 'Profile' instances are equal to each other or not by comparing their names and majors.
+     * @param obj 'Profile' object to be compared with.
+     * @return true if the 'Profile' instances are the same, false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Profile))
+            return false;
+        Profile profile = (Profile)obj;
+        return name.equals(profile.name) && major == profile.major;
+    }
+    
+    /**
+     * Computes a hash code for a 'Profile' instance from its name and major so that profiles which are equal share the same hash code.
+     * The major contributes its ordinal rather than its identity hash so the value is stable across runs; an unknown (null) major hashes as -1.
+     * @return the hash code of the 'Profile' instance.
+     */
+    @Override
+    public int hashCode() {
+        return hashCode(name, major);
+    }
+    
+    /**
+     * Computes the hash code that a 'Profile' instance with a name and major would have, without creating the profile.
+     * @param name the name of a student.
+     * @param major the major of a student, or null.
+     * @return the hash code of the profile.
+     */
+    static int hashCode(String name, Major major) {
+        int majorHash = (major == null) ? -1 : major.ordinal();
+        return 31 * name.hashCode() + majorHash;
+    }
+    
+    /**
+     * Method that overrides toString() method and converts a 'Profile' instance to a textual representation.
+     * @return 'Profile' instance formatted as a string.
+     */
+    @Override
+    public String toString() {
+        String profileAsString = name + ":" + Major.convertMajorToString(major);
+        return profileAsString;
+    }
+    
+    /**
+     * This method appends a profile in the format of toString() to a StringBuilder without creating any objects.
+     * @param builder the StringBuilder that the profile is appended to.
+     * @param name the name of the student.
+     * @param major the major of the student.
+     * @return the StringBuilder, so calls can be chained.
+     */
+    static StringBuilder appendTo(StringBuilder builder, String name, Major major) {
+        return builder.append(name).append(':').append(Major.convertMajorToString(major));
+    }
+}
\ No newline at end of file
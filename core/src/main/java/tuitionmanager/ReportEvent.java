@@ -0,0 +1,28 @@
+package tuitionmanager;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Class that defines the Java Flight Recorder event of one report printed by a tuition manager (the 'P', 'PT', 'PN', 'PL', 'PD', or 'PS' command),
+ * covering sorting the roster and rendering the rows.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+@Name("tuitionmanager.Report")
+@Label("Report")
+@Category("Tuition Manager")
+@Description("A report of the roster or the payments, sorted and rendered")
+@StackTrace(false)
+final class ReportEvent extends jdk.jfr.Event {
+    
+    @Label("Report")
+    @Description("The command that printed the report, e.g. PN")
+    String report;
+    
+    @Label("Roster Size")
+    @Description("The number of students in the roster")
+    int rosterSize;
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package tuitionmanager;
+
+/**
+ * Class that defines a resident student (a subgroup of student).
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class Resident extends Student {
+    
+    private long financialAid;  // in cents
+    
+    /* Default rates of a TuitionRateTable */
+    static final long FULL_TIME_RESIDENT_TUITION = Money.dollars(12536);
+    static final long RESIDENT_TUITION_RATE_PER_CREDIT = Money.dollars(404);
+    
+    /**
+     * Parameterized constructor that takes a 'Profile' object, calls the superclass constructor, and creates an instance of a 'Resident' student.
+     * @param profile a 'Profile' instance which holds the name and major of a given student.
+     */
+    public Resident(Profile profile) {
+        super(profile);
+    }
+    
+    /**
+     * Second parameterized constructor that takes a 'Profile' instance and a number of credits and uses them to construct a 'Resident' student instance by calling its superclass constructor.
+     * @param profile a 'Profile' instance which holds the name and major of a given student.
+     * @param credits the number of credits the student is taking this semester.
+     */
+    public Resident(Profile profile, int credits) {
+        super(profile, credits);
+        financialAid = 0;
+    }
+    
+    /**
+     * Method that overrides tuitionDue() method in 'Student' class; calculates and sets the tuition that a resident student owes.
+     */
+    @Override
+    public void tuitionDue() {
+        if (getTotalTuitionPaid() > 0)
+            return;
+        setTuitionOwed(tuitionFor(getCredits(), financialAid));
+    }
+    
+    /**
+     * Calculates the tuition that a resident student owes from the student's credits and financial aid with the current TuitionRateTable, without needing a 'Resident' instance.
+     * @param credits the number of credits the student is taking this semester.
+     * @param financialAid the financial aid awarded to the student, in cents.
+     * @return the tuition owed, in cents.
+     */
+    public static long tuitionFor(int credits, long financialAid) {
+        return TuitionRateTable.getCurrent().residentTuition(credits, financialAid);
+    }
+    
+    /**
+     * Getter method to return a resident student's financial aid amount.
+     * @return the financial aid amount, in cents.
+     */
+    public long getFinancialAid() {
+        return financialAid;
+    }
+    
+    /**
+     * Setter method to set a resident student's financial aid.
+     * @param financialAid the amount in cents that the financial aid is to be set.
+     */
+    public void setFinancialAid(long financialAid) {
+        if (financialAid != this.financialAid)
+            markTuitionDirty();
+        this.financialAid = financialAid;
+    }
+    
+    /**
+     * Method that calls upon superclass appendTo() method and appends the textual representation of a 'Resident' student instance to a StringBuilder.
+     * @param row the StringBuilder that the student is appended to.
+     * @return the StringBuilder, so calls can be chained.
+     */
+    @Override
+    public StringBuilder appendTo(StringBuilder row) {
+        return appendFields(super.appendTo(row), financialAid);
+    }
+    
+    /**
+     * Method that appends the fields of a resident student, in the format of toString(), after the fields every student has.
+     * @param row the StringBuilder that the fields are appended to.
+     * @param financialAid the financial aid awarded to the student, in cents.
+     * @return the StringBuilder, so calls can be chained.
+     */
+    static StringBuilder appendFields(StringBuilder row, long financialAid) {
+        row.append("resident");
+        if (financialAid != 0)
+            Money.append(row.append(":financial aid $"), financialAid);
+        return row;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,610 @@
+package tuitionmanager;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Class that defines the 'Roster' abstract data type; an instance of Roster can hold a list of Student objects.
+ * Every student is kept as its own Student object; see ColumnarRoster for a roster that keeps the students' fields in primitive arrays.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class Roster implements StudentRoster {
+    
+    private Student[] roster;
+    private int size;  // keep track of the number of students in the roster
+    private StudentIndex index;  // the slot of every student in the roster by name and major
+    private boolean swapRemove;  // when true, remove() fills the gap with the last student instead of shifting
+    private Student[] sortedByStudentName;  // cached view of the roster ordered by name; null when it has to be rebuilt
+    private Student[] sortedByPaymentDate;  // cached view of the students who made payments ordered by date; null when it has to be rebuilt
+    private int parallelism;  // number of threads used to calculate tuition; 1 means the calculation is serial
+    private ForkJoinPool calculationPool;  // created the first time a parallel calculation runs
+    private RosterAggregates aggregates;  // running totals by major, student type, and state
+    
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int GROWTH_FACTOR = 2;
+    private static final int NOT_FOUND = -1;
+    private static final long MAXIMUM_FINANCIAL_AID = Money.dollars(10000);
+    private static final int SERIAL_PARALLELISM = 1;
+    private static final int PARALLEL_CALCULATION_THRESHOLD = 4096;  // smallest range of students worth splitting across threads
+    
+    private static final Comparator<Student> BY_STUDENT_NAME = 
+            (first, second) -> first.getProfile().getName().compareTo(second.getProfile().getName());
+    private static final Comparator<Student> BY_PAYMENT_DATE = 
+            (first, second) -> first.getLastPaymentDate().compareTo(second.getLastPaymentDate());
+    
+    /**
+     * Default constructor to instantiate an empty roster with a capacity of INITIAL_CAPACITY (or 4).
+     */
+    public Roster() {
+        this(INITIAL_CAPACITY, false);
+    }
+    
+    /**
+     * Parameterized constructor to instantiate an empty roster pre-sized to hold the expected number of students without growing.
+     * @param expectedCapacity the number of students the roster is expected to hold.
+     */
+    public Roster(int expectedCapacity) {
+        this(expectedCapacity, false);
+    }
+    
+    /**
+     * Parameterized constructor to instantiate an empty, pre-sized roster and choose how students are removed.
+     * In swap-remove mode a removal takes constant time by moving the last student into the vacated slot, so the roster no longer keeps insertion order.
+     * @param expectedCapacity the number of students the roster is expected to hold.
+     * @param swapRemove true to remove students by swapping in the last student, false to shift the following students up.
+     */
+    public Roster(int expectedCapacity, boolean swapRemove) {
+        if (expectedCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + expectedCapacity);
+        roster = new Student[expectedCapacity];
+        size = 0;  // Roster is initially empty 
+        index = new ProfileIndex(expectedCapacity);
+        this.swapRemove = swapRemove;
+        parallelism = SERIAL_PARALLELISM;
+        aggregates = new RosterAggregates();
+    }
+    
+    /**
+     * Class that defines the index of the students' slots, reading their names and majors from the profiles of the students in the roster.
+     */
+    private class ProfileIndex extends StudentIndex {
+        
+        /**
+         * Parameterized constructor that creates an empty index sized for the given number of students.
+         * @param capacity the number of students the index should hold without growing.
+         */
+        ProfileIndex(int capacity) {
+            super(capacity);
+        }
+        
+        /**
+         * Returns the name of the student in a slot of the roster.
+         * @param position the slot of the student.
+         * @return the name of the student.
+         */
+        @Override
+        String nameAt(int position) {
+            return roster[position].getProfile().getName();
+        }
+        
+        /**
+         * Returns the major code of the student in a slot of the roster.
+         * @param position the slot of the student.
+         * @return the ordinal of the student's major, or StudentIndex.NO_MAJOR.
+         */
+        @Override
+        byte majorAt(int position) {
+            return majorCode(roster[position].getProfile().getMajor());
+        }
+    }
+    
+    /**
+     * A private helper method to find a student in the roster by looking up its name and major in the index, without creating any objects.
+     * @param name the name of the student.
+     * @param major the major of the student, or null.
+     * @return the index at which the student was found in the roster; if not found, return NOT_FOUND (or -1).
+     */
+    private int find(String name, Major major) {
+        if (size == 0)
+            return NOT_FOUND;
+        return index.find(name, StudentIndex.majorCode(major));
+    }
+    
+    /**
+     * This method checks whether a student with the same profile (name and major) is in the roster.
+     * @param student the student that the application wants to search for.
+     * @return true if the student is in the roster, false otherwise.
+     */
+    @Override
+    public boolean contains(Student student) {
+        return contains(student.getProfile().getName(), student.getProfile().getMajor());
+    }
+    
+    /**
+     * This method checks whether a student with a name and major is in the roster, without creating any objects.
+     * @param name the name of the student.
+     * @param major the major of the student.
+     * @return true if the student is in the roster, false otherwise.
+     */
+    @Override
+    public boolean contains(String name, Major major) {
+        return find(name, major) != NOT_FOUND;
+    }
+    
+    /**
+     * Getter method to return the number of students in the roster.
+     * @return the number of students in the roster.
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+    
+    /**
+     * Getter method to return the number of students the roster can hold before its backing array has to grow.
+     * @return the capacity of the roster.
+     */
+    @Override
+    public int getCapacity() {
+        return roster.length;
+    }
+    
+    /**
+     * Getter method to return the student at a position in the roster, e.g. to write the roster to a snapshot.
+     * @param position the position of the student, from 0 to getSize() - 1.
+     * @return the student at that position.
+     */
+    @Override
+    public Student getStudent(int position) {
+        if (position < 0 || position >= size)
+            throw new IndexOutOfBoundsException("Index " + position + " out of bounds for length " + size);
+        return roster[position];
+    }
+    
+    /**
+     * A private helper method to copy the students in the roster into a new backing array of the given capacity.
+     * @param capacity the length of the new backing array; must not be smaller than the number of students.
+     */
+    private void resize(int capacity) {
+        Student[] newRoster = new Student[capacity];
+        System.arraycopy(roster, 0, newRoster, 0, size);
+        roster = newRoster;
+        index.ensureCapacity(capacity, size);
+    }
+    
+    /**
+     * A private helper method to automatically increase the capacity of the roster by a factor of GROWTH_FACTOR (or 2).
+     * Growing geometrically keeps the cost of copying the backing array amortized to a constant per added student.
+     */
+    private void grow() {
+        resize(Math.max(INITIAL_CAPACITY, roster.length * GROWTH_FACTOR));
+    }
+    
+    /**
+     * This method increases the capacity of the roster, if necessary, so that it can hold at least the given number of students without growing.
+     * The index grows to the new capacity as well, so adding the students does not rehash it repeatedly.
+     * @param minimumCapacity the number of students the roster should be able to hold.
+     */
+    @Override
+    public void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > roster.length)
+            resize(Math.max(minimumCapacity, roster.length * GROWTH_FACTOR));
+    }
+    
+    /**
+     * This method shrinks the capacity of the roster to the number of students it currently holds, releasing unused slots.
+     */
+    public void trimToSize() {
+        if (size < roster.length)
+            resize(size);
+    }
+    
+    /**
+     * This method adds a student to the roster if the student is not already in it.
+     * Checks if there is space to add the student; if not, invokes the 'grow()' method.
+     * @param student the student to be added to the roster.
+     * @return true if the student was added successfully, false otherwise.
+     */
+    @Override
+    public boolean add(Student student) {
+        if (find(student.getProfile().getName(), student.getProfile().getMajor()) != NOT_FOUND)
+            return false;
+        if (size == roster.length)
+           grow(); 
+        roster[size] = student;
+        index.insert(size);
+        size++;
+        aggregates.add(student);
+        invalidateSortedViews();
+        return true;
+    }
+    
+    /**
+     * This method removes a student from the roster if the roster is not empty and if the student is found within it.
+     * The students after the removed one are shifted up to keep their order, unless the roster is in swap-remove mode.
+     * @param student the student to be removed from the roster.
+     * @return true if the student was removed successfully, false otherwise.
+     */
+    @Override
+    public boolean remove(Student student) {
+        return remove(student.getProfile().getName(), student.getProfile().getMajor());
+    }
+    
+    /**
+     * This method removes the student with a name and major from the roster if the student is found within it, without creating any objects to find the student.
+     * The students after the removed one are shifted up to keep their order, unless the roster is in swap-remove mode.
+     * @param name the name of the student to be removed.
+     * @param major the major of the student to be removed.
+     * @return true if the student was removed successfully, false otherwise.
+     */
+    @Override
+    public boolean remove(String name, Major major) {
+        int indexOfStudent = find(name, major);
+        if (indexOfStudent == NOT_FOUND)
+            return false;
+        index.delete(indexOfStudent);
+        aggregates.remove(roster[indexOfStudent]);
+        int lastIndex = size - 1;
+        if (swapRemove) {
+            if (indexOfStudent != lastIndex) {
+                roster[indexOfStudent] = roster[lastIndex];
+                index.reindex(lastIndex, indexOfStudent);
+            }
+        }
+        else {
+            for (int i = indexOfStudent + 1; i < size; i++) {
+                roster[i - 1] = roster[i];
+                index.reindex(i, i - 1);
+            }
+        }
+        roster[lastIndex] = null;
+        size--;
+        invalidateSortedViews();
+        return true;
+    }
+    
+    /**
+     * Setter method to set the number of threads that calculateTuition() splits the roster across.
+     * @param parallelism the number of threads to use; 1 calculates tuition serially on the calling thread.
+     */
+    @Override
+    public void setParallelism(int parallelism) {
+        if (parallelism < SERIAL_PARALLELISM)
+            throw new IllegalArgumentException("Illegal parallelism: " + parallelism);
+        if (parallelism != this.parallelism && calculationPool != null) {
+            calculationPool.shutdown();
+            calculationPool = null;
+        }
+        this.parallelism = parallelism;
+    }
+    
+    /**
+     * This method calculates the tuition for every student in the roster whose tuition is dirty by invoking the 'tuitionDue()' method which is implemented differently in different classes.
+     * Students whose credits, payments, financial aid, and study abroad status have not changed since their last calculation are skipped.
+     * When the parallelism is greater than 1 and the roster is large enough, the roster is split into ranges that are calculated on a fork-join pool.
+     * Every student's tuition depends only on that student, so the results are identical to the serial calculation.
+     * @return the number of students whose tuition was recalculated.
+     */
+    @Override
+    public int calculateTuition() {
+        if (parallelism == SERIAL_PARALLELISM || size < PARALLEL_CALCULATION_THRESHOLD)
+            return calculateTuition(roster, 0, size, aggregates);
+        if (calculationPool == null)
+            calculationPool = new ForkJoinPool(parallelism);
+        int rangeSize = Math.max(PARALLEL_CALCULATION_THRESHOLD, size / (parallelism * 4));
+        TuitionCalculation calculation = new TuitionCalculation(roster, 0, size, rangeSize);
+        int recalculatedStudents = calculationPool.invoke(calculation);
+        aggregates.addAll(calculation.changes);
+        return recalculatedStudents;
+    }
+    
+    /**
+     * Private helper method to calculate the tuition for the dirty students in a range of students.
+     * @param students the students in the roster.
+     * @param from the index of the first student in the range.
+     * @param to the index one past the last student in the range.
+     * @param changes the aggregates that the changes in tuition owed are added to.
+     * @return the number of students whose tuition was recalculated.
+     */
+    private static int calculateTuition(Student[] students, int from, int to, RosterAggregates changes) {
+        int recalculatedStudents = 0;
+        for (int i = from; i < to; i++) {
+            long tuitionOwed = students[i].getTuitionOwed();
+            if (students[i].updateTuitionIfDirty()) {
+                changes.change(students[i], students[i].getTuitionOwed() - tuitionOwed, 0, 0);
+                recalculatedStudents++;
+            }
+        }
+        return recalculatedStudents;
+    }
+    
+    /**
+     * Class that defines a fork-join task which calculates the tuition for a range of students, splitting the range in half until it is small enough to calculate directly.
+     */
+    private static class TuitionCalculation extends RecursiveTask<Integer> {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final Student[] students;
+        private final int from;
+        private final int to;
+        private final int rangeSize;
+        private final RosterAggregates changes;  // the changes in tuition owed in the range; merged by the parent task
+        
+        /**
+         * Parameterized constructor that creates a task for the students in the range [from, to).
+         * @param students the students in the roster.
+         * @param from the index of the first student in the range.
+         * @param to the index one past the last student in the range.
+         * @param rangeSize the largest range that is calculated without splitting it further.
+         */
+        TuitionCalculation(Student[] students, int from, int to, int rangeSize) {
+            this.students = students;
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+            changes = RosterAggregates.unstriped();
+        }
+        
+        /**
+         * Calculates the range directly if it is small enough; otherwise splits it in half and calculates both halves in parallel.
+         * @return the number of students in the range whose tuition was recalculated.
+         */
+        @Override
+        protected Integer compute() {
+            if (to - from <= rangeSize)
+                return calculateTuition(students, from, to, changes);
+            int middle = (from + to) >>> 1;
+            TuitionCalculation firstHalf = new TuitionCalculation(students, from, middle, rangeSize);
+            TuitionCalculation secondHalf = new TuitionCalculation(students, middle, to, rangeSize);
+            firstHalf.fork();
+            int recalculatedStudents = secondHalf.compute() + firstHalf.join();
+            changes.addAll(firstHalf.changes);
+            changes.addAll(secondHalf.changes);
+            return recalculatedStudents;
+        }
+    }
+    
+    /**
+     * This method processes student tuition payments and recalculates the tuition that the student owes.
+     * @param studentToUpdate the student that the application wants to update the information for.
+     * @param paymentAmount the amount of money in cents that the student is paying towards tuition.
+     * @param dateOfPayment the date that the student is making a payment on.
+     * @param output the output sink that error messages are written to.
+     * @return true if the payment was successfully processed, false otherwise.
+     */
+    @Override
+    public boolean processPayment(Student studentToUpdate, long paymentAmount, Date dateOfPayment, OutputSink output) {
+        Profile profile = studentToUpdate.getProfile();
+        return applyPayment(profile.getName(), profile.getMajor(), paymentAmount, dateOfPayment, output);
+    }
+    
+    /**
+     * This method applies a tuition payment to the student with a name and major, without creating any objects to find the student.
+     * @param name the name of the student who is paying.
+     * @param major the major of the student who is paying.
+     * @param paymentAmount the amount of money in cents that the student is paying towards tuition.
+     * @param dateOfPayment the date that the student is making a payment on.
+     * @param output the output sink that error messages are written to.
+     * @return true if the payment was successfully processed, false otherwise.
+     */
+    @Override
+    public boolean applyPayment(String name, Major major, long paymentAmount, Date dateOfPayment, OutputSink output) {
+        int studentIndex = find(name, major);
+        if (studentIndex == NOT_FOUND)
+            return false;
+        Student student = roster[studentIndex];
+        if (paymentAmount > student.getTuitionOwed()) {
+            output.println("Amount is greater than amount due.");
+            return false;
+        }
+        student.setTotalTuitionPaid(student.getTotalTuitionPaid() + paymentAmount);
+        student.setTuitionOwed(student.getTuitionOwed() - paymentAmount);
+        student.setLastPaymentDate(dateOfPayment);
+        aggregates.change(student, -paymentAmount, paymentAmount, 0);
+        sortedByPaymentDate = null;
+        return true;
+    }
+    
+    /**
+     * This method sets the study abroad status of an international student to true.
+     * @param internationalStudent the international student whose study abroad status we want to set to true.
+     * @param studyAbroadStatus boolean value (true/false) that dictates whether or not an international student is studying abroad.
+     * @param output the output sink that error messages are written to.
+     * @return true if international student's study abroad status was changed successfully, false otherwise.
+     */
+    @Override
+    public boolean setStudyAbroadToTrue(International internationalStudent, boolean studyAbroadStatus, OutputSink output) {
+        Profile profile = internationalStudent.getProfile();
+        return setStudyAbroad(profile.getName(), profile.getMajor(), studyAbroadStatus, output);
+    }
+    
+    /**
+     * This method sets the study abroad status of the international student with a name and major, without creating any objects to find the student.
+     * @param name the name of the international student.
+     * @param major the major of the international student.
+     * @param studyAbroadStatus boolean value (true/false) that dictates whether or not the student is studying abroad.
+     * @param output the output sink that error messages are written to.
+     * @return true if the study abroad status was changed successfully, false otherwise.
+     */
+    @Override
+    public boolean setStudyAbroad(String name, Major major, boolean studyAbroadStatus, OutputSink output) {
+        int internationalStudentIndex = find(name, major);
+        if (internationalStudentIndex == NOT_FOUND) {
+            output.println("Couldn't find the international student."); return false;
+        }
+        if (!(roster[internationalStudentIndex] instanceof International)) {
+            output.println("Couldn't find the international student."); return false;
+        }
+        International studentConvertedToInternational = (International)roster[internationalStudentIndex];
+        long tuitionOwed = studentConvertedToInternational.getTuitionOwed();
+        long totalTuitionPaid = studentConvertedToInternational.getTotalTuitionPaid();
+        if (studentConvertedToInternational.getCredits() > TuitionManager.MINIMUM_INTERNATIONAL_CREDITS) {
+            studentConvertedToInternational.setCredits(TuitionManager.MINIMUM_INTERNATIONAL_CREDITS);
+        }
+        studentConvertedToInternational.setTotalTuitionPaid(0);
+        studentConvertedToInternational.setLastPaymentDate(null);
+        sortedByPaymentDate = null;
+        studentConvertedToInternational.setStudyAbroadStatus(studyAbroadStatus);
+        studentConvertedToInternational.updateTuitionIfDirty();
+        aggregates.change(studentConvertedToInternational, studentConvertedToInternational.getTuitionOwed() - tuitionOwed, -totalTuitionPaid, 0);
+        return true;
+    }
+    
+    /**
+     * This method sets the financial aid amount for a resident student.
+     * @param residentStudent an instance of a 'Resident' student whose financial aid amount we are updating.
+     * @param financialAidAmount the amount of financial aid in cents to be set.
+     * @param output the output sink that error messages are written to.
+     * @return true if resident student's financial aid amount was successfully changed, false otherwise.
+     */
+    @Override
+    public boolean setFinancialAid(Resident residentStudent, long financialAidAmount, OutputSink output) {
+        Profile profile = residentStudent.getProfile();
+        return awardAid(profile.getName(), profile.getMajor(), financialAidAmount, output);
+    }
+    
+    /**
+     * This method awards financial aid to the resident student with a name and major, without creating any objects to find the student.
+     * @param name the name of the resident student.
+     * @param major the major of the resident student.
+     * @param financialAidAmount the amount of financial aid in cents to be awarded.
+     * @param output the output sink that error messages are written to.
+     * @return true if the financial aid was awarded successfully, false otherwise.
+     */
+    @Override
+    public boolean awardAid(String name, Major major, long financialAidAmount, OutputSink output) {
+        int residentStudentIndex = find(name, major);
+        if (residentStudentIndex == NOT_FOUND) {
+            output.println("Student not in the roster."); return false;
+        }
+        if (!(roster[residentStudentIndex] instanceof Resident)) {
+            output.println("Not a resident student."); return false;
+        }
+        Resident studentConvertedToResident = (Resident)roster[residentStudentIndex];
+        if (financialAidAmount < 0 || financialAidAmount > MAXIMUM_FINANCIAL_AID) {
+            output.println("Invalid amount."); return false;
+        }
+        if (studentConvertedToResident.getFinancialAid() != 0) {
+            output.println("Awarded once already."); return false;
+        }
+        if (studentConvertedToResident.getCredits() < Student.MINIMUM_FULL_TIME_CREDITS) {
+            output.println("Parttime student doesn't qualify for the award."); return false;
+        }
+        long tuitionOwed = studentConvertedToResident.getTuitionOwed();
+        studentConvertedToResident.setFinancialAid(financialAidAmount);
+        studentConvertedToResident.updateTuitionIfDirty();
+        aggregates.change(studentConvertedToResident, studentConvertedToResident.getTuitionOwed() - tuitionOwed, 0, financialAidAmount);
+        return true;
+    }
+    
+    /**
+     * Getter method to return the totals of the students in the roster by major, student type, and state; they are kept up to date as the roster changes.
+     * @return a copy of the aggregates.
+     */
+    @Override
+    public RosterAggregates getAggregates() {
+        return aggregates.copy();
+    }
+    
+    /**
+     * Print out the list of students in the roster.
+     * If the collection is empty, print a message to the console letting the user know.
+     * @param output the output sink that the list is written to.
+     */
+    @Override
+    public void print(OutputSink output) {
+        if (size == 0) {
+            output.println("Student roster is empty!"); return;
+        }
+        output.println("* list of students in the roster **");
+        StringBuilder row = new StringBuilder(Student.ROW_CAPACITY);
+        for (int i = 0; i < size; i++) {
+            row.setLength(0);
+            output.println(roster[i].appendTo(row));
+        }
+        output.println("* end of roster **");
+    }
+    
+    /**
+     * Print out the list of students in the roster sorted by payment date from oldest to newest.
+     * Students with the same payment date are printed in the order they are held in the roster.
+     * @param output the output sink that the list is written to.
+     */
+    @Override
+    public void printByPaymentDate(OutputSink output) {
+        if (size == 0) {
+            output.println("Student roster is empty!"); return;
+        }
+        output.println("* list of students made payments ordered by payment date **");
+        StringBuilder row = new StringBuilder(Student.ROW_CAPACITY);
+        for (Student student : sortByPaymentDate()) {
+            row.setLength(0);
+            output.println(student.appendTo(row));
+        }
+        output.println("* end of roster **");
+    }
+    
+    /**
+     * Print out the list of students in the roster sorted by student name in alphabetical order.
+     * Students with the same name are printed in the order they are held in the roster.
+     * @param output the output sink that the list is written to.
+     */
+    @Override
+    public void printByStudentName(OutputSink output) {
+        if (size == 0) {
+            output.println("Student roster is empty!"); return;
+        }
+        output.println("* list of students ordered by name **");
+        StringBuilder row = new StringBuilder(Student.ROW_CAPACITY);
+        for (Student student : sortByStudentName()) {
+            row.setLength(0);
+            output.println(student.appendTo(row));
+        }
+        output.println("* end of roster **");
+    }
+    
+    /**
+     * Private helper method to discard the cached sorted views after the set of students in the roster has changed.
+     */
+    private void invalidateSortedViews() {
+        sortedByStudentName = null;
+        sortedByPaymentDate = null;
+    }
+    
+    /**
+     * Private helper method to return the students who made payments sorted according to payment date (from oldest to newest).
+     * The view is sorted once and reused until a student is added or removed or a payment date changes; the roster itself is never reordered.
+     * @return the students who made payments, sorted by payment date, represented as an array of Student objects.
+     */
+    private Student[] sortByPaymentDate() {
+        if (sortedByPaymentDate == null) {
+            Student[] studentsWithPayments = new Student[size];
+            int numberOfStudentsWithPayments = 0;
+            for (int i = 0; i < size; i++) {
+                if (roster[i].getLastPaymentDate() != null)
+                    studentsWithPayments[numberOfStudentsWithPayments++] = roster[i];
+            }
+            studentsWithPayments = Arrays.copyOf(studentsWithPayments, numberOfStudentsWithPayments);
+            Arrays.sort(studentsWithPayments, BY_PAYMENT_DATE);
+            sortedByPaymentDate = studentsWithPayments;
+        }
+        return sortedByPaymentDate;
+    }
+    
+    /**
+     * Private helper method to return the students in the roster sorted alphabetically according to name.
+     * The view is sorted once and reused until a student is added or removed; the roster itself is never reordered.
+     * @return the students in the roster, sorted by name, represented as an array of Student objects.
+     */
+    private Student[] sortByStudentName() {
+        if (sortedByStudentName == null) {
+            Student[] students = Arrays.copyOf(roster, size);
+            Arrays.sort(students, BY_STUDENT_NAME);
+            sortedByStudentName = students;
+        }
+        return sortedByStudentName;
+    }
+}
\ No newline at end of file
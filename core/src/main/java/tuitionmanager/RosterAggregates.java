@@ -0,0 +1,404 @@
+package tuitionmanager;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Class that defines the 'Roster Aggregates' abstract data type; running totals of a roster's students grouped by major, by student type, and by state (tri-state students only).
+ * For every group it keeps the number of students, the tuition they owe, the tuition they have paid, and the financial aid they were awarded.
+ * A roster updates its aggregates in constant time whenever it adds or removes a student, applies a payment or financial aid, changes a study abroad status, or recalculates tuition,
+ * so a summary never has to scan the roster. Students without a major are only counted in their student type and state, and students of no particular type only in their major.
+ * The totals are split across striped cells: the changes of a student always go to the stripe chosen by the hash of its profile, under that stripe's own lock,
+ * so the changes of a shared roster to different students are applied in parallel. Reading a total adds up the stripes with optimistic reads that do not block the changes;
+ * every change to a student is seen whole or not at all, and the changes to one student are seen in order.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class RosterAggregates {
+    
+    private final Stripe[] stripes;
+    
+    private static final Major[] MAJORS = Major.values();
+    private static final StudentType[] TYPES = StudentType.values();
+    private static final State[] STATES = State.values();
+    private static final int FIRST_TYPE_GROUP = MAJORS.length;
+    private static final int FIRST_STATE_GROUP = FIRST_TYPE_GROUP + TYPES.length;
+    private static final int NUMBER_OF_GROUPS = FIRST_STATE_GROUP + STATES.length;
+    private static final int NO_GROUP = -1;
+    private static final String[] TYPE_NAMES = { "Resident", "Non-Resident", "Tri-State", "International" };
+    private static final int COUNT = 0;  // the number of students in a group; the cells of a group follow each other in a stripe
+    private static final int TUITION_OWED = 1;  // amounts of money are in cents, so the totals do not drift however many changes are added up
+    private static final int TUITION_PAID = 2;
+    private static final int FINANCIAL_AID = 3;
+    private static final int CELLS_PER_GROUP = 4;
+    private static final int NUMBER_OF_CELLS = NUMBER_OF_GROUPS * CELLS_PER_GROUP;
+    private static final int MINIMUM_STRIPES = 16;
+    private static final int STRIPES_PER_PROCESSOR = 4;
+    
+    /**
+     * Class that defines one stripe of the totals: a cell for every total of every group, guarded by a lock of its own.
+     */
+    private static final class Stripe {
+        
+        final StampedLock lock = new StampedLock();  // written by the changes to the students of the stripe; read optimistically
+        final long[] cells = new long[NUMBER_OF_CELLS];
+        
+        /**
+         * Adds the cells of the stripe to the given totals, retrying under the read lock if a change was made while they were read.
+         * @param totals the totals, one for every cell.
+         */
+        void addTo(long[] totals) {
+            long[] view = new long[NUMBER_OF_CELLS];
+            long stamp = lock.tryOptimisticRead();
+            System.arraycopy(cells, 0, view, 0, NUMBER_OF_CELLS);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    System.arraycopy(cells, 0, view, 0, NUMBER_OF_CELLS);
+                }
+                finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            for (int cell = 0; cell < NUMBER_OF_CELLS; cell++)
+                totals[cell] += view[cell];
+        }
+        
+        /**
+         * Reads one cell of the stripe, retrying under the read lock if a change was made while it was read.
+         * @param cell the cell.
+         * @return the value of the cell.
+         */
+        long get(int cell) {
+            long stamp = lock.tryOptimisticRead();
+            long value = cells[cell];
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    value = cells[cell];
+                }
+                finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return value;
+        }
+    }
+    
+    /**
+     * Default constructor to instantiate aggregates of an empty roster, with four stripes per available processor (at least 16).
+     */
+    public RosterAggregates() {
+        this(Math.max(MINIMUM_STRIPES, STRIPES_PER_PROCESSOR * Runtime.getRuntime().availableProcessors()));
+    }
+    
+    /**
+     * Private constructor to instantiate aggregates of an empty roster with a number of stripes.
+     * @param numberOfStripes the number of stripes; rounded up to a power of 2.
+     */
+    private RosterAggregates(int numberOfStripes) {
+        int stripeCount = Integer.highestOneBit(numberOfStripes);
+        if (stripeCount < numberOfStripes)
+            stripeCount *= 2;
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++)
+            stripes[i] = new Stripe();
+    }
+    
+    /**
+     * This method creates aggregates of an empty roster with a single stripe, for changes that are collected by one thread and then added to the aggregates of a roster,
+     * e.g. by one range of a parallel tuition calculation.
+     * @return the new aggregates.
+     */
+    static RosterAggregates unstriped() {
+        return new RosterAggregates(1);
+    }
+    
+    /**
+     * This method makes a copy of the aggregates that does not change when the roster changes. The stripes are read without blocking the changes to the roster.
+     * @return the copy, which has a single stripe.
+     */
+    public RosterAggregates copy() {
+        RosterAggregates copy = unstriped();
+        System.arraycopy(totals(), 0, copy.stripes[0].cells, 0, NUMBER_OF_CELLS);
+        return copy;
+    }
+    
+    /**
+     * Private helper method to add up the stripes.
+     * @return the totals, one for every cell.
+     */
+    private long[] totals() {
+        long[] totals = new long[NUMBER_OF_CELLS];
+        for (Stripe stripe : stripes)
+            stripe.addTo(totals);
+        return totals;
+    }
+    
+    /**
+     * Private helper method to add up one cell of every stripe.
+     * @param group the group.
+     * @param total the total of the group, e.g. TUITION_PAID.
+     * @return the total.
+     */
+    private long total(int group, int total) {
+        long sum = 0;
+        for (Stripe stripe : stripes)
+            sum += stripe.get(group * CELLS_PER_GROUP + total);
+        return sum;
+    }
+    
+    /**
+     * This method updates the totals of the groups of a student by the given changes, in the stripe of the student.
+     * @param studentHash the hash code of the profile of the student, which chooses the stripe.
+     * @param type the type of the student, or null.
+     * @param major the major of the student, or null.
+     * @param state the state of a tri-state student, or null.
+     * @param countChange 1 if the student was added, -1 if the student was removed, 0 otherwise.
+     * @param owedChange the change in the tuition the student owes.
+     * @param paidChange the change in the tuition the student has paid.
+     * @param aidChange the change in the financial aid of the student.
+     */
+    void update(int studentHash, StudentType type, Major major, State state, int countChange, long owedChange, long paidChange, long aidChange) {
+        Stripe stripe = stripes[(studentHash ^ (studentHash >>> 16)) & (stripes.length - 1)];
+        long stamp = stripe.lock.writeLock();
+        try {
+            updateGroup(stripe.cells, type == null ? NO_GROUP : FIRST_TYPE_GROUP + type.ordinal(), countChange, owedChange, paidChange, aidChange);
+            updateGroup(stripe.cells, major == null ? NO_GROUP : major.ordinal(), countChange, owedChange, paidChange, aidChange);
+            updateGroup(stripe.cells, state == null ? NO_GROUP : FIRST_STATE_GROUP + state.ordinal(), countChange, owedChange, paidChange, aidChange);
+        }
+        finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * Private helper method to update the totals of one group in the cells of a stripe.
+     * @param cells the cells of the stripe.
+     * @param group the group, or NO_GROUP to do nothing.
+     * @param countChange the change in the number of students.
+     * @param owedChange the change in the tuition owed.
+     * @param paidChange the change in the tuition paid.
+     * @param aidChange the change in the financial aid.
+     */
+    private static void updateGroup(long[] cells, int group, long countChange, long owedChange, long paidChange, long aidChange) {
+        if (group == NO_GROUP)
+            return;
+        int firstCell = group * CELLS_PER_GROUP;
+        cells[firstCell + COUNT] += countChange;
+        cells[firstCell + TUITION_OWED] += owedChange;
+        cells[firstCell + TUITION_PAID] += paidChange;
+        cells[firstCell + FINANCIAL_AID] += aidChange;
+    }
+    
+    /**
+     * This method adds a student that joined the roster to the totals of its groups.
+     * @param student the student.
+     */
+    void add(Student student) {
+        update(student, 1, student.getTuitionOwed(), student.getTotalTuitionPaid(), aidOf(student));
+    }
+    
+    /**
+     * This method takes a student that left the roster out of the totals of its groups.
+     * @param student the student.
+     */
+    void remove(Student student) {
+        update(student, -1, -student.getTuitionOwed(), -student.getTotalTuitionPaid(), -aidOf(student));
+    }
+    
+    /**
+     * This method updates the totals of the groups of a student that stays in the roster.
+     * @param student the student.
+     * @param owedChange the change in the tuition the student owes.
+     * @param paidChange the change in the tuition the student has paid.
+     * @param aidChange the change in the financial aid of the student.
+     */
+    void change(Student student, long owedChange, long paidChange, long aidChange) {
+        update(student, 0, owedChange, paidChange, aidChange);
+    }
+    
+    /**
+     * Private helper method to update the totals of the groups of a student.
+     * @param student the student.
+     * @param countChange the change in the number of students.
+     * @param owedChange the change in the tuition owed.
+     * @param paidChange the change in the tuition paid.
+     * @param aidChange the change in the financial aid.
+     */
+    private void update(Student student, int countChange, long owedChange, long paidChange, long aidChange) {
+        State state = (student instanceof TriState) ? ((TriState)student).getState() : null;
+        StudentType type = (student instanceof Resident || student instanceof NonResident) ? StudentType.of(student) : null;
+        update(student.getProfile().hashCode(), type, student.getProfile().getMajor(), state, countChange, owedChange, paidChange, aidChange);
+    }
+    
+    /**
+     * Private helper method to find the financial aid of a student.
+     * @param student the student.
+     * @return the financial aid of a resident in cents, 0 for any other student.
+     */
+    private static long aidOf(Student student) {
+        return (student instanceof Resident) ? ((Resident)student).getFinancialAid() : 0;
+    }
+    
+    /**
+     * This method adds the totals of other aggregates to these, e.g. the changes made by one range of a parallel tuition calculation; they go to the first stripe.
+     * @param aggregates the aggregates to add.
+     */
+    void addAll(RosterAggregates aggregates) {
+        long[] changes = aggregates.totals();
+        Stripe stripe = stripes[0];
+        long stamp = stripe.lock.writeLock();
+        try {
+            for (int cell = 0; cell < NUMBER_OF_CELLS; cell++)
+                stripe.cells[cell] += changes[cell];
+        }
+        finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * This method resets every total to 0.
+     */
+    void clear() {
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.writeLock();
+            try {
+                Arrays.fill(stripe.cells, 0);
+            }
+            finally {
+                stripe.lock.unlockWrite(stamp);
+            }
+        }
+    }
+    
+    /**
+     * Getter method to return the number of students with a major.
+     * @param major the major.
+     * @return the number of students.
+     */
+    public int getCount(Major major) {
+        return (int)total(major.ordinal(), COUNT);
+    }
+    
+    /**
+     * Getter method to return the tuition owed by the students with a major.
+     * @param major the major.
+     * @return the total tuition owed, in cents.
+     */
+    public long getTuitionOwed(Major major) {
+        return total(major.ordinal(), TUITION_OWED);
+    }
+    
+    /**
+     * Getter method to return the tuition paid by the students with a major.
+     * @param major the major.
+     * @return the total tuition paid, in cents.
+     */
+    public long getTuitionPaid(Major major) {
+        return total(major.ordinal(), TUITION_PAID);
+    }
+    
+    /**
+     * Getter method to return the financial aid awarded to the students with a major.
+     * @param major the major.
+     * @return the total financial aid, in cents.
+     */
+    public long getFinancialAid(Major major) {
+        return total(major.ordinal(), FINANCIAL_AID);
+    }
+    
+    /**
+     * Getter method to return the number of students of a type.
+     * @param type the student type.
+     * @return the number of students.
+     */
+    public int getCount(StudentType type) {
+        return (int)total(FIRST_TYPE_GROUP + type.ordinal(), COUNT);
+    }
+    
+    /**
+     * Getter method to return the tuition owed by the students of a type.
+     * @param type the student type.
+     * @return the total tuition owed, in cents.
+     */
+    public long getTuitionOwed(StudentType type) {
+        return total(FIRST_TYPE_GROUP + type.ordinal(), TUITION_OWED);
+    }
+    
+    /**
+     * Getter method to return the tuition paid by the students of a type.
+     * @param type the student type.
+     * @return the total tuition paid, in cents.
+     */
+    public long getTuitionPaid(StudentType type) {
+        return total(FIRST_TYPE_GROUP + type.ordinal(), TUITION_PAID);
+    }
+    
+    /**
+     * Getter method to return the financial aid awarded to the students of a type.
+     * @param type the student type.
+     * @return the total financial aid, in cents.
+     */
+    public long getFinancialAid(StudentType type) {
+        return total(FIRST_TYPE_GROUP + type.ordinal(), FINANCIAL_AID);
+    }
+    
+    /**
+     * Getter method to return the number of tri-state students from a state.
+     * @param state the state.
+     * @return the number of students.
+     */
+    public int getCount(State state) {
+        return (int)total(FIRST_STATE_GROUP + state.ordinal(), COUNT);
+    }
+    
+    /**
+     * Getter method to return the tuition owed by the tri-state students from a state.
+     * @param state the state.
+     * @return the total tuition owed, in cents.
+     */
+    public long getTuitionOwed(State state) {
+        return total(FIRST_STATE_GROUP + state.ordinal(), TUITION_OWED);
+    }
+    
+    /**
+     * Getter method to return the tuition paid by the tri-state students from a state.
+     * @param state the state.
+     * @return the total tuition paid, in cents.
+     */
+    public long getTuitionPaid(State state) {
+        return total(FIRST_STATE_GROUP + state.ordinal(), TUITION_PAID);
+    }
+    
+    /**
+     * Print out the totals of every major, student type, and state, all read at once without blocking the changes to the roster.
+     * @param output the output sink that the summary is written to.
+     */
+    public void print(OutputSink output) {
+        long[] totals = totals();
+        output.println("* summary by major **");
+        for (Major major : MAJORS)
+            printGroup(Major.convertMajorToString(major), major.ordinal(), totals, output);
+        output.println("* summary by student type **");
+        for (StudentType type : TYPES)
+            printGroup(TYPE_NAMES[type.ordinal()], FIRST_TYPE_GROUP + type.ordinal(), totals, output);
+        output.println("* summary by state **");
+        for (State state : STATES)
+            printGroup(State.convertStateToString(state), FIRST_STATE_GROUP + state.ordinal(), totals, output);
+        output.println("* end of summary **");
+    }
+    
+    /**
+     * Private helper method to print out the totals of one group.
+     * @param name the name of the group.
+     * @param group the group.
+     * @param totals the totals of every cell.
+     * @param output the output sink that the line is written to.
+     */
+    private static void printGroup(String name, int group, long[] totals, OutputSink output) {
+        int firstCell = group * CELLS_PER_GROUP;
+        output.println(name + ":" + totals[firstCell + COUNT] + " students:tuition due:" + Money.format(totals[firstCell + TUITION_OWED]) + ":total payment:"
+                + Money.format(totals[firstCell + TUITION_PAID]) + ":financial aid:" + Money.format(totals[firstCell + FINANCIAL_AID]));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,421 @@
+package tuitionmanager;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Class that saves a roster to, and restores it from, a versioned binary snapshot file.
+ * The file starts with a header (magic number, format version, number of students, and the length of the command journal the snapshot covers),
+ * followed by one record per student in roster order: student type, major, name, credits, tuition owed, total tuition paid, last payment date,
+ * whether the tuition has to be recalculated, and the field of the student's subclass (financial aid, state, or study abroad status).
+ * Since version 2 the students are followed by the payment ledger: the number of payments, then one record per payment in the order they were recorded
+ * (major, name, payment date, and amount). A version 1 snapshot is restored with an empty ledger.
+ * Since version 3 every amount of money is stored as a long number of cents; the doubles of dollars in older snapshots are rounded to the nearest cent.
+ * Since version 4 the header also holds a fingerprint of the TuitionRateTable the tuition was calculated with; if the current rates differ,
+ * or an older snapshot is restored with other than the default rates, every restored student has its tuition recalculated by the next calculation.
+ * Since version 5 the header also holds a fingerprint of the command journal the snapshot covers, or a mark that it was saved without one,
+ * so checkJournal() can refuse to replay a journal that the snapshot does not belong to.
+ * A snapshot is written sequentially to a temporary file that replaces the old snapshot only once it is complete, and it is read in one pass through a memory-mapped buffer.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class RosterSnapshot {
+    
+    private final int numberOfStudents;
+    private final int numberOfPayments;
+    private final long journalLength;
+    private final short version;
+    private final long journalFingerprint;
+    
+    private static final int MAGIC_NUMBER = 0x544D5253;  // "TMRS"
+    private static final short FORMAT_VERSION = 5;
+    private static final short FIRST_VERSION_WITH_LEDGER = 2;
+    private static final short FIRST_VERSION_WITH_CENTS = 3;
+    private static final short FIRST_VERSION_WITH_RATES = 4;
+    private static final short FIRST_VERSION_WITH_JOURNAL_FINGERPRINT = 5;
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES + Long.BYTES;  // before version 4, which adds the fingerprint of the rates, and version 5, which adds that of the journal
+    private static final int FIXED_RECORD_SIZE = 2 * Byte.BYTES + Integer.BYTES + Integer.BYTES + 2 * Long.BYTES + Integer.BYTES + Byte.BYTES;
+    private static final int LARGEST_SUBCLASS_FIELD_SIZE = Long.BYTES;
+    private static final int FIXED_PAYMENT_RECORD_SIZE = Byte.BYTES + Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int WRITE_BUFFER_SIZE = 256 * 1024;
+    
+    private static final byte NONE = -1;  // stored for a missing major or state
+    private static final int NO_PAYMENT_DATE = Date.INVALID_FORMAT;
+    private static final long NO_JOURNAL = -1;  // stored as the journal fingerprint of a snapshot saved without a journal; a real fingerprint is never negative
+    
+    /**
+     * Private constructor that holds the header of a snapshot that has been read.
+     * @param numberOfStudents the number of students restored from the snapshot.
+     * @param numberOfPayments the number of payments in the ledger of the snapshot.
+     * @param journalLength the length in bytes of the command journal that the snapshot covers.
+     * @param version the format version of the snapshot.
+     * @param journalFingerprint the fingerprint of the covered part of the journal, or NO_JOURNAL if the snapshot was saved without a journal or before version 5.
+     */
+    private RosterSnapshot(int numberOfStudents, int numberOfPayments, long journalLength, short version, long journalFingerprint) {
+        this.numberOfStudents = numberOfStudents;
+        this.numberOfPayments = numberOfPayments;
+        this.journalLength = journalLength;
+        this.version = version;
+        this.journalFingerprint = journalFingerprint;
+    }
+    
+    /**
+     * Getter method to return the number of students restored from the snapshot.
+     * @return the number of students.
+     */
+    public int getNumberOfStudents() {
+        return numberOfStudents;
+    }
+    
+    /**
+     * Getter method to return the number of payments in the ledger of the snapshot.
+     * @return the number of payments; 0 for a version 1 snapshot.
+     */
+    public int getNumberOfPayments() {
+        return numberOfPayments;
+    }
+    
+    /**
+     * Getter method to return the length of the command journal the snapshot covers; only the commands after it have to be replayed.
+     * @return the length of the command journal in bytes, or 0 if the snapshot was taken without a journal.
+     */
+    public long getJournalLength() {
+        return journalLength;
+    }
+    
+    /**
+     * This method checks that a command journal is the one the snapshot covers, before the journal is replayed from getJournalLength() on top of the restored roster.
+     * A snapshot saved without a journal only goes with an empty journal, since it cannot tell which commands of the journal it already holds;
+     * otherwise the journal must be at least as long as the part the snapshot covers, and that part must still have the recorded fingerprint.
+     * A snapshot older than version 5 records no fingerprint and is not checked.
+     * @param journalFile the path of the journal file; a missing file counts as an empty journal.
+     * @throws IOException if the journal cannot be read, or the snapshot does not belong to it, so replaying it would apply commands twice or skip them.
+     */
+    public void checkJournal(Path journalFile) throws IOException {
+        if (version < FIRST_VERSION_WITH_JOURNAL_FINGERPRINT)
+            return;
+        long journalSize = Files.exists(journalFile) ? Files.size(journalFile) : 0;
+        if (journalFingerprint == NO_JOURNAL) {
+            if (journalSize > 0)
+                throw new IOException("Snapshot was saved without a journal, so it may already hold the commands of " + journalFile);
+        }
+        else if (journalSize < journalLength || CommandJournal.fingerprint(journalFile, journalLength) != journalFingerprint)
+            throw new IOException("Snapshot does not belong to the journal " + journalFile);
+    }
+    
+    /**
+     * This method writes every student in a roster to a snapshot file with an empty payment ledger, replacing the file only once the snapshot is complete and forced to disk.
+     * The snapshot does not record which journal it covers, so checkJournal() only accepts it together with an empty journal.
+     * @param roster the roster to be saved.
+     * @param journalLength the length in bytes of the command journal whose commands are all reflected in the roster, or 0 if there is no journal.
+     * @param snapshotFile the path of the snapshot file.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    public static void write(StudentRoster roster, long journalLength, Path snapshotFile) throws IOException {
+        write(roster, new PaymentLedger(), journalLength, snapshotFile);
+    }
+    
+    /**
+     * This method writes every student in a roster and every payment in a ledger to a snapshot file, replacing the file only once the snapshot is complete and forced to disk.
+     * The snapshot does not record which journal it covers, so checkJournal() only accepts it together with an empty journal.
+     * @param roster the roster to be saved.
+     * @param ledger the payment ledger to be saved.
+     * @param journalLength the length in bytes of the command journal whose commands are all reflected in the roster and the ledger, or 0 if there is no journal.
+     * @param snapshotFile the path of the snapshot file.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    public static void write(StudentRoster roster, PaymentLedger ledger, long journalLength, Path snapshotFile) throws IOException {
+        write(roster, ledger, journalLength, NO_JOURNAL, snapshotFile);
+    }
+    
+    /**
+     * This method writes every student in a roster and every payment in a ledger to a snapshot file once every command appended to a journal has been forced to disk,
+     * recording the length and the fingerprint of the journal so a restart replays only the later commands, and only from the same journal.
+     * No command may change the roster or the ledger while the snapshot is written (e.g. the caller holds the exclusive lock of a ConcurrentRoster),
+     * or the students saved would not match the recorded length of the journal.
+     * @param roster the roster to be saved.
+     * @param ledger the payment ledger to be saved.
+     * @param journal the command journal whose commands are all reflected in the roster and the ledger, or null if there is no journal.
+     * @param snapshotFile the path of the snapshot file.
+     * @throws IOException if the journal cannot be read or the snapshot cannot be written.
+     */
+    public static void write(StudentRoster roster, PaymentLedger ledger, CommandJournal journal, Path snapshotFile) throws IOException {
+        if (journal == null) {
+            write(roster, ledger, 0, NO_JOURNAL, snapshotFile);
+            return;
+        }
+        journal.awaitDurable();
+        long journalLength = journal.getDurableLength();
+        write(roster, ledger, journalLength, journal.fingerprint(journalLength), snapshotFile);
+    }
+    
+    /**
+     * Private helper method to write every student in a roster and every payment in a ledger to a snapshot file, replacing the file only once the snapshot is complete and forced to disk.
+     * @param roster the roster to be saved.
+     * @param ledger the payment ledger to be saved.
+     * @param journalLength the length in bytes of the command journal whose commands are all reflected in the roster and the ledger.
+     * @param journalFingerprint the fingerprint of the journal up to journalLength, or NO_JOURNAL if it is not known.
+     * @param snapshotFile the path of the snapshot file.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    private static void write(StudentRoster roster, PaymentLedger ledger, long journalLength, long journalFingerprint, Path snapshotFile) throws IOException {
+        Path temporaryFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            buffer.putInt(MAGIC_NUMBER).putShort(FORMAT_VERSION).putInt(roster.getSize()).putLong(journalLength);
+            buffer.putLong(TuitionRateTable.getCurrent().fingerprint()).putLong(journalFingerprint);
+            for (int i = 0; i < roster.getSize(); i++) {
+                Student student = roster.getStudent(i);
+                byte[] name = student.getProfile().getName().getBytes(StandardCharsets.UTF_8);
+                buffer = makeRoom(channel, buffer, FIXED_RECORD_SIZE + name.length + LARGEST_SUBCLASS_FIELD_SIZE);
+                writeStudent(buffer, student, name);
+            }
+            int numberOfPayments = ledger.getSize();
+            buffer = makeRoom(channel, buffer, Integer.BYTES);
+            buffer.putInt(numberOfPayments);
+            for (int i = 0; i < numberOfPayments; i++) {
+                Profile student = ledger.getStudent(i);
+                byte[] name = student.getName().getBytes(StandardCharsets.UTF_8);
+                buffer = makeRoom(channel, buffer, FIXED_PAYMENT_RECORD_SIZE + name.length);
+                buffer.put(student.getMajor() == null ? NONE : (byte)student.getMajor().ordinal());
+                buffer.putInt(name.length).put(name);
+                buffer.putInt(ledger.getPaymentDate(i).toPackedDate()).putLong(ledger.getPaymentAmount(i));
+            }
+            writeFully(channel, buffer);
+            channel.force(true);
+        }
+        Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    /**
+     * Private helper method to make room in the write buffer for the next record, writing out the buffer if the record does not fit.
+     * @param channel the file being written.
+     * @param buffer the buffer holding the bytes not yet written.
+     * @param recordSize the largest size of the next record.
+     * @return the buffer to write the record to; a larger buffer if the record is larger than the buffer.
+     * @throws IOException if the file cannot be written.
+     */
+    private static ByteBuffer makeRoom(FileChannel channel, ByteBuffer buffer, int recordSize) throws IOException {
+        if (recordSize <= buffer.remaining())
+            return buffer;
+        writeFully(channel, buffer);
+        if (recordSize > buffer.capacity())
+            return ByteBuffer.allocateDirect(recordSize);
+        return buffer;
+    }
+    
+    /**
+     * Private helper method to write the contents of a buffer to a file and clear the buffer.
+     * @param channel the file being written.
+     * @param buffer the buffer holding the bytes to be written.
+     * @throws IOException if the file cannot be written.
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+    
+    /**
+     * Private helper method to write the record of a student.
+     * @param buffer the buffer the record is written to; it must have room for the record.
+     * @param student the student to be written.
+     * @param name the student's name encoded as UTF-8.
+     */
+    private static void writeStudent(ByteBuffer buffer, Student student, byte[] name) {
+        Major major = student.getProfile().getMajor();
+        Date lastPaymentDate = student.getLastPaymentDate();
+        buffer.put(StudentType.of(student).code()).put(major == null ? NONE : (byte)major.ordinal());
+        buffer.putInt(name.length).put(name);
+        buffer.putInt(student.getCredits()).putLong(student.getTuitionOwed()).putLong(student.getTotalTuitionPaid());
+        buffer.putInt(lastPaymentDate == null ? NO_PAYMENT_DATE : lastPaymentDate.toPackedDate());
+        buffer.put(student.isTuitionDirty() ? (byte)1 : (byte)0);
+        if (student instanceof Resident)
+            buffer.putLong(((Resident)student).getFinancialAid());
+        else if (student instanceof TriState) {
+            State state = ((TriState)student).getState();
+            buffer.put(state == null ? NONE : (byte)state.ordinal());
+        }
+        else if (student instanceof International)
+            buffer.put(((International)student).isStudyAbroad() ? (byte)1 : (byte)0);
+    }
+    
+    /**
+     * This method reads a snapshot file and adds every student in it to a roster, in the order they were saved; the payment ledger in the snapshot is skipped.
+     * @param snapshotFile the path of the snapshot file.
+     * @param roster the empty roster that the students are added to.
+     * @return the header of the snapshot, holding the number of students and the length of the command journal it covers.
+     * @throws IOException if the snapshot cannot be read, is not a snapshot, has an unsupported version, or is truncated.
+     */
+    public static RosterSnapshot read(Path snapshotFile, StudentRoster roster) throws IOException {
+        return read(snapshotFile, roster, null);
+    }
+    
+    /**
+     * This method reads a snapshot file, adds every student in it to a roster and records every payment in it in a ledger, in the order they were saved.
+     * @param snapshotFile the path of the snapshot file.
+     * @param roster the empty roster that the students are added to.
+     * @param ledger the empty ledger that the payments are recorded in, or null to skip the payments.
+     * @return the header of the snapshot, holding the number of students and payments and the length of the command journal it covers.
+     * @throws IOException if the snapshot cannot be read, is not a snapshot, has an unsupported version, is truncated,
+     * or is corrupt (e.g. it claims more students than the file can hold, or holds a student twice).
+     */
+    public static RosterSnapshot read(Path snapshotFile, StudentRoster roster, PaymentLedger ledger) throws IOException {
+        if (roster.getSize() != 0)
+            throw new IllegalArgumentException("roster is not empty");
+        if (ledger != null && ledger.getSize() != 0)
+            throw new IllegalArgumentException("ledger is not empty");
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE)
+                throw new IOException("Snapshot is too large to map: " + fileSize + " bytes");
+            if (fileSize < HEADER_SIZE)
+                throw new IOException("Snapshot is truncated: " + snapshotFile);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (buffer.getInt() != MAGIC_NUMBER)
+                throw new IOException("Not a roster snapshot: " + snapshotFile);
+            short version = buffer.getShort();
+            if (version < 1 || version > FORMAT_VERSION)
+                throw new IOException("Unsupported roster snapshot version " + version + ": " + snapshotFile);
+            int numberOfStudents = buffer.getInt();
+            long journalLength = buffer.getLong();
+            long headerSize = HEADER_SIZE + ((version >= FIRST_VERSION_WITH_RATES) ? Long.BYTES : 0)
+                    + ((version >= FIRST_VERSION_WITH_JOURNAL_FINGERPRINT) ? Long.BYTES : 0);
+            if (numberOfStudents < 0 || numberOfStudents > (fileSize - headerSize) / FIXED_RECORD_SIZE)
+                throw new IOException("Snapshot is corrupt: " + snapshotFile);
+            roster.ensureCapacity(numberOfStudents);
+            int numberOfPayments = 0;
+            long journalFingerprint = NO_JOURNAL;
+            try {
+                long ratesFingerprint = (version >= FIRST_VERSION_WITH_RATES) ? buffer.getLong() : TuitionRateTable.defaults().fingerprint();
+                if (version >= FIRST_VERSION_WITH_JOURNAL_FINGERPRINT)
+                    journalFingerprint = buffer.getLong();
+                boolean ratesChanged = ratesFingerprint != TuitionRateTable.getCurrent().fingerprint();
+                for (int i = 0; i < numberOfStudents; i++) {
+                    if (!roster.add(readStudent(buffer, version, ratesChanged)))
+                        throw new IOException("Snapshot is corrupt, it holds a student twice: " + snapshotFile);
+                }
+                if (version >= FIRST_VERSION_WITH_LEDGER) {
+                    numberOfPayments = buffer.getInt();
+                    if (numberOfPayments < 0)
+                        throw new IOException("Snapshot is corrupt: " + snapshotFile);
+                    if (ledger != null) {
+                        for (int i = 0; i < numberOfPayments; i++) {
+                            Major major = enumConstant(Major.values(), buffer.get());
+                            Profile student = new Profile(readName(buffer), major);
+                            int paymentDate = buffer.getInt();
+                            ledger.record(student, readAmount(buffer, version), Date.fromPackedDate(paymentDate));
+                        }
+                    }
+                }
+            }
+            catch (BufferUnderflowException | IllegalArgumentException exception) {
+                throw new IOException("Snapshot is truncated or corrupt: " + snapshotFile, exception);
+            }
+            return new RosterSnapshot(numberOfStudents, numberOfPayments, journalLength, version, journalFingerprint);
+        }
+    }
+    
+    /**
+     * Private helper method to read the record of a student.
+     * @param buffer the buffer positioned at the start of the record.
+     * @param version the format version of the snapshot.
+     * @param ratesChanged true if the tuition in the snapshot was calculated with other rates than the current ones, so it has to be recalculated.
+     * @return the restored student.
+     * @throws BufferUnderflowException if the record is truncated.
+     * @throws IllegalArgumentException if the record holds an unknown type, major, or state, or a negative name length.
+     */
+    private static Student readStudent(ByteBuffer buffer, short version, boolean ratesChanged) {
+        StudentType type = StudentType.fromCode(buffer.get());
+        Major major = enumConstant(Major.values(), buffer.get());
+        Profile profile = new Profile(readName(buffer), major);
+        int credits = buffer.getInt();
+        long tuitionOwed = readAmount(buffer, version);
+        long totalTuitionPaid = readAmount(buffer, version);
+        int lastPaymentDate = buffer.getInt();
+        boolean tuitionDirty = buffer.get() != 0;
+        Student student;
+        switch (type) {
+            case RESIDENT :
+                Resident resident = new Resident(profile, credits);
+                resident.setFinancialAid(readAmount(buffer, version));
+                student = resident;
+                break;
+            case NON_RESIDENT :
+                student = new NonResident(profile, credits);
+                break;
+            case TRI_STATE :
+                State state = enumConstant(State.values(), buffer.get());
+                if (state == null)
+                    throw new IllegalArgumentException("Tri-state student without a state");
+                student = new TriState(profile, credits, state);
+                break;
+            case INTERNATIONAL :
+                student = new International(profile, credits, buffer.get() != 0);
+                break;
+            default :
+                throw new AssertionError(type);
+        }
+        student.setTuitionOwed(tuitionOwed);
+        student.setTotalTuitionPaid(totalTuitionPaid);
+        if (lastPaymentDate != NO_PAYMENT_DATE)
+            student.setLastPaymentDate(Date.fromPackedDate(lastPaymentDate));
+        student.restoreTuitionDirty(tuitionDirty || ratesChanged);
+        return student;
+    }
+    
+    /**
+     * Private helper method to read an amount of money, stored as a long number of cents or, before version 3, as a double of dollars.
+     * @param buffer the buffer positioned at the amount.
+     * @param version the format version of the snapshot.
+     * @return the amount in cents.
+     */
+    private static long readAmount(ByteBuffer buffer, short version) {
+        if (version >= FIRST_VERSION_WITH_CENTS)
+            return buffer.getLong();
+        return Math.round(buffer.getDouble() * Money.CENTS_PER_DOLLAR);
+    }
+    
+    /**
+     * Private helper method to read a name stored as its length followed by its UTF-8 bytes.
+     * @param buffer the buffer positioned at the length of the name.
+     * @return the name.
+     * @throws IllegalArgumentException if the length is negative.
+     * @throws BufferUnderflowException if the length runs past the end of the snapshot.
+     */
+    private static String readName(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0)
+            throw new IllegalArgumentException("Negative name length: " + length);
+        if (length > buffer.remaining())
+            throw new BufferUnderflowException();  // checked before the name is allocated, so a corrupt length cannot exhaust the heap
+        byte[] name = new byte[length];
+        buffer.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Private helper method to convert a stored ordinal back to a constant of an enum.
+     * @param <E> the type of the enum.
+     * @param constants the constants of the enum, in ordinal order.
+     * @param ordinal the stored ordinal, or NONE for a missing value.
+     * @return the constant, or null if the ordinal is NONE.
+     * @throws IllegalArgumentException if the ordinal does not belong to a constant.
+     */
+    private static <E extends Enum<E>> E enumConstant(E[] constants, byte ordinal) {
+        if (ordinal == NONE)
+            return null;
+        if (ordinal < 0 || ordinal >= constants.length)
+            throw new IllegalArgumentException("Unknown ordinal " + ordinal + " for " + constants.getClass().getComponentType().getSimpleName());
+        return constants[ordinal];
+    }
+}
\ No newline at end of file
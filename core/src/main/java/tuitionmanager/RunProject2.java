@@ -0,0 +1,187 @@
+package tuitionmanager;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.JMException;
+
+/**
+ * This class is a driver class to run and test the StudentTuitionManager project.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class RunProject2 {
+    
+    /* System property that sets the number of threads used to calculate tuition; defaults to the number of available processors */
+    private static final String PARALLELISM_PROPERTY = "tuitionmanager.parallelism";
+    /* System property that sets the number of threads that parse the lines of a command file in batch mode; defaults to one less than the number of available processors */
+    private static final String PARSING_THREADS_PROPERTY = "tuitionmanager.parsers";
+    /* System property that sets the path of the command journal; there is no journal if it is not set */
+    private static final String JOURNAL_PROPERTY = "tuitionmanager.journal";
+    /* System property that sets the group commit window of the command journal in milliseconds */
+    private static final String JOURNAL_WINDOW_PROPERTY = "tuitionmanager.journal.window";
+    private static final long DEFAULT_JOURNAL_WINDOW_MILLISECONDS = 2;
+    /* System property that sets the path of the roster snapshot restored at startup and saved when the tuition manager stops */
+    private static final String SNAPSHOT_PROPERTY = "tuitionmanager.snapshot";
+    /* System property that selects how students are stored: "object" (the default) for Roster or "columnar" for ColumnarRoster */
+    private static final String STORAGE_PROPERTY = "tuitionmanager.storage";
+    private static final String COLUMNAR_STORAGE = "columnar";
+    /* System property that runs the tuition manager as a command server: a TCP port on the loopback address, or the path of a Unix domain socket */
+    private static final String SERVER_PROPERTY = "tuitionmanager.server";
+    /* System property that sets the path of a rates file that tuition is calculated with; the default rates are used if it is not set */
+    private static final String RATES_PROPERTY = "tuitionmanager.rates";
+    /* System property that prints the command metrics when the tuition manager stops, if it is "true" */
+    private static final String PRINT_METRICS_PROPERTY = "tuitionmanager.metrics.print";
+    
+    /**
+     * Main driver method to execute StudentTuitionManager project by instantiating a new 'TuitionManager' instance and invoking its 'run()' method.
+     * If a command file is given as the first argument, the commands in the file are applied in batch mode instead.
+     * The number of threads used by the 'C' command can be set with the system property "tuitionmanager.parallelism",
+     * and the number of threads that parse the lines of a command file while its commands are applied with "tuitionmanager.parsers".
+     * If the system property "tuitionmanager.journal" names a file, the roster is rebuilt from that journal at startup and every command that changes it is logged there;
+     * "tuitionmanager.journal.window" sets how many milliseconds the journal waits to group commands into one fsync.
+     * If the system property "tuitionmanager.snapshot" names a file, the roster is restored from that snapshot at startup, so only the journal written after it is replayed,
+     * and a new snapshot is saved when the tuition manager stops; a snapshot is not restored together with a journal it does not cover
+     * (e.g. one saved without a journal while the journal already holds commands), since replaying the journal would apply its commands twice.
+     * Setting the system property "tuitionmanager.storage" to "columnar" keeps the students in a ColumnarRoster instead of a Roster.
+     * If the system property "tuitionmanager.server" is set, the tuition manager serves commands from many clients at once instead, on that TCP port of the loopback address
+     * or, if it is not a number, on a Unix domain socket at that path; the server runs until "Q" is entered on the standard input.
+     * If the system property "tuitionmanager.rates" names a rates file, tuition is calculated with the rates in that file (see TuitionRateTable).
+     * Every command is counted and timed, and the metrics are published as MBeans (see TuitionMetrics); setting the system property "tuitionmanager.metrics.print" to "true"
+     * also prints them when the tuition manager stops.
+     * @param args command line arguments; optionally the path of a command file to run in batch mode.
+     * @throws IOException if the command file, the rates file, the journal, or the snapshot cannot be read, the snapshot does not belong to the journal,
+     * or the journal or the snapshot cannot be written.
+     * @throws JMException if the metrics cannot be published, e.g. because another tuition manager in the same JVM already published its metrics.
+     */
+    public static void main(String[] args) throws IOException, JMException {
+        String ratesPath = System.getProperty(RATES_PROPERTY);
+        if (ratesPath != null)
+            TuitionRateTable.setCurrent(TuitionRateTable.load(Paths.get(ratesPath)));
+        StudentRoster roster = COLUMNAR_STORAGE.equals(System.getProperty(STORAGE_PROPERTY)) ? new ColumnarRoster() : new Roster();
+        String serverAddress = System.getProperty(SERVER_PROPERTY);
+        ConcurrentRoster sharedRoster = null;
+        if (serverAddress != null) {
+            sharedRoster = new ConcurrentRoster(roster);
+            roster = sharedRoster;
+        }
+        TuitionManager tuitionManager = new TuitionManager(roster);
+        tuitionManager.setCalculationParallelism(Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()));
+        tuitionManager.setParsingThreads(Integer.getInteger(PARSING_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors() - 1));
+        String snapshotPath = System.getProperty(SNAPSHOT_PROPERTY);
+        Path snapshotFile = (snapshotPath == null) ? null : Paths.get(snapshotPath);
+        RosterSnapshot snapshot = null;
+        if (snapshotFile != null && Files.exists(snapshotFile))
+            snapshot = tuitionManager.readSnapshot(snapshotFile);
+        String journalPath = System.getProperty(JOURNAL_PROPERTY);
+        if (journalPath == null) {
+            if (sharedRoster != null)
+                serve(tuitionManager, sharedRoster, null, serverAddress, snapshotFile);
+            else
+                run(tuitionManager, roster, args, snapshotFile);
+            return;
+        }
+        Path journalFile = Paths.get(journalPath);
+        try (CommandJournal journal = CommandJournal.open(journalFile, Long.getLong(JOURNAL_WINDOW_PROPERTY, DEFAULT_JOURNAL_WINDOW_MILLISECONDS),
+                TimeUnit.MILLISECONDS)) {
+            long journalLength = 0;
+            if (snapshot != null) {
+                snapshot.checkJournal(journalFile);
+                journalLength = snapshot.getJournalLength();
+            }
+            if (Files.size(journalFile) > journalLength) {
+                try (Reader journalReader = CommandJournal.openForReplay(journalFile, journalLength)) {
+                    tuitionManager.replay(journalReader);
+                }
+            }
+            tuitionManager.setJournal(journal);
+            if (sharedRoster != null)
+                serve(tuitionManager, sharedRoster, journal, serverAddress, snapshotFile);
+            else
+                run(tuitionManager, roster, args, snapshotFile);
+        }
+    }
+    
+    /**
+     * Private helper method to run the tuition manager interactively, or in batch mode if a command file is given.
+     * Its commands are measured in metrics that are published as MBeans, so the commands replayed from the journal are not counted.
+     * The roster is saved to the snapshot file afterwards, if there is one.
+     * @param tuitionManager the tuition manager to run.
+     * @param roster the roster of the tuition manager.
+     * @param args command line arguments; optionally the path of a command file to run in batch mode.
+     * @param snapshotFile the path of the snapshot file, or null if no snapshot is saved.
+     * @throws IOException if the command file cannot be read or the snapshot cannot be written.
+     * @throws JMException if the metrics cannot be published.
+     */
+    private static void run(TuitionManager tuitionManager, StudentRoster roster, String[] args, Path snapshotFile) throws IOException, JMException {
+        TuitionMetrics metrics = new TuitionMetrics(roster);
+        metrics.register(ManagementFactory.getPlatformMBeanServer());
+        tuitionManager.setMetrics(metrics);
+        if (args.length == 0)
+            tuitionManager.run();
+        else {
+            try (Reader commandFile = new InputStreamReader(new FileInputStream(args[0]), StandardCharsets.UTF_8)) {
+                tuitionManager.runBatch(commandFile);
+            }
+        }
+        printMetrics(metrics);
+        if (snapshotFile != null)
+            tuitionManager.writeSnapshot(snapshotFile);
+    }
+    
+    /**
+     * Private helper method to print the metrics to the standard output if the system property "tuitionmanager.metrics.print" is "true".
+     * @param metrics the metrics.
+     */
+    private static void printMetrics(TuitionMetrics metrics) {
+        if (!Boolean.getBoolean(PRINT_METRICS_PROPERTY))
+            return;
+        OutputSink output = OutputSink.standardOutput();
+        metrics.print(output);
+        output.flush();
+    }
+    
+    /**
+     * Private helper method to run a command server on the shared roster until "Q" is entered on the standard input or the standard input ends.
+     * The roster is saved to the snapshot file afterwards, if there is one.
+     * @param tuitionManager the tuition manager that owns the shared roster; it writes the snapshot.
+     * @param sharedRoster the roster shared by every session.
+     * @param journal the journal shared by every session, or null if there is no journal.
+     * @param serverAddress a TCP port on the loopback address, or the path of a Unix domain socket.
+     * @param snapshotFile the path of the snapshot file, or null if no snapshot is saved.
+     * @throws IOException if the server cannot be started or the snapshot cannot be written.
+     * @throws JMException if the metrics of the server cannot be published.
+     */
+    private static void serve(TuitionManager tuitionManager, ConcurrentRoster sharedRoster, CommandJournal journal, String serverAddress, 
+            Path snapshotFile) throws IOException, JMException {
+        SocketAddress address;
+        if (serverAddress.matches("\\d+"))
+            address = new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(serverAddress));
+        else
+            address = UnixDomainSocketAddress.of(serverAddress);
+        try (CommandServer server = CommandServer.start(address, sharedRoster, tuitionManager.getPaymentLedger(), journal)) {
+            server.getMetrics().register(ManagementFactory.getPlatformMBeanServer());
+            System.out.println("Tuition Manager server listening on " + server.getLocalAddress() + ".");
+            BufferedReader console = new BufferedReader(new InputStreamReader(System.in));
+            String line;
+            while ((line = console.readLine()) != null && !line.trim().equals("Q"))
+                continue;
+            printMetrics(server.getMetrics());
+        }
+        System.out.println("Tuition Manager server stopped.");
+        if (snapshotFile != null)
+            tuitionManager.writeSnapshot(snapshotFile);
+    }
+}
\ No newline at end of file
@@ -7,7 +7,7 @@ package tuitionmanager;
 public enum State {
     NY,
     CT;
-
+    
     /**
      * Convert a given String (ignore alphabetical case) to one of the declared states.
      * If given String is not equivalent to a constant in the enum, convert it to the 'Unknown' enum. 
@@ -0,0 +1,232 @@
+package tuitionmanager;
+
+/**
+ * Class that defines the abstract data type that models a Student in a roster of students.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class Student {
+    
+    private Profile profile;
+    private int credits;
+    private long tuitionOwed;  // in cents, like every amount of money
+    private long totalTuitionPaid;
+    private Date lastPaymentDate;
+    private boolean tuitionDirty;  // true when a change since the last calculation may have changed the tuition due
+    
+    /* Constants are public because other classes also need to access them */
+    public static final long FULL_TIME_UNIVERSITY_FEE = Money.dollars(3268);
+    public static final int ADDITIONAL_TUITION_CREDIT_THRESHOLD = 16;
+    public static final int MINIMUM_FULL_TIME_CREDITS = 12;
+    public static final int PART_TIME_UNIVERSITY_FEE_PERCENT = 80;
+    
+    static final int ROW_CAPACITY = 160;  // enough for the row of almost any student, so rendering a row does not grow the StringBuilder
+    
+    /* Represents 80% of full time university fee (i.e. 80% of $3,268 = $2614.40), which is a whole number of cents */
+    public static final long PART_TIME_UNIVERSITY_FEE = FULL_TIME_UNIVERSITY_FEE * PART_TIME_UNIVERSITY_FEE_PERCENT / 100;
+    
+    /**
+     * Parameterized constructor that takes a 'Profile' object and creates an instance of a 'Student', setting other instance variables to default values.
+     * @param profile a 'Profile' instance which holds the name and major of a given student.
+     */
+    public Student(Profile profile) {
+        this.profile = profile;
+        credits = 0;
+        tuitionOwed = 0;
+        totalTuitionPaid = 0;
+        lastPaymentDate = null; 
+        tuitionDirty = true;
+    }
+    
+    /**
+     * Second parameterized constructor that takes a 'Profile' instance and a number of credits and uses them to construct a 'Student' instance, setting other instance variables to default values.
+     * @param profile a 'Profile' instance which holds the name and major of a given student.
+     * @param credits the number of credits the student is taking this semester.
+     */
+    public Student(Profile profile, int credits) {
+        this.profile = profile;
+        this.credits = credits;
+        tuitionOwed = 0;
+        totalTuitionPaid = 0;
+        lastPaymentDate = null;
+        tuitionDirty = true;
+    }
+    
+    /** Method to calculate and set the tuition due for any type of student; method is overridden by subclasses. */
+    public void tuitionDue() {}
+    
+    /**
+     * Method to recalculate the tuition due, by invoking tuitionDue(), only if something that affects it has changed since the last recalculation.
+     * @return true if the tuition was recalculated, false if it was already up to date.
+     */
+    public final boolean updateTuitionIfDirty() {
+        if (!tuitionDirty)
+            return false;
+        tuitionDue();
+        tuitionDirty = false;
+        return true;
+    }
+    
+    /**
+     * Getter method to return whether something that affects the tuition due has changed since the last recalculation.
+     * @return true if the tuition due has to be recalculated, false otherwise.
+     */
+    public boolean isTuitionDirty() {
+        return tuitionDirty;
+    }
+    
+    /**
+     * Setter method to restore whether the tuition due has to be recalculated, e.g. when a student is loaded from a roster snapshot.
+     * @param tuitionDirty true if the tuition due has to be recalculated, false if the saved tuition due is up to date.
+     */
+    void restoreTuitionDirty(boolean tuitionDirty) {
+        this.tuitionDirty = tuitionDirty;
+    }
+    
+    /**
+     * Method for subclasses to record that a change to one of their own fields affects the tuition due.
+     */
+    protected void markTuitionDirty() {
+        tuitionDirty = true;
+    }
+    
+    /**
+     * Getter method to return a student's profile ('Profile' instance).
+     * @return the profile of a student as a 'Profile' object.
+     */
+    public Profile getProfile() {
+        return profile;
+    }
+    
+    /**
+     * Getter method to return the number of credits a student's is enrolled for this semester.
+     * @return the number of credits that a student is enrolled for.
+     */
+    public int getCredits() {
+        return credits;
+    }
+    
+    /**
+     * Getter method to return the tuition that a student owes for this semester.
+     * @return the tuition that a student owes for this semester, in cents.
+     */
+    public long getTuitionOwed() {
+        return tuitionOwed;
+    }
+    
+    /**
+     * Getter method to return the total tuition that a student has paid for this semester.
+     * @return the total tuition that a student has paid this semester, in cents.
+     */
+    public long getTotalTuitionPaid() {
+        return totalTuitionPaid;
+    }
+    
+    /**
+     * Getter method to return a student's last (most recent) tuition payment date.
+     * @return the last (most recent) tuition payment date as a 'Date' object.
+     */
+    public Date getLastPaymentDate() {
+        return lastPaymentDate;
+    }
+    
+    /**
+     * Setter method to set a student's number of credits.
+     * @param credits the number of credits that is to be set.
+     */
+    public void setCredits(int credits) {
+        if (credits != this.credits)
+            tuitionDirty = true;
+        this.credits = credits;
+    }
+    
+    /**
+     * Setter method to set the tuition that a student owes.
+     * @param tuitionOwed the amount in cents that the tuition owed is to be set at.
+     */
+    public void setTuitionOwed(long tuitionOwed) {
+        this.tuitionOwed = tuitionOwed;
+    }
+    
+    /**
+     * Setter method to set the total tuition that a student has paid.
+     * Tuition is only recalculated for students who have not paid anything, so the tuition is marked dirty when the total paid drops back to 0.
+     * A first payment does not mark it dirty: the tuition due is kept as it is from then on, and there is nothing to recalculate.
+     * @param totalTuitionPaid the amount in cents that the total tuition paid is to be set at.
+     */
+    public void setTotalTuitionPaid(long totalTuitionPaid) {
+        if (totalTuitionPaid <= 0 && this.totalTuitionPaid > 0)
+            tuitionDirty = true;
+        this.totalTuitionPaid = totalTuitionPaid;
+    }
+    
+    /**
+     * Setter method to set a student's last (most recent) tuition payment date.
+     * @param lastPaymentDate the amount that the last (most recent) tuition payment date is to be set at.
+     */
+    public void setLastPaymentDate(Date lastPaymentDate) {
+        this.lastPaymentDate = lastPaymentDate;
+    }
+    
+    /**
+     * Determines if two 'Student' instances are equal to each other or not by comparing their profiles (names and majors).
+     * @param obj 'Student' object to be compared with.
+     * @return true if the 'Student' instances are the same, false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Student))
+            return false;
+        return profile.equals(((Student)obj).profile);
+    }
+    
+    /**
+     * Computes a hash code for a 'Student' instance from its profile, which is consistent with equals().
+     * @return the hash code of the 'Student' instance.
+     */
+    @Override
+    public int hashCode() {
+        return profile.hashCode();
+    }
+    
+    /**
+     * Method that overrides toString() method and converts a 'Student' instance to a textual representation.
+     * @return 'Student' instance formatted as a string.
+     */
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(ROW_CAPACITY)).toString();
+    }
+    
+    /**
+     * Method that appends the textual representation of a 'Student' instance, as returned by toString(), to a StringBuilder; overridden by subclasses to append their own fields.
+     * Reports render every student into one reused StringBuilder, so no String or Formatter is created per student.
+     * @param row the StringBuilder that the student is appended to.
+     * @return the StringBuilder, so calls can be chained.
+     */
+    public StringBuilder appendTo(StringBuilder row) {
+        int packedLastPaymentDate = (lastPaymentDate == null) ? Date.INVALID_FORMAT : lastPaymentDate.toPackedDate();
+        return appendFields(row, profile.getName(), profile.getMajor(), credits, tuitionOwed, totalTuitionPaid, packedLastPaymentDate);
+    }
+    
+    /**
+     * Method that appends the fields that every kind of student has, in the format of toString(), to a StringBuilder without needing a 'Student' instance.
+     * @param row the StringBuilder that the fields are appended to.
+     * @param name the name of the student.
+     * @param major the major of the student.
+     * @param credits the number of credits the student is taking this semester.
+     * @param tuitionOwed the tuition that the student owes, in cents.
+     * @param totalTuitionPaid the total tuition that the student has paid, in cents.
+     * @param lastPaymentDate the packed date of the student's last payment, or Date.INVALID_FORMAT if the student has not paid.
+     * @return the StringBuilder, so calls can be chained.
+     */
+    static StringBuilder appendFields(StringBuilder row, String name, Major major, int credits, long tuitionOwed, long totalTuitionPaid, int lastPaymentDate) {
+        Profile.appendTo(row, name, major).append(':').append(credits).append(" credit hours:tuition due:");
+        Money.append(row, tuitionOwed).append(":total payment:");
+        Money.append(row, totalTuitionPaid).append(":last payment date: ");
+        if (lastPaymentDate == Date.INVALID_FORMAT)
+            row.append("--/--/--");
+        else
+            Date.appendTo(row, lastPaymentDate);
+        return row.append(':');
+    }
+}
\ No newline at end of file
@@ -0,0 +1,169 @@
+package tuitionmanager;
+
+/**
+ * Class that defines an open-addressing hash table of the positions of the students in a roster, keyed by name and major.
+ * The table only holds int positions and reads the name and major at a position back from the roster through nameAt() and majorAt(),
+ * so finding a student by name and major creates no objects: no Profile to use as a key and no boxed Integer.
+ * The table is kept at most half full and uses linear probing; removing a student moves later entries of its probe run back instead of leaving a tombstone.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+abstract class StudentIndex {
+    
+    private int[] slots;  // position + 1 of every student, or EMPTY_SLOT
+    
+    static final int NOT_FOUND = -1;
+    static final byte NO_MAJOR = -1;  // major code of a student without a major
+    
+    private static final int EMPTY_SLOT = 0;
+    private static final int MINIMUM_SLOTS = 8;
+    
+    /**
+     * Parameterized constructor that creates an empty table sized for the given number of students.
+     * @param capacity the number of students the table should hold without growing.
+     */
+    StudentIndex(int capacity) {
+        slots = new int[slotsFor(capacity)];
+    }
+    
+    /**
+     * This method returns the name of the student at a position in the roster.
+     * @param position the position of the student.
+     * @return the name of the student.
+     */
+    abstract String nameAt(int position);
+    
+    /**
+     * This method returns the major code of the student at a position in the roster.
+     * @param position the position of the student.
+     * @return the ordinal of the student's major, or NO_MAJOR.
+     */
+    abstract byte majorAt(int position);
+    
+    /**
+     * This method converts a major to the code the table compares.
+     * @param major the major, or null.
+     * @return the ordinal of the major, or NO_MAJOR.
+     */
+    static byte majorCode(Major major) {
+        return (major == null) ? NO_MAJOR : (byte)major.ordinal();
+    }
+    
+    /**
+     * Private helper method to find the size of a table that stays at most half full for the given number of students.
+     * @param capacity the number of students.
+     * @return a power of 2 that is at least twice the number of students.
+     */
+    private static int slotsFor(int capacity) {
+        int slotCount = MINIMUM_SLOTS;
+        while (slotCount < capacity * 2L)
+            slotCount *= 2;
+        return slotCount;
+    }
+    
+    /**
+     * Private helper method to compute the hash of a name and major, spreading the bits so that linear probing works well.
+     * @param name the name of the student.
+     * @param major the major code of the student.
+     * @return the hash.
+     */
+    private static int hash(String name, byte major) {
+        int hash = 31 * name.hashCode() + major;
+        return hash ^ (hash >>> 16);
+    }
+    
+    /**
+     * Private helper method to find the slot of a student, or the empty slot where the student would be inserted.
+     * @param name the name of the student.
+     * @param major the major code of the student.
+     * @return the slot holding the student, or the first empty slot of its probe sequence.
+     */
+    private int findSlot(String name, byte major) {
+        int mask = slots.length - 1;
+        int slot = hash(name, major) & mask;
+        while (slots[slot] != EMPTY_SLOT) {
+            int position = slots[slot] - 1;
+            if (majorAt(position) == major && nameAt(position).equals(name))
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+    
+    /**
+     * Private helper method to find the slot that holds a position, by its value rather than by comparing names.
+     * @param position the position.
+     * @param name the name of the student the position was indexed under.
+     * @param major the major code of the student the position was indexed under.
+     * @return the slot holding the position.
+     */
+    private int slotOf(int position, String name, byte major) {
+        int mask = slots.length - 1;
+        int slot = hash(name, major) & mask;
+        while (slots[slot] != position + 1)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+    
+    /**
+     * This method finds the position of a student by name and major.
+     * @param name the name of the student.
+     * @param major the major code of the student.
+     * @return the position of the student, or NOT_FOUND.
+     */
+    int find(String name, byte major) {
+        return slots[findSlot(name, major)] - 1;
+    }
+    
+    /**
+     * This method adds the student at a position to the table; the student must not be in the table already.
+     * The table must have room for the student, see ensureCapacity().
+     * @param position the position of the student.
+     */
+    void insert(int position) {
+        slots[findSlot(nameAt(position), majorAt(position))] = position + 1;
+    }
+    
+    /**
+     * This method removes the student at a position from the table, moving later entries of the same probe run back so that every student can still be found.
+     * @param position the position of the student.
+     */
+    void delete(int position) {
+        int mask = slots.length - 1;
+        int hole = slotOf(position, nameAt(position), majorAt(position));
+        int next = (hole + 1) & mask;
+        while (slots[next] != EMPTY_SLOT) {
+            int movedPosition = slots[next] - 1;
+            int home = hash(nameAt(movedPosition), majorAt(movedPosition)) & mask;
+            boolean canMove = (next > hole) ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (canMove) {
+                slots[hole] = slots[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slots[hole] = EMPTY_SLOT;
+    }
+    
+    /**
+     * This method points the table at the new position of a student that was moved within the roster.
+     * The slot is found by its old value rather than by comparing names, since the old position may already hold another student.
+     * @param oldPosition the position the student was moved from.
+     * @param newPosition the position the student was moved to.
+     */
+    void reindex(int oldPosition, int newPosition) {
+        slots[slotOf(oldPosition, nameAt(newPosition), majorAt(newPosition))] = newPosition + 1;
+    }
+    
+    /**
+     * This method rebuilds the table with a size that keeps it at most half full for the given number of students, if it is too small.
+     * @param capacity the number of students the table should be able to hold.
+     * @param size the number of students in the roster, at positions 0 to size - 1.
+     */
+    void ensureCapacity(int capacity, int size) {
+        if (slots.length >= capacity * 2L)
+            return;
+        slots = new int[slotsFor(capacity)];
+        for (int i = 0; i < size; i++)
+            insert(i);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,168 @@
+package tuitionmanager;
+
+/**
+ * Interface that defines the operations of a roster of students, so that the tuition manager can use different storage engines.
+ * Roster keeps one Student object per student; ColumnarRoster keeps every field of every student in primitive arrays.
+ * Every operation on one existing student can also be called with the student's name and major, which finds the student without creating any objects,
+ * so a command does not have to build a Profile and a Student just to look the student up.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public interface StudentRoster {
+    
+    /**
+     * This method checks whether a student with the same profile (name and major) is in the roster.
+     * @param student the student that the application wants to search for.
+     * @return true if the student is in the roster, false otherwise.
+     */
+    boolean contains(Student student);
+    
+    /**
+     * This method checks whether a student with a name and major is in the roster, without creating any objects.
+     * @param name the name of the student.
+     * @param major the major of the student.
+     * @return true if the student is in the roster, false otherwise.
+     */
+    boolean contains(String name, Major major);
+    
+    /**
+     * Getter method to return the number of students in the roster.
+     * @return the number of students in the roster.
+     */
+    int getSize();
+    
+    /**
+     * Getter method to return the number of students the roster can hold before it has to grow.
+     * @return the capacity of the roster.
+     */
+    int getCapacity();
+    
+    /**
+     * Getter method to return the student at a position in the roster, e.g. to write the roster to a snapshot.
+     * @param position the position of the student, from 0 to getSize() - 1.
+     * @return the student at that position; a roster that does not keep Student objects returns a copy that is not linked to the roster.
+     */
+    Student getStudent(int position);
+    
+    /**
+     * This method increases the capacity of the roster, if necessary, so that it can hold at least the given number of students without growing.
+     * @param minimumCapacity the number of students the roster should be able to hold.
+     */
+    void ensureCapacity(int minimumCapacity);
+    
+    /**
+     * This method adds a student to the roster if the student is not already in it.
+     * @param student the student to be added to the roster.
+     * @return true if the student was added successfully, false otherwise.
+     */
+    boolean add(Student student);
+    
+    /**
+     * This method removes a student from the roster if the student is found within it.
+     * @param student the student to be removed from the roster.
+     * @return true if the student was removed successfully, false otherwise.
+     */
+    boolean remove(Student student);
+    
+    /**
+     * This method removes the student with a name and major from the roster if the student is found within it.
+     * @param name the name of the student to be removed.
+     * @param major the major of the student to be removed.
+     * @return true if the student was removed successfully, false otherwise.
+     */
+    boolean remove(String name, Major major);
+    
+    /**
+     * Setter method to set the number of threads that calculateTuition() splits the roster across.
+     * @param parallelism the number of threads to use; 1 calculates tuition serially on the calling thread.
+     */
+    void setParallelism(int parallelism);
+    
+    /**
+     * This method calculates the tuition for every student in the roster whose tuition is dirty.
+     * @return the number of students whose tuition was recalculated.
+     */
+    int calculateTuition();
+    
+    /**
+     * This method processes student tuition payments and recalculates the tuition that the student owes.
+     * @param studentToUpdate the student that the application wants to update the information for.
+     * @param paymentAmount the amount of money in cents that the student is paying towards tuition.
+     * @param dateOfPayment the date that the student is making a payment on.
+     * @param output the output sink that error messages are written to.
+     * @return true if the payment was successfully processed, false otherwise.
+     */
+    boolean processPayment(Student studentToUpdate, long paymentAmount, Date dateOfPayment, OutputSink output);
+    
+    /**
+     * This method applies a tuition payment to the student with a name and major and recalculates the tuition that the student owes.
+     * @param name the name of the student who is paying.
+     * @param major the major of the student who is paying.
+     * @param paymentAmount the amount of money in cents that the student is paying towards tuition.
+     * @param dateOfPayment the date that the student is making a payment on.
+     * @param output the output sink that error messages are written to.
+     * @return true if the payment was successfully processed, false otherwise.
+     */
+    boolean applyPayment(String name, Major major, long paymentAmount, Date dateOfPayment, OutputSink output);
+    
+    /**
+     * This method sets the study abroad status of an international student.
+     * @param internationalStudent the international student whose study abroad status we want to set.
+     * @param studyAbroadStatus boolean value (true/false) that dictates whether or not an international student is studying abroad.
+     * @param output the output sink that error messages are written to.
+     * @return true if international student's study abroad status was changed successfully, false otherwise.
+     */
+    boolean setStudyAbroadToTrue(International internationalStudent, boolean studyAbroadStatus, OutputSink output);
+    
+    /**
+     * This method sets the study abroad status of the international student with a name and major.
+     * @param name the name of the international student.
+     * @param major the major of the international student.
+     * @param studyAbroadStatus boolean value (true/false) that dictates whether or not the student is studying abroad.
+     * @param output the output sink that error messages are written to.
+     * @return true if the study abroad status was changed successfully, false otherwise.
+     */
+    boolean setStudyAbroad(String name, Major major, boolean studyAbroadStatus, OutputSink output);
+    
+    /**
+     * This method sets the financial aid amount for a resident student.
+     * @param residentStudent an instance of a 'Resident' student whose financial aid amount we are updating.
+     * @param financialAidAmount the amount of financial aid in cents to be set.
+     * @param output the output sink that error messages are written to.
+     * @return true if resident student's financial aid amount was successfully changed, false otherwise.
+     */
+    boolean setFinancialAid(Resident residentStudent, long financialAidAmount, OutputSink output);
+    
+    /**
+     * This method awards financial aid to the resident student with a name and major.
+     * @param name the name of the resident student.
+     * @param major the major of the resident student.
+     * @param financialAidAmount the amount of financial aid in cents to be awarded.
+     * @param output the output sink that error messages are written to.
+     * @return true if the financial aid was awarded successfully, false otherwise.
+     */
+    boolean awardAid(String name, Major major, long financialAidAmount, OutputSink output);
+    
+    /**
+     * Getter method to return the totals of the students in the roster by major, student type, and state; they are kept up to date as the roster changes, so no scan is needed.
+     * @return a copy of the aggregates that does not change when the roster changes.
+     */
+    RosterAggregates getAggregates();
+    
+    /**
+     * Print out the list of students in the roster.
+     * @param output the output sink that the list is written to.
+     */
+    void print(OutputSink output);
+    
+    /**
+     * Print out the list of students who made payments, sorted by payment date from oldest to newest.
+     * @param output the output sink that the list is written to.
+     */
+    void printByPaymentDate(OutputSink output);
+    
+    /**
+     * Print out the list of students in the roster sorted by student name in alphabetical order.
+     * @param output the output sink that the list is written to.
+     */
+    void printByStudentName(OutputSink output);
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package tuitionmanager;
+
+/**
+ * This class is an enum class which defines the four kinds of students that a roster can hold.
+ * Its ordinal is the one-byte type code stored by ColumnarRoster and RosterSnapshot.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public enum StudentType {
+    RESIDENT,
+    NON_RESIDENT,
+    TRI_STATE,
+    INTERNATIONAL;
+    
+    private static final StudentType[] TYPES = values();
+    
+    /**
+     * Find the type of a given student; subclasses of NonResident are checked before NonResident itself.
+     * @param student the student.
+     * @return the type of the student.
+     * @throws IllegalArgumentException if the student is not one of the four kinds of students.
+     */
+    static StudentType of(Student student) {
+        if (student instanceof Resident)
+            return RESIDENT;
+        if (student instanceof TriState)
+            return TRI_STATE;
+        if (student instanceof International)
+            return INTERNATIONAL;
+        if (student instanceof NonResident)
+            return NON_RESIDENT;
+        throw new IllegalArgumentException("Unsupported student type: " + student.getClass().getName());
+    }
+    
+    /**
+     * Convert a stored one-byte type code back to a student type.
+     * @param code the type code, as returned by code().
+     * @return the student type.
+     * @throws IllegalArgumentException if the code does not belong to a student type.
+     */
+    static StudentType fromCode(byte code) {
+        if (code < 0 || code >= TYPES.length)
+            throw new IllegalArgumentException("Unknown student type: " + code);
+        return TYPES[code];
+    }
+    
+    /**
+     * Convert the student type to the one-byte code that is stored for it.
+     * @return the type code.
+     */
+    byte code() {
+        return (byte)ordinal();
+    }
+}
\ No newline at end of file
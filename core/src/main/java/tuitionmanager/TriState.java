@@ -0,0 +1,94 @@
+package tuitionmanager;
+
+/**
+ * Class that defines a tri-state student (a subgroup of non-resident which is a subgroup of student).
+ * Keeps track of the state that the tri-state student is from, which sets the tuition discount that comes with it.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class TriState extends NonResident {
+    
+    private State state;
+    
+    /* Default rates of a TuitionRateTable */
+    private static final long NEW_YORK_TUITION_DISCOUNT = Money.dollars(4000);
+    private static final long CONNECTICUT_TUITION_DISCOUNT = Money.dollars(5000);
+    
+    /**
+     * Parameterized constructor that takes a 'Profile' object, calls the superclass constructors, and creates an instance of an 'TriState' student.
+     * @param profile a 'Profile' instance which holds the name and major of a given student.
+     */
+    public TriState(Profile profile) {
+        super(profile);
+        state = null;
+    }
+    
+    /**
+     * Second parameterized constructor that takes a 'Profile' instance, a number of credits, and a 'State' enum (to hold the tri-state student's state) and uses them to construct an 'TriState' student instance by calling its superclass constructors.
+     * @param profile a 'Profile' instance which holds the name and major of a given student.
+     * @param credits the number of credits the student is taking this semester.
+     * @param state 'State' enum to hold whether a student is from New York or Connecticut.
+     */
+    public TriState(Profile profile, int credits, State state) {
+        super(profile, credits);
+        this.state = state;
+    }
+    
+    /**
+     * Method to return the default tuition discount that comes with a tri-state student's state.
+     * @param state 'State' enum to hold whether a student is from New York or Connecticut.
+     * @return the tuition discount, in cents.
+     */
+    static long discountFor(State state) {
+        if (State.convertStateToString(state).equals("NY"))
+            return NEW_YORK_TUITION_DISCOUNT;
+        return CONNECTICUT_TUITION_DISCOUNT;
+    }
+    
+    /**
+     * Method that overrides tuitionDue() method in 'Student' and 'NonResident' classes; calculates and sets the tuition that a tri-state student owes.
+     */
+    @Override
+    public void tuitionDue() {
+        if (getTotalTuitionPaid() > 0)
+            return;
+        setTuitionOwed(tuitionFor(getCredits(), state));
+    }
+    
+    /**
+     * Calculates the tuition that a tri-state student owes from the student's credits and state with the current TuitionRateTable, without needing a 'TriState' instance.
+     * @param credits the number of credits the student is taking this semester.
+     * @param state 'State' enum to hold whether a student is from New York or Connecticut, or null for no discount.
+     * @return the tuition owed, in cents.
+     */
+    public static long tuitionFor(int credits, State state) {
+        return TuitionRateTable.getCurrent().triStateTuition(credits, state);
+    }
+    
+    /**
+     * Getter method to return the state that a tri-state student is from.
+     * @return the state as a 'State' enum.
+     */
+    public State getState() {
+        return state;
+    }
+    
+    /**
+     * Method that calls upon superclass appendTo() methods and appends the textual representation of a 'TriState' student instance to a StringBuilder.
+     * @param row the StringBuilder that the student is appended to.
+     * @return the StringBuilder, so calls can be chained.
+     */
+    @Override
+    public StringBuilder appendTo(StringBuilder row) {
+        return appendFields(super.appendTo(row), state);
+    }
+    
+    /**
+     * Method that appends the fields of a tri-state student, in the format of toString(), after the fields of a non-resident student.
+     * @param row the StringBuilder that the fields are appended to.
+     * @param state the state that the student is from.
+     * @return the StringBuilder, so calls can be chained.
+     */
+    static StringBuilder appendFields(StringBuilder row, State state) {
+        return row.append("(tri-state):").append(state);
+    }
+}
\ No newline at end of file
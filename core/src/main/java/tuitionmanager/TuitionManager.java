@@ -0,0 +1,656 @@
+package tuitionmanager;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Scanner;
+
+/**
+ * Class that defines the 'Tuition Manager' abstract data type which can manage the tuition of various types of students.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class TuitionManager {
+    
+    private Scanner userInput;  // will be used to scan, store, and refer to user input
+    private StudentRoster roster;
+    private OutputSink output;  // every message and report is written here
+    private CommandJournal journal;  // commands that change the roster are logged here before they are acknowledged; null if there is no journal
+    private PaymentLedger ledger;  // every payment applied by the 'T' command
+    private int parsingThreads;  // the number of threads that parse the lines of a batch while it is applied; 0 parses them on the applying thread
+    private TuitionMetrics metrics;  // every command is counted and timed here; null if commands are not measured
+    private int lineNumber;  // the number of the line of the command being executed, in the command file, journal, or console session; 0 if it has none
+    
+    static final int MAXIMUM_CREDITS = 24;  // also the most credits in a TuitionRateTable
+    private static final int DATE_RANGE_ARGUMENTS = 3;  // the command and the first and last dates
+    public static final int MINIMUM_INTERNATIONAL_CREDITS = 12;
+    private static final int STUDENT_ARGUMENTS = 3;  // the command, the name, and the major
+    private static final long NOT_APPLIED = -1;
+    
+    private static final String BATCH_UNSUPPORTED_MESSAGE = "Command not supported in batch mode.";
+    private static final String BATCH_MALFORMED_MESSAGE = "Malformed command line.";
+    private static final String BATCH_NOT_APPLIED_MESSAGE = "Command not applied.";
+    private static final String SESSION_MALFORMED_MESSAGE = "Malformed command line, session ended: ";
+    
+    /**
+     * Default constructor to instantiate a tuition manager which accepts user input via a 'Scanner' instance and instantiates a Roster object.
+     * Output is written to the standard output through a buffer that is flushed once per command.
+     */
+    public TuitionManager() {
+        this(new Roster());
+    }
+    
+    /**
+     * Parameterized constructor to instantiate a tuition manager which accepts user input via a 'Scanner' instance and keeps its students in the given roster.
+     * Output is written to the standard output through a buffer that is flushed once per command.
+     * @param roster the empty roster that students are kept in, e.g. a Roster or a ColumnarRoster.
+     */
+    public TuitionManager(StudentRoster roster) {
+        this(new InputStreamReader(System.in), OutputSink.standardOutput(), roster);
+    }
+    
+    /**
+     * Parameterized constructor to instantiate a tuition manager which reads commands from the given input and writes its messages and reports to the given output.
+     * @param commandInput the character stream that commands are read from in interactive mode.
+     * @param commandOutput the destination (e.g. a Writer or StringBuilder) that messages and reports are written to.
+     */
+    public TuitionManager(Reader commandInput, Appendable commandOutput) {
+        this(commandInput, new OutputSink(commandOutput), new Roster());
+    }
+    
+    /**
+     * Parameterized constructor to instantiate a tuition manager which reads commands from the given input, writes its messages and reports to the given output, and keeps its students in the given roster.
+     * @param commandInput the character stream that commands are read from in interactive mode.
+     * @param commandOutput the destination (e.g. a Writer or StringBuilder) that messages and reports are written to.
+     * @param roster the empty roster that students are kept in, e.g. a Roster or a ColumnarRoster.
+     */
+    public TuitionManager(Reader commandInput, Appendable commandOutput, StudentRoster roster) {
+        this(commandInput, new OutputSink(commandOutput), roster);
+    }
+    
+    /**
+     * Private constructor shared by the public constructors.
+     * @param commandInput the character stream that commands are read from in interactive mode.
+     * @param output the output sink that messages and reports are written to.
+     * @param roster the roster that students are kept in.
+     */
+    private TuitionManager(Reader commandInput, OutputSink output, StudentRoster roster) {
+        userInput = new Scanner(commandInput);
+        this.roster = roster;
+        this.output = output;
+        ledger = new PaymentLedger();
+    }
+    
+    /**
+     * Setter method to set the number of threads used by the 'C' or calculate tuition command.
+     * @param parallelism the number of threads to split the roster across; 1 calculates tuition serially.
+     */
+    public void setCalculationParallelism(int parallelism) {
+        roster.setParallelism(parallelism);
+    }
+    
+    /**
+     * Setter method to set the number of threads that split and validate the lines of a batch (see runBatch()) while the commands are applied in order on the calling thread.
+     * @param parsingThreads the number of parsing threads; 0 (the default) reads and parses every line on the calling thread.
+     */
+    public void setParsingThreads(int parsingThreads) {
+        if (parsingThreads < 0)
+            throw new IllegalArgumentException("parsingThreads is negative: " + parsingThreads);
+        this.parsingThreads = parsingThreads;
+    }
+    
+    /**
+     * Setter method to set the metrics that every command is counted and timed in, e.g. to share one set of metrics between the sessions of a command server.
+     * @param metrics the metrics, or null to stop measuring commands.
+     */
+    public void setMetrics(TuitionMetrics metrics) {
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Setter method to set the journal that every successful command changing the roster is logged to before it is acknowledged.
+     * @param journal the open command journal, or null to stop journaling.
+     */
+    public void setJournal(CommandJournal journal) {
+        this.journal = journal;
+    }
+    
+    /**
+     * Setter method to set the ledger that every payment is recorded in, e.g. to share one ledger between the sessions of a command server.
+     * @param ledger the payment ledger.
+     */
+    public void setPaymentLedger(PaymentLedger ledger) {
+        this.ledger = ledger;
+    }
+    
+    /**
+     * Getter method to return the ledger that every payment is recorded in.
+     * @return the payment ledger.
+     */
+    public PaymentLedger getPaymentLedger() {
+        return ledger;
+    }
+    
+    /**
+     * This method rebuilds the roster by applying the commands of a journal written by an earlier run, without printing their messages.
+     * The replayed commands are not logged to the journal again.
+     * @param journalFile the character stream holding the journaled command lines.
+     * @return the number of commands that were applied.
+     * @throws IOException if the journal cannot be read.
+     */
+    public int replay(Reader journalFile) throws IOException {
+        CommandReader commandReader = new CommandReader(journalFile);
+        OutputSink console = output;
+        CommandJournal currentJournal = journal;
+        StringBuilder commandMessages = new StringBuilder();
+        int appliedCommands = 0;
+        output = new OutputSink(commandMessages);
+        journal = null;
+        try {
+            String[] commandTokens;
+            while ((commandTokens = commandReader.nextCommand()) != null) {
+                if (commandTokens.length == 0 || !isUpdateCommand(commandTokens[0]))
+                    continue;
+                commandMessages.setLength(0);
+                lineNumber = commandReader.getLineNumber();
+                if (executeCommand(ParsedCommand.parse(commandTokens)))
+                    appliedCommands++;
+            }
+        }
+        finally {
+            output = console;
+            journal = currentJournal;
+            lineNumber = 0;
+        }
+        return appliedCommands;
+    }
+    
+    /**
+     * This method saves the roster and the payment ledger to a snapshot file, recording how much of the journal it covers, and which journal,
+     * so a restart only replays the commands after it and refuses to replay another journal.
+     * If the roster is shared by several sessions (a ConcurrentRoster), the snapshot is written while holding its exclusive lock,
+     * so no command changes the roster between the students saved and the length of the journal recorded.
+     * @param snapshotFile the path of the snapshot file.
+     * @throws IOException if the journal cannot be read or the snapshot cannot be written.
+     */
+    public void writeSnapshot(Path snapshotFile) throws IOException {
+        if (!(roster instanceof ConcurrentRoster)) {
+            RosterSnapshot.write(roster, ledger, journal, snapshotFile);
+            return;
+        }
+        try {
+            ((ConcurrentRoster)roster).callExclusively(() -> {
+                try {
+                    RosterSnapshot.write(roster, ledger, journal, snapshotFile);
+                }
+                catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+                return null;
+            });
+        }
+        catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+    
+    /**
+     * This method restores the roster and the payment ledger from a snapshot file; both must still be empty.
+     * @param snapshotFile the path of the snapshot file.
+     * @return the header of the snapshot; the journal has to be checked with checkJournal() and replayed from getJournalLength().
+     * @throws IOException if the snapshot cannot be read.
+     */
+    public RosterSnapshot readSnapshot(Path snapshotFile) throws IOException {
+        return RosterSnapshot.read(snapshotFile, roster, ledger);
+    }
+    
+    /**
+     * This method runs the tuition manager which continually takes user commands until the command "Q" is received.
+     * The output is flushed once after every command, so a report is written as a single block.
+     * If there is a journal, a command that changes the roster is only acknowledged once it has been logged and forced to disk.
+     * Takes a line of user input and creates an array of Strings, containing a command and relevant data, by parsing comma-delimited lines.
+     * A line that is too malformed to parse ends the run with the exception it was parsed with.
+     */
+    public void run() {
+        run(false);
+    }
+    
+    /**
+     * This method runs the tuition manager as run() does, for a session of a CommandServer: a line that is too malformed to parse
+     * is answered with a message naming the line and ends the session without an exception, so the client learns why its connection is closed.
+     * Every other exception is still thrown.
+     */
+    void runSession() {
+        run(true);
+    }
+    
+    /**
+     * Private helper method to run the tuition manager until the command "Q" is received.
+     * @param reportMalformedLine true to end the run with a message if a line is too malformed to parse, false to throw the exception it was parsed with.
+     */
+    private void run(boolean reportMalformedLine) {
+        output.println("Tuition Manager starts running.\n\n");
+        output.flush();
+        while (userInput.hasNext()) {
+            String commandLine = userInput.nextLine();
+            lineNumber++;
+            ParsedCommand command = ParsedCommand.parse(CommandReader.tokenize(commandLine));
+            try {
+                executeAndJournal(command, commandLine, true);
+            }
+            catch (RuntimeException exception) {
+                if (!reportMalformedLine || exception != command.getMalformation())
+                    throw exception;
+                output.println(SESSION_MALFORMED_MESSAGE + commandLine);
+                output.flush();
+                return;
+            }
+            output.flush();
+            if (command.getTokens()[0].equals("Q")) {
+                userInput.close();
+                break;
+            }
+        }
+        output.println("Tuition Manager terminated.");
+        output.flush();
+    }
+    
+    /**
+     * This method runs the tuition manager in batch mode over a command file, applying every command in a single pass.
+     * The messages of individual commands are not printed; instead, one summary line is printed at the end, followed by a report of every command that was rejected.
+     * Printing commands (P, PT, PN, PL, PD, PS) are rejected in batch mode, empty lines are skipped, and the command "Q" ends the batch early.
+     * If there is a journal, the applied commands are logged as they are applied and the summary is printed once all of them have been forced to disk.
+     * A line that is too malformed to parse is reported and skipped, but a command that cannot be logged stops the batch, since it has already changed the roster.
+     * If there are parsing threads (see setParsingThreads()), the lines are read, split, and validated on those threads while the commands are applied in order on the calling thread,
+     * with the same result and the same messages.
+     * @param commandFile the character stream holding the comma-delimited commands.
+     * @throws IOException if the command file cannot be read.
+     * @throws java.io.UncheckedIOException if the journal cannot be written.
+     */
+    public void runBatch(Reader commandFile) throws IOException {
+        BatchEvent event = new BatchEvent();
+        event.begin();
+        OutputSink console = output;
+        StringBuilder commandMessages = new StringBuilder();
+        StringBuilder errorReport = new StringBuilder();
+        int appliedCommands = 0, rejectedCommands = 0;
+        output = new OutputSink(commandMessages);
+        try (CommandPipeline pipeline = CommandPipeline.start(commandFile, parsingThreads)) {
+            ParsedCommand command;
+            while ((command = pipeline.next()) != null) {
+                String[] commandTokens = command.getTokens();
+                if (commandTokens.length == 1 && commandTokens[0].isEmpty())
+                    continue;
+                if (commandTokens.length > 0 && commandTokens[0].equals("Q"))
+                    break;
+                commandMessages.setLength(0);
+                boolean applied = false;
+                if (commandTokens.length == 0 || !isUpdateCommand(commandTokens[0]))
+                    commandMessages.append(BATCH_UNSUPPORTED_MESSAGE);
+                else {
+                    try {
+                        lineNumber = pipeline.getLineNumber();
+                        applied = executeAndJournal(command, pipeline.getLine(), false);
+                    }
+                    catch (RuntimeException exception) {
+                        if (exception != command.getMalformation())
+                            throw exception;
+                        commandMessages.setLength(0);
+                        commandMessages.append(BATCH_MALFORMED_MESSAGE);
+                    }
+                }
+                if (applied) {
+                    appliedCommands++;
+                    continue;
+                }
+                rejectedCommands++;
+                String message = commandMessages.toString().trim();
+                errorReport.append("line ").append(pipeline.getLineNumber()).append(": ").append(pipeline.getLine())
+                        .append(" -- ").append(message.isEmpty() ? BATCH_NOT_APPLIED_MESSAGE : message).append(System.lineSeparator());
+            }
+        }
+        finally {
+            output = console;
+            lineNumber = 0;
+        }
+        if (journal != null)
+            journal.awaitDurable();
+        if (event.shouldCommit()) {
+            event.appliedCommands = appliedCommands;
+            event.rejectedCommands = rejectedCommands;
+            event.parsingThreads = parsingThreads;
+            event.rosterSize = roster.getSize();
+            event.commit();
+        }
+        output.println("Batch completed: " + (appliedCommands + rejectedCommands) + " commands, " + appliedCommands + " applied, " 
+                + rejectedCommands + " rejected.");
+        if (rejectedCommands > 0) {
+            output.println("* list of rejected commands **");
+            output.println(errorReport.toString().trim());
+            output.println("* end of rejected commands **");
+        }
+        output.flush();
+    }
+    
+    /**
+     * Private helper method to execute a command and, if it was carried out, changes the roster, and there is a journal, log it to the journal.
+     * If the roster is shared by several sessions (a ConcurrentRoster), the command is executed and logged while holding the same lock of the roster,
+     * so the journal records the commands on every student in the order they were applied and replaying it rebuilds the same roster.
+     * The wait for the command to be forced to disk happens after the lock is released, so the commands of every session share the group commit.
+     * @param command the parsed command.
+     * @param commandLine the comma-delimited command line.
+     * @param awaitDurable true to wait until the command has been forced to disk, false to let later commands share the same fsync.
+     * @return true if the command was carried out, false if it was rejected.
+     */
+    private boolean executeAndJournal(ParsedCommand command, String commandLine, boolean awaitDurable) {
+        String[] commandTokens = command.getTokens();
+        if (journal == null || !isUpdateCommand(commandTokens[0]))
+            return executeCommand(command);
+        long sequence;
+        if (!(roster instanceof ConcurrentRoster))
+            sequence = executeAndAppend(command, commandLine);
+        else if (isSingleStudentCommand(commandTokens)) {
+            sequence = ((ConcurrentRoster)roster).callForStudent(commandTokens[1], Major.convertStringToMajor(commandTokens[2]),
+                    () -> executeAndAppend(command, commandLine));
+        }
+        else
+            sequence = ((ConcurrentRoster)roster).callExclusively(() -> executeAndAppend(command, commandLine));
+        if (sequence == NOT_APPLIED)
+            return false;
+        if (awaitDurable)
+            journal.awaitDurable(sequence);
+        return true;
+    }
+    
+    /**
+     * Private helper method to execute a command that changes the roster and append it to the journal if it was carried out.
+     * @param command the parsed command.
+     * @param commandLine the comma-delimited command line.
+     * @return the sequence number of the command in the journal, or NOT_APPLIED if the command was rejected.
+     */
+    private long executeAndAppend(ParsedCommand command, String commandLine) {
+        if (!executeCommand(command))
+            return NOT_APPLIED;
+        return journal.append(commandLine);
+    }
+    
+    /**
+     * Private helper method to check if a command only changes one student (a payment, study abroad status, or financial aid) that is named in the command.
+     * @param commandTokens an array of Strings, containing a command and relevant data, found by parsing comma-delimited lines.
+     * @return true if the command is 'T', 'S', or 'F' and names a student, false otherwise.
+     */
+    private boolean isSingleStudentCommand(String[] commandTokens) {
+        switch (commandTokens[0]) {
+            case "T" : case "S" : case "F" :
+                return commandTokens.length >= STUDENT_ARGUMENTS;
+            default :
+                return false;
+        }
+    }
+    
+    /**
+     * Private helper method to check if a command changes the roster; only these commands are applied in batch mode and logged to the journal.
+     * @param command the command at the start of a line.
+     * @return true if the command adds, removes, or updates students or calculates tuition, false otherwise.
+     */
+    private boolean isUpdateCommand(String command) {
+        switch (command) {
+            case "AR" : case "AN" : case "AT" : case "AI" : case "R" : case "C" : case "T" : case "S" : case "F" :
+                return true;
+            default :
+                return false;
+        }
+    }
+    
+    /**
+     * Private helper method to execute a command and, if there are metrics, count it and record how long it took.
+     * If a flight recording is running, the command is also recorded as a CommandEvent.
+     * The time covers applying the command to the roster and printing its messages, but not waiting for the journal.
+     * @param command the parsed command.
+     * @return true if the command was carried out, false if it was rejected.
+     */
+    private boolean executeCommand(ParsedCommand command) {
+        CommandEvent event = new CommandEvent();
+        if (metrics == null && !event.isEnabled())
+            return dispatchCommand(command);
+        long start = System.nanoTime();
+        event.begin();
+        boolean carriedOut = false;
+        try {
+            carriedOut = dispatchCommand(command);
+            return carriedOut;
+        }
+        finally {
+            if (metrics != null)
+                metrics.recordCommand(command, System.nanoTime() - start, carriedOut);
+            if (event.shouldCommit())
+                commitCommandEvent(event, command, carriedOut);
+        }
+    }
+    
+    /**
+     * Private helper method to fill in and commit the flight recorder event of a command that has been executed.
+     * @param event the event, begun before the command was executed.
+     * @param command the parsed command.
+     * @param carriedOut true if the command was carried out, false if it was rejected or failed.
+     */
+    private void commitCommandEvent(CommandEvent event, ParsedCommand command, boolean carriedOut) {
+        String[] commandTokens = command.getTokens();
+        if (commandTokens.length > 0)
+            event.command = commandTokens[0];
+        if (namesStudent(commandTokens)) {
+            event.student = commandTokens[1];
+            event.major = commandTokens[2];
+        }
+        event.lineNumber = lineNumber;
+        event.rosterSize = roster.getSize();
+        event.carriedOut = carriedOut;
+        event.invalid = command.isInvalid();
+        event.commit();
+    }
+    
+    /**
+     * Private helper method to check if a command names a student by name and major.
+     * @param commandTokens an array of Strings, containing a command and relevant data, found by parsing comma-delimited lines.
+     * @return true if the command adds, removes, or updates a student and has a name and a major, false otherwise.
+     */
+    private boolean namesStudent(String[] commandTokens) {
+        if (commandTokens.length < STUDENT_ARGUMENTS)
+            return false;
+        return isUpdateCommand(commandTokens[0]) && !commandTokens[0].equals("C");
+    }
+    
+    /**
+     * Private helper method to check if user command is valid, execute command if possible, and print to the console.
+     * If command is invalid, print a message to the console letting the user know.
+     * A line that was too malformed to parse throws the exception it was parsed with.
+     * @param command the parsed command.
+     * @return true if the command was carried out, false if it was rejected.
+     */
+    private boolean dispatchCommand(ParsedCommand command) {
+        String[] commandTokens = command.getTokens();
+        if (command.getMalformation() != null)
+            throw command.getMalformation();
+        if (command.getRejection() != null) {
+            output.println(command.getRejection()); return false;
+        }
+        switch (commandTokens[0]) {
+            case "AR" : case "AN" : case "AT" : case "AI" : return executeCommandAdd(command);
+            case "R" : return executeCommandR(command);
+            case "C" : return executeCommandC(commandTokens);
+            case "T" : return executeCommandT(command);
+            case "S" : return executeCommandS(command);
+            case "F" : return executeCommandF(command);
+            case "P" : case "PT" : case "PN" : case "PL" : case "PD" : case "PS" : return executeReport(commandTokens);
+            case "" :
+                output.println();
+                return true;
+            case "Q" : 
+                return true;
+            default : output.println("Command '" + commandTokens[0] + "' not supported!");
+                return false;
+        }
+    }
+    
+    /**
+     * Private helper method to execute and print a report: the 'P', 'PT', 'PN', 'PL', 'PD', or 'PS' command.
+     * If a flight recording is running, the report is also recorded as a ReportEvent.
+     * @param commandTokens an array of Strings, containing a command and relevant data, found by parsing comma-delimited lines.
+     * @return true if the report was printed, false if the command was rejected.
+     */
+    private boolean executeReport(String[] commandTokens) {
+        ReportEvent event = new ReportEvent();
+        event.begin();
+        boolean printed = true;
+        switch (commandTokens[0]) {
+            case "P" : roster.print(output);
+                break;
+            case "PT" : roster.printByPaymentDate(output);
+                break;
+            case "PN" : roster.printByStudentName(output);
+                break;
+            case "PL" : printed = executeCommandPL(commandTokens);
+                break;
+            case "PD" : printed = executeCommandPD(commandTokens);
+                break;
+            default : roster.getAggregates().print(output);
+        }
+        if (event.shouldCommit()) {
+            event.report = commandTokens[0];
+            event.rosterSize = roster.getSize();
+            event.commit();
+        }
+        return printed;
+    }
+    
+    /**
+     * Private helper method to execute and print to the console the results of the 'AR', 'AN', 'AT', or 'AI' or add resident, non-resident, tri-state, or international student commands.
+     * @param command the parsed command, holding the new student.
+     * @return true if the command was carried out, false if it was rejected.
+     */
+    private boolean executeCommandAdd(ParsedCommand command) {
+        if (!roster.add(command.getStudent())) {
+            output.println("Student is already in the roster."); return false;
+        }
+        output.println("Student added.");
+        return true;
+    }
+    
+    /**
+     * Private helper method to execute and print to the console the results of the 'R' or remove command.
+     * @param command the parsed command.
+     * @return true if the command was carried out, false if it was rejected.
+     */
+    private boolean executeCommandR(ParsedCommand command) {
+        if (!roster.remove(command.getTokens()[1], command.getMajor())) {
+            output.println("Student is not in the roster."); return false;
+        }
+        output.println("Student removed from the roster.");
+        return true;
+    }
+    
+    /**
+     * Private helper method to execute and print to the console the results of the 'C' or calculate tuition command.
+     * @param commandTokens an array of Strings, containing a command and relevant data, found by parsing comma-delimited lines.
+     * @return true if the command was carried out, false if it was rejected.
+     */
+    private boolean executeCommandC(String[] commandTokens) {
+        CalculationEvent event = new CalculationEvent();
+        event.begin();
+        int recalculatedStudents = roster.calculateTuition();
+        if (event.shouldCommit()) {
+            event.rosterSize = roster.getSize();
+            event.recalculatedStudents = recalculatedStudents;
+            event.commit();
+        }
+        if (metrics != null)
+            metrics.recordCalculation(recalculatedStudents);
+        output.println("Calculation completed, " + recalculatedStudents + " recalculated.");
+        return true;
+    }
+    
+    /**
+     * Private helper method to execute and print to the console the results of the 'T' or pay tuition command.
+     * @param command the parsed command.
+     * @return true if the command was carried out, false if it was rejected.
+     */
+    private boolean executeCommandT(ParsedCommand command) {
+        String name = command.getTokens()[1];
+        if (!roster.applyPayment(name, command.getMajor(), command.getAmount(), command.getPaymentDate(), output))
+            return false;
+        ledger.record(name, command.getMajor(), command.getAmount(), command.getPaymentDate());
+        output.println("Payment applied.");
+        return true;
+    }
+    
+    /**
+     * Private helper method to execute and print to the console the results of the 'PL' or print payments command, which lists every payment between two dates.
+     * @param commandTokens an array of Strings, containing a command and relevant data, found by parsing comma-delimited lines.
+     * @return true if the command was carried out, false if it was rejected.
+     */
+    private boolean executeCommandPL(String[] commandTokens) {
+        Date[] dateRange = checkArgumentsForDateRange(commandTokens);
+        if (dateRange == null)
+            return false;
+        ledger.printPaymentsBetween(dateRange[0], dateRange[1], output);
+        return true;
+    }
+    
+    /**
+     * Private helper method to execute and print to the console the results of the 'PD' or print payments per day command, which totals the payments on each day between two dates.
+     * @param commandTokens an array of Strings, containing a command and relevant data, found by parsing comma-delimited lines.
+     * @return true if the command was carried out, false if it was rejected.
+     */
+    private boolean executeCommandPD(String[] commandTokens) {
+        Date[] dateRange = checkArgumentsForDateRange(commandTokens);
+        if (dateRange == null)
+            return false;
+        ledger.printDailyTotals(dateRange[0], dateRange[1], output);
+        return true;
+    }
+    
+    /**
+     * Private helper method to execute and print to the console the results of the 'S' or set study abroad status to true command.
+     * @param command the parsed command.
+     * @return true if the command was carried out, false if it was rejected.
+     */
+    private boolean executeCommandS(ParsedCommand command) {
+        if (!roster.setStudyAbroad(command.getTokens()[1], command.getMajor(), command.isStudyAbroad(), output))
+            return false;
+        output.println("Tuition updated.");
+        return true;
+    }
+    
+    /**
+     * Private helper method to execute and print to the console the results of the 'F' or set financial aid amount command.
+     * @param command the parsed command.
+     * @return true if the command was carried out, false if it was rejected.
+     */
+    private boolean executeCommandF(ParsedCommand command) {
+        if (!roster.awardAid(command.getTokens()[1], command.getMajor(), command.getAmount(), output))
+            return false;
+        output.println("Tuition updated.");
+        return true;
+    }
+    
+    /**
+     * Private helper method that checks the two dates of a command that queries the payment ledger.
+     * @param commandTokens an array of Strings containing a command and relevant data found by parsing comma-delimited lines.
+     * @return the first and last dates of the range if there are no errors with the arguments of a given command, null otherwise.
+     */
+    private Date[] checkArgumentsForDateRange(String[] commandTokens) {
+        if (commandTokens.length < DATE_RANGE_ARGUMENTS) {
+            output.println("Missing data in command line."); return null;
+        }
+        int from = Date.parse(commandTokens[1], 0, commandTokens[1].length());
+        int to = Date.parse(commandTokens[2], 0, commandTokens[2].length());
+        if (from == Date.INVALID_FORMAT || to == Date.INVALID_FORMAT) {
+            output.println("Date invalid."); return null;
+        }
+        if (from > to) {
+            output.println("Date range invalid."); return null;
+        }
+        return new Date[] { Date.fromPackedDate(from), Date.fromPackedDate(to) };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+package tuitionmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Class that defines the metrics of a tuition manager: the statistics of every command (see CommandStatistics), the size and capacity of the roster,
+ * and how often and how many students' tuition was recalculated.
+ * One set of metrics can be shared by several tuition managers, e.g. every session of a command server, and published over JMX with register().
+ * Recording a command only increments counters, so the metrics can stay enabled in production.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class TuitionMetrics implements TuitionMetricsMXBean {
+    
+    private final StudentRoster roster;
+    private final Map<String, CommandStatistics> statistics;  // by command, in the order they are printed; only read once it is built
+    private final CommandStatistics otherCommands;  // unsupported commands and empty lines
+    private final LongAdder calculations;
+    private final LongAdder recalculatedStudents;
+    
+    private static final String[] COMMANDS = { "AR", "AN", "AT", "AI", "R", "C", "T", "S", "F", "P", "PT", "PN", "PL", "PD", "PS", "Q" };
+    private static final String OTHER_COMMANDS = "other";
+    private static final String METRICS_NAME = "tuitionmanager:type=TuitionManager";
+    private static final String COMMAND_NAME_PREFIX = "tuitionmanager:type=Command,name=";
+    
+    /**
+     * Parameterized constructor that creates empty metrics for a roster.
+     * @param roster the roster whose size and capacity are published.
+     */
+    public TuitionMetrics(StudentRoster roster) {
+        this.roster = roster;
+        Map<String, CommandStatistics> commandStatistics = new LinkedHashMap<>();
+        for (String command : COMMANDS)
+            commandStatistics.put(command, new CommandStatistics(command));
+        otherCommands = new CommandStatistics(OTHER_COMMANDS);
+        commandStatistics.put(OTHER_COMMANDS, otherCommands);
+        statistics = Collections.unmodifiableMap(commandStatistics);
+        calculations = new LongAdder();
+        recalculatedStudents = new LongAdder();
+    }
+    
+    /**
+     * This method records one execution of a command.
+     * @param command the parsed command.
+     * @param nanoseconds how long the command took to execute.
+     * @param carriedOut true if the command was carried out, false if it was rejected, failed, or threw an exception.
+     */
+    void recordCommand(ParsedCommand command, long nanoseconds, boolean carriedOut) {
+        String[] commandTokens = command.getTokens();
+        CommandStatistics commandStatistics = (commandTokens.length == 0) ? otherCommands : statistics.getOrDefault(commandTokens[0], otherCommands);
+        commandStatistics.record(nanoseconds, carriedOut, command.isInvalid());
+    }
+    
+    /**
+     * This method records one calculation of tuition.
+     * @param recalculated the number of students whose tuition was recalculated.
+     */
+    void recordCalculation(int recalculated) {
+        calculations.increment();
+        recalculatedStudents.add(recalculated);
+    }
+    
+    /**
+     * Getter method to return the statistics of a command.
+     * @param command the command, e.g. "AR"; any command that is not supported shares the statistics named "other".
+     * @return the statistics of the command.
+     */
+    public CommandStatistics getStatistics(String command) {
+        return statistics.getOrDefault(command, otherCommands);
+    }
+    
+    /**
+     * Getter method to return the number of students in the roster.
+     * @return the number of students in the roster.
+     */
+    @Override
+    public int getRosterSize() {
+        return roster.getSize();
+    }
+    
+    /**
+     * Getter method to return the number of students the roster can hold before it has to grow.
+     * @return the capacity of the roster.
+     */
+    @Override
+    public int getRosterCapacity() {
+        return roster.getCapacity();
+    }
+    
+    /**
+     * Getter method to return the number of times tuition was calculated.
+     * @return the number of calculations.
+     */
+    @Override
+    public long getCalculations() {
+        return calculations.sum();
+    }
+    
+    /**
+     * Getter method to return the number of students whose tuition was recalculated, over every calculation.
+     * @return the number of students recalculated.
+     */
+    @Override
+    public long getRecalculatedStudents() {
+        return recalculatedStudents.sum();
+    }
+    
+    /**
+     * Getter method to return the number of commands executed, of every kind.
+     * @return the number of commands.
+     */
+    @Override
+    public long getCommandCount() {
+        long count = 0;
+        for (CommandStatistics commandStatistics : statistics.values())
+            count += commandStatistics.getCount();
+        return count;
+    }
+    
+    /**
+     * Getter method to return the number of commands that were rejected or failed, of every kind.
+     * @return the number of commands that were not carried out.
+     */
+    @Override
+    public long getErrorCount() {
+        long count = 0;
+        for (CommandStatistics commandStatistics : statistics.values())
+            count += commandStatistics.getErrorCount();
+        return count;
+    }
+    
+    /**
+     * This method empties the statistics of every command and the calculation counts.
+     */
+    @Override
+    public void reset() {
+        for (CommandStatistics commandStatistics : statistics.values())
+            commandStatistics.reset();
+        calculations.reset();
+        recalculatedStudents.reset();
+    }
+    
+    /**
+     * This method publishes the metrics and the statistics of every command as MBeans.
+     * @param server the MBean server, e.g. ManagementFactory.getPlatformMBeanServer().
+     * @throws JMException if the metrics of another tuition manager are already registered with the server; none of the MBeans are then left registered.
+     */
+    public void register(MBeanServer server) throws JMException {
+        List<ObjectName> registered = new ArrayList<>();
+        try {
+            ObjectName metricsName = new ObjectName(METRICS_NAME);
+            server.registerMBean(this, metricsName);
+            registered.add(metricsName);
+            for (CommandStatistics commandStatistics : statistics.values()) {
+                ObjectName commandName = new ObjectName(COMMAND_NAME_PREFIX + commandStatistics.getCommand());
+                server.registerMBean(commandStatistics, commandName);
+                registered.add(commandName);
+            }
+        }
+        catch (JMException exception) {
+            for (ObjectName name : registered)
+                server.unregisterMBean(name);
+            throw exception;
+        }
+    }
+    
+    /**
+     * This method removes the MBeans published by register().
+     * @param server the MBean server the metrics were registered with.
+     * @throws JMException if the metrics are not registered with the server.
+     */
+    public void unregister(MBeanServer server) throws JMException {
+        server.unregisterMBean(new ObjectName(METRICS_NAME));
+        for (CommandStatistics commandStatistics : statistics.values())
+            server.unregisterMBean(new ObjectName(COMMAND_NAME_PREFIX + commandStatistics.getCommand()));
+    }
+    
+    /**
+     * This method prints out the size of the roster, the calculation counts, and one line for every command that has been executed, with latencies in microseconds.
+     * @param output the output sink that the metrics are written to.
+     */
+    public void print(OutputSink output) {
+        output.println("* command metrics **");
+        output.println("roster:" + getRosterSize() + " students:capacity " + getRosterCapacity() + ":" + getCalculations() + " calculations:"
+                + getRecalculatedStudents() + " recalculated");
+        for (CommandStatistics commandStatistics : statistics.values()) {
+            if (commandStatistics.getCount() > 0)
+                commandStatistics.print(output);
+        }
+        output.println("* end of metrics **");
+    }
+}
\ No newline at end of file
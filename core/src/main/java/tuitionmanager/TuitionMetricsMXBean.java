@@ -0,0 +1,50 @@
+package tuitionmanager;
+
+/**
+ * Interface that defines the attributes and operations of the metrics of a tuition manager that are published over JMX, as "tuitionmanager:type=TuitionManager".
+ * The statistics of each command are published separately (see CommandStatisticsMXBean).
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public interface TuitionMetricsMXBean {
+    
+    /**
+     * Getter method to return the number of students in the roster.
+     * @return the number of students in the roster.
+     */
+    int getRosterSize();
+    
+    /**
+     * Getter method to return the number of students the roster can hold before it has to grow.
+     * @return the capacity of the roster.
+     */
+    int getRosterCapacity();
+    
+    /**
+     * Getter method to return the number of times tuition was calculated (the 'C' command).
+     * @return the number of calculations.
+     */
+    long getCalculations();
+    
+    /**
+     * Getter method to return the number of students whose tuition was recalculated, over every calculation.
+     * @return the number of students recalculated.
+     */
+    long getRecalculatedStudents();
+    
+    /**
+     * Getter method to return the number of commands executed, of every kind.
+     * @return the number of commands.
+     */
+    long getCommandCount();
+    
+    /**
+     * Getter method to return the number of commands that were rejected or failed, of every kind.
+     * @return the number of commands that were not carried out.
+     */
+    long getErrorCount();
+    
+    /**
+     * This method empties the statistics of every command and the calculation counts.
+     */
+    void reset();
+}
\ No newline at end of file
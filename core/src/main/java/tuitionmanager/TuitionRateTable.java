@@ -0,0 +1,248 @@
+package tuitionmanager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Class that defines the 'Tuition Rate Table' abstract data type; the tuition every kind of student owes, worked out once for every number of credits.
+ * The base tuition of every rate group (resident, non-resident, tri-state from each state, international, and international studying abroad)
+ * is precomputed for 0 to TuitionManager.MAXIMUM_CREDITS credits into one flat array, so calculating a student's tuition is an array index
+ * plus the financial aid of a full-time resident; tuition for credits outside the table is worked out with the same formulas.
+ * The rates default to the fees of the 'Student' subclasses and can be loaded from a rates file instead, so a fee change does not need a new release.
+ * A rates file is a properties file of amounts in dollars, e.g. "resident.tuition.full.time=12536"; every rate left out keeps its default:
+ * university.fee.full.time, university.fee.part.time (defaults to 80% of the full-time fee), resident.tuition.full.time, resident.tuition.per.credit,
+ * nonresident.tuition.full.time, nonresident.tuition.per.credit, tristate.discount.NY, tristate.discount.CT, and international.fee.
+ * A table never changes once it is built, so it can be shared by every thread that calculates tuition.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public final class TuitionRateTable {
+    
+    private final long fullTimeUniversityFee;  // every rate is in cents
+    private final long partTimeUniversityFee;
+    private final long fullTimeResidentTuition;
+    private final long residentTuitionRatePerCredit;
+    private final long fullTimeNonResidentTuition;
+    private final long nonResidentTuitionRatePerCredit;
+    private final long[] triStateDiscounts;  // indexed by the ordinal of the state
+    private final long internationalFee;
+    private final long[] baseTuition;  // indexed by rate group * CREDIT_SLOTS + credits
+    
+    private static final State[] STATES = State.values();
+    private static final int RESIDENT_GROUP = 0;
+    private static final int NON_RESIDENT_GROUP = 1;
+    private static final int FIRST_TRI_STATE_GROUP = 2;
+    private static final int INTERNATIONAL_GROUP = FIRST_TRI_STATE_GROUP + STATES.length;
+    private static final int STUDY_ABROAD_GROUP = INTERNATIONAL_GROUP + 1;
+    private static final int NUMBER_OF_GROUPS = STUDY_ABROAD_GROUP + 1;
+    private static final int CREDIT_SLOTS = TuitionManager.MAXIMUM_CREDITS + 1;  // 0 to the most credits a student can take
+    private static final int PERCENT = 100;
+    
+    private static final String FULL_TIME_UNIVERSITY_FEE = "university.fee.full.time";
+    private static final String PART_TIME_UNIVERSITY_FEE = "university.fee.part.time";
+    private static final String FULL_TIME_RESIDENT_TUITION = "resident.tuition.full.time";
+    private static final String RESIDENT_TUITION_RATE_PER_CREDIT = "resident.tuition.per.credit";
+    private static final String FULL_TIME_NONRESIDENT_TUITION = "nonresident.tuition.full.time";
+    private static final String NONRESIDENT_TUITION_RATE_PER_CREDIT = "nonresident.tuition.per.credit";
+    private static final String TRI_STATE_DISCOUNT_PREFIX = "tristate.discount.";
+    private static final String INTERNATIONAL_FEE = "international.fee";
+    
+    private static final TuitionRateTable DEFAULT_RATES = new TuitionRateTable(new Properties());
+    private static volatile TuitionRateTable current = DEFAULT_RATES;
+    
+    /**
+     * Private constructor that reads the rates from properties, falling back to the default of every rate that is not set, and precomputes the base tuition.
+     * @param rates the rates in dollars, keyed by rate name.
+     * @throws IllegalArgumentException if a rate is not an amount or is negative.
+     */
+    private TuitionRateTable(Properties rates) {
+        fullTimeUniversityFee = rate(rates, FULL_TIME_UNIVERSITY_FEE, Student.FULL_TIME_UNIVERSITY_FEE);
+        partTimeUniversityFee = rate(rates, PART_TIME_UNIVERSITY_FEE, fullTimeUniversityFee * Student.PART_TIME_UNIVERSITY_FEE_PERCENT / PERCENT);
+        fullTimeResidentTuition = rate(rates, FULL_TIME_RESIDENT_TUITION, Resident.FULL_TIME_RESIDENT_TUITION);
+        residentTuitionRatePerCredit = rate(rates, RESIDENT_TUITION_RATE_PER_CREDIT, Resident.RESIDENT_TUITION_RATE_PER_CREDIT);
+        fullTimeNonResidentTuition = rate(rates, FULL_TIME_NONRESIDENT_TUITION, NonResident.FULL_TIME_NONRESIDENT_TUITION);
+        nonResidentTuitionRatePerCredit = rate(rates, NONRESIDENT_TUITION_RATE_PER_CREDIT, NonResident.NONRESIDENT_TUITION_RATE_PER_CREDIT);
+        triStateDiscounts = new long[STATES.length];
+        for (State state : STATES)
+            triStateDiscounts[state.ordinal()] = rate(rates, TRI_STATE_DISCOUNT_PREFIX + state.name(), TriState.discountFor(state));
+        internationalFee = rate(rates, INTERNATIONAL_FEE, International.ADDITIONAL_INTERNATIONAL_FEE);
+        baseTuition = new long[NUMBER_OF_GROUPS * CREDIT_SLOTS];
+        for (int group = 0; group < NUMBER_OF_GROUPS; group++) {
+            for (int credits = 0; credits < CREDIT_SLOTS; credits++)
+                baseTuition[group * CREDIT_SLOTS + credits] = calculateBaseTuition(group, credits);
+        }
+    }
+    
+    /**
+     * Private helper method to read one rate, taking it out of the properties so that any rate left over is known to be unknown.
+     * @param rates the rates in dollars, keyed by rate name.
+     * @param name the name of the rate.
+     * @param defaultRate the rate in cents if it is not set.
+     * @return the rate in cents.
+     * @throws IllegalArgumentException if the rate is not an amount or is negative.
+     */
+    private static long rate(Properties rates, String name, long defaultRate) {
+        Object value = rates.remove(name);
+        if (value == null)
+            return defaultRate;
+        String text = value.toString().trim();
+        long rate = Money.parse(text, 0, text.length());
+        if (rate == Money.INVALID_AMOUNT || rate < 0)
+            throw new IllegalArgumentException("Invalid rate " + name + "=" + text);
+        return rate;
+    }
+    
+    /**
+     * Getter method to return the table of the default rates, the fees of the 'Student' subclasses.
+     * @return the default table.
+     */
+    public static TuitionRateTable defaults() {
+        return DEFAULT_RATES;
+    }
+    
+    /**
+     * This method reads a rates file and builds a table from it; every rate the file leaves out keeps its default.
+     * @param ratesFile the path of the rates file, a properties file of amounts in dollars.
+     * @return the table of the rates.
+     * @throws IOException if the file cannot be read, or holds an unknown rate or a rate that is not a positive amount.
+     */
+    public static TuitionRateTable load(Path ratesFile) throws IOException {
+        Properties rates = new Properties();
+        try (Reader reader = Files.newBufferedReader(ratesFile, StandardCharsets.UTF_8)) {
+            rates.load(reader);
+        }
+        try {
+            return fromProperties(rates);
+        }
+        catch (IllegalArgumentException exception) {
+            throw new IOException(exception.getMessage() + ": " + ratesFile, exception);
+        }
+    }
+    
+    /**
+     * This method builds a table from rates given as properties of amounts in dollars; every rate that is not set keeps its default.
+     * @param rates the rates, keyed by the rate names a rates file uses.
+     * @return the table of the rates.
+     * @throws IllegalArgumentException if a rate is unknown, is not an amount, or is negative.
+     */
+    public static TuitionRateTable fromProperties(Properties rates) {
+        Properties remainingRates = new Properties();
+        remainingRates.putAll(rates);
+        TuitionRateTable table = new TuitionRateTable(remainingRates);
+        if (!remainingRates.isEmpty())
+            throw new IllegalArgumentException("Unknown rate " + remainingRates.keys().nextElement());
+        return table;
+    }
+    
+    /**
+     * Getter method to return the table that tuition is calculated with.
+     * @return the current table; the default table unless another one was set.
+     */
+    public static TuitionRateTable getCurrent() {
+        return current;
+    }
+    
+    /**
+     * Setter method to replace the table that tuition is calculated with; it is meant to be set at startup, before any tuition is calculated.
+     * Students whose tuition was already calculated keep it until it is recalculated, except that students restored from a snapshot
+     * taken with other rates have their tuition recalculated by the next 'C' command.
+     * @param table the new table.
+     */
+    public static void setCurrent(TuitionRateTable table) {
+        if (table == null)
+            throw new IllegalArgumentException("table is null");
+        current = table;
+    }
+    
+    /**
+     * This method returns the tuition that a resident student owes; the financial aid only applies to a full-time student.
+     * @param credits the number of credits the student is taking this semester.
+     * @param financialAid the financial aid awarded to the student, in cents.
+     * @return the tuition owed, in cents.
+     */
+    public long residentTuition(int credits, long financialAid) {
+        long aid = (credits >= Student.MINIMUM_FULL_TIME_CREDITS) ? financialAid : 0;
+        return baseTuition(RESIDENT_GROUP, credits) - aid;
+    }
+    
+    /**
+     * This method returns the tuition that a non-resident student owes.
+     * @param credits the number of credits the student is taking this semester.
+     * @return the tuition owed, in cents.
+     */
+    public long nonResidentTuition(int credits) {
+        return baseTuition(NON_RESIDENT_GROUP, credits);
+    }
+    
+    /**
+     * This method returns the tuition that a tri-state student owes, with the discount of the student's state for a full-time student.
+     * @param credits the number of credits the student is taking this semester.
+     * @param state the state that the student is from, or null for no discount.
+     * @return the tuition owed, in cents.
+     */
+    public long triStateTuition(int credits, State state) {
+        return baseTuition((state == null) ? NON_RESIDENT_GROUP : FIRST_TRI_STATE_GROUP + state.ordinal(), credits);
+    }
+    
+    /**
+     * This method returns the tuition that an international student owes; a student who studies abroad only pays the fees.
+     * @param credits the number of credits the student is taking this semester.
+     * @param studyAbroad true if the student studies abroad, false otherwise.
+     * @return the tuition owed, in cents.
+     */
+    public long internationalTuition(int credits, boolean studyAbroad) {
+        return baseTuition(studyAbroad ? STUDY_ABROAD_GROUP : INTERNATIONAL_GROUP, credits);
+    }
+    
+    /**
+     * Private helper method to look up the base tuition of a rate group, working it out if the credits are outside the table.
+     * @param group the rate group.
+     * @param credits the number of credits.
+     * @return the base tuition, in cents.
+     */
+    private long baseTuition(int group, int credits) {
+        if (credits >= 0 && credits < CREDIT_SLOTS)
+            return baseTuition[group * CREDIT_SLOTS + credits];
+        return calculateBaseTuition(group, credits);
+    }
+    
+    /**
+     * Private helper method to work out the base tuition of a rate group: tuition and fees, less the discount of a tri-state student, before any financial aid.
+     * @param group the rate group.
+     * @param credits the number of credits.
+     * @return the base tuition, in cents.
+     */
+    private long calculateBaseTuition(int group, int credits) {
+        long fee = (group == INTERNATIONAL_GROUP || group == STUDY_ABROAD_GROUP) ? internationalFee : 0;
+        if (group == STUDY_ABROAD_GROUP)
+            return fullTimeUniversityFee + fee;
+        long ratePerCredit = (group == RESIDENT_GROUP) ? residentTuitionRatePerCredit : nonResidentTuitionRatePerCredit;
+        boolean partTime = credits < Student.MINIMUM_FULL_TIME_CREDITS;
+        if (partTime && group != INTERNATIONAL_GROUP)  // international students have no part-time rate; they must take MINIMUM_INTERNATIONAL_CREDITS
+            return (credits * ratePerCredit) + partTimeUniversityFee + fee;
+        long tuition = ((group == RESIDENT_GROUP) ? fullTimeResidentTuition : fullTimeNonResidentTuition) + fullTimeUniversityFee + fee;
+        if (group >= FIRST_TRI_STATE_GROUP && group < INTERNATIONAL_GROUP)
+            tuition -= triStateDiscounts[group - FIRST_TRI_STATE_GROUP];
+        if (partTime || credits > Student.ADDITIONAL_TUITION_CREDIT_THRESHOLD)
+            tuition += ratePerCredit * (credits - Student.ADDITIONAL_TUITION_CREDIT_THRESHOLD);
+        return tuition;
+    }
+    
+    /**
+     * This method works out a fingerprint of the rates, so a snapshot can tell whether the tuition it holds was calculated with the same rates.
+     * @return the fingerprint; tables with the same rates have the same fingerprint.
+     */
+    long fingerprint() {
+        long fingerprint = 0;
+        long[] rates = { fullTimeUniversityFee, partTimeUniversityFee, fullTimeResidentTuition, residentTuitionRatePerCredit, fullTimeNonResidentTuition,
+                nonResidentTuitionRatePerCredit, internationalFee };
+        for (long rate : rates)
+            fingerprint = fingerprint * 31 + rate;
+        for (long discount : triStateDiscounts)
+            fingerprint = fingerprint * 31 + discount;
+        return fingerprint;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package JUnitTesting;
+
+import java.io.StringWriter;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tuitionmanager.ColumnarRoster;
+import tuitionmanager.Date;
+import tuitionmanager.Major;
+import tuitionmanager.Money;
+import tuitionmanager.OutputSink;
+import tuitionmanager.Profile;
+import tuitionmanager.Resident;
+import tuitionmanager.Roster;
+import tuitionmanager.Student;
+import tuitionmanager.StudentRoster;
+
+/**
+ * JUnit Testing class for ColumnarRoster, which must behave exactly like Roster.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class ColumnarRosterJUnitTesting {
+
+    @Test
+    public void sameResultsAsRosterTest() {
+        assertSameResults(false);
+    }
+
+    @Test
+    public void sameResultsAsRosterWithSwapRemoveTest() {
+        assertSameResults(true);
+    }
+
+    @Test
+    public void getStudentIsCopyTest() {
+        ColumnarRoster roster = new ColumnarRoster();
+        roster.add(new Resident(new Profile("Aatif Sayed", Major.CS), 15));
+        roster.calculateTuition();
+        Student copy = roster.getStudent(0);
+        Assert.assertTrue(copy instanceof Resident);
+        Assert.assertEquals(Money.dollars(15804), copy.getTuitionOwed());
+        copy.setCredits(3);
+        Assert.assertEquals(15, roster.getStudent(0).getCredits());
+        Assert.assertEquals(0, roster.calculateTuition());
+    }
+
+    @Test
+    public void removeKeepsEveryStudentFindableTest() {
+        ColumnarRoster roster = new ColumnarRoster();
+        for (int i = 0; i < 1000; i++)
+            roster.add(new Resident(new Profile("Student " + i, Major.CS), 12));
+        for (int i = 0; i < 1000; i += 3)
+            Assert.assertTrue(roster.remove(new Resident(new Profile("Student " + i, Major.CS))));
+        for (int i = 0; i < 1000; i++)
+            Assert.assertEquals(i % 3 != 0, roster.contains(new Resident(new Profile("Student " + i, Major.CS))));
+        Assert.assertEquals(666, roster.getSize());
+    }
+
+    @Test
+    public void printRendersSameRowsAsToStringTest() {
+        ColumnarRoster roster = new ColumnarRoster();
+        for (int number = 0; number < 40; number++)
+            roster.add(RosterTestHelper.newStudent(number));
+        roster.calculateTuition();
+        OutputSink discard = new OutputSink(new StringBuilder());
+        roster.setFinancialAid(new Resident(RosterTestHelper.newStudent(12).getProfile()), Money.parse("1234.56"), discard);
+        roster.processPayment(RosterTestHelper.newStudent(5), Money.parse("0.05"), new Date("2/3/2021"), discard);
+        StringWriter report = new StringWriter();
+        roster.print(new OutputSink(report));
+        StringBuilder expected = new StringBuilder("* list of students in the roster **" + System.lineSeparator());
+        for (int i = 0; i < roster.getSize(); i++)
+            expected.append(roster.getStudent(i).toString()).append(System.lineSeparator());
+        expected.append("* end of roster **").append(System.lineSeparator());
+        Assert.assertEquals(expected.toString(), report.toString());
+        Assert.assertTrue(report.toString().contains("Student 12:BA:15 credit hours:tuition due:14,569.44:total payment:0.00:"
+                + "last payment date: --/--/--:resident:financial aid $1,234.56"));
+        Assert.assertTrue(report.toString().contains("Student 5:CS:8 credit hours:tuition due:10,342.35:total payment:0.05:last payment date: 2/3/2021:non-resident"
+                + System.lineSeparator()));
+    }
+
+    /**
+     * Applies the same random sequence of operations to a Roster and a ColumnarRoster and checks that every result and report is the same.
+     * @param swapRemove true to remove students by swapping in the last student.
+     */
+    private static void assertSameResults(boolean swapRemove) {
+        StudentRoster expected = new Roster(0, swapRemove);
+        StudentRoster actual = new ColumnarRoster(0, swapRemove);
+        Random random = new Random(42);
+        for (int step = 0; step < 5000; step++) {
+            RosterTestHelper.RosterOperation operation = RosterTestHelper.randomOperation(random);
+            Assert.assertEquals(operation.applyTo(expected), operation.applyTo(actual));
+            Assert.assertEquals(expected.getSize(), actual.getSize());
+        }
+        Assert.assertEquals(report(expected), report(actual));
+    }
+
+    /**
+     * Prints all three reports of a roster.
+     * @param roster the roster.
+     * @return the reports.
+     */
+    private static String report(StudentRoster roster) {
+        StringBuilder reports = new StringBuilder();
+        OutputSink output = new OutputSink(reports);
+        roster.print(output);
+        roster.printByPaymentDate(output);
+        roster.printByStudentName(output);
+        return reports.toString();
+    }
+
+}
\ No newline at end of file
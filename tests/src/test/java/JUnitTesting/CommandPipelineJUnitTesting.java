@@ -0,0 +1,130 @@
+package JUnitTesting;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tuitionmanager.OutputSink;
+import tuitionmanager.Roster;
+import tuitionmanager.TuitionManager;
+
+/**
+ * JUnit Testing class for TuitionManager.runBatch() with parsing threads, which must apply every command in order with the same result and messages as a single thread.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class CommandPipelineJUnitTesting {
+
+    private static final String[] MAJORS = { "CS", "EE", "ME", "IT", "BA", "XX" };
+
+    @Test
+    public void parsingThreadsMatchSerialBatchTest() throws IOException {
+        String commands = commandFeed(12000, new Random(23));
+        String[] expected = runBatch(commands, 0);
+        for (int parsingThreads = 1; parsingThreads <= 4; parsingThreads++)
+            Assert.assertArrayEquals(expected, runBatch(commands, parsingThreads));
+        Assert.assertTrue(expected[0].contains("Malformed command line."));
+        Assert.assertTrue(expected[0].contains("Command not supported in batch mode."));
+    }
+
+    @Test
+    public void quitEndsBatchEarlyTest() throws IOException {
+        Random random = new Random(5);
+        String firstCommands = commandFeed(6000, random);
+        String commands = firstCommands + "Q\n" + commandFeed(6000, random);
+        String[] expected = runBatch(firstCommands, 0);
+        Assert.assertArrayEquals(expected, runBatch(commands, 0));
+        Assert.assertArrayEquals(expected, runBatch(commands, 2));
+    }
+
+    @Test
+    public void unreadableCommandFileTest() {
+        for (int parsingThreads = 0; parsingThreads <= 2; parsingThreads++) {
+            String commands = commandFeed(5000, new Random(7));
+            Reader failingFile = new Reader() {
+                private final Reader source = new StringReader(commands);
+                @Override
+                public int read(char[] buffer, int offset, int length) throws IOException {
+                    int charactersRead = source.read(buffer, offset, length);
+                    if (charactersRead == -1)
+                        throw new IOException("disk error");
+                    return charactersRead;
+                }
+                @Override
+                public void close() {
+                }
+            };
+            try {
+                new TuitionManager(new StringReader(""), new StringBuilder()).runBatch(failingFile);
+                Assert.fail();
+            }
+            catch (IOException exception) {
+                Assert.assertEquals("disk error", exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Runs a command file in batch mode on a new roster.
+     * @param commands the command file.
+     * @param parsingThreads the number of parsing threads.
+     * @return the output of the batch, followed by a printout of the roster sorted by name.
+     * @throws IOException never, since the commands are read from memory.
+     */
+    private static String[] runBatch(String commands, int parsingThreads) throws IOException {
+        StringBuilder output = new StringBuilder();
+        Roster roster = new Roster();
+        TuitionManager tuitionManager = new TuitionManager(new StringReader(""), output, roster);
+        tuitionManager.setParsingThreads(parsingThreads);
+        tuitionManager.runBatch(new StringReader(commands));
+        StringBuilder printout = new StringBuilder();
+        OutputSink rosterOutput = new OutputSink(printout);
+        roster.printByStudentName(rosterOutput);
+        rosterOutput.flush();
+        return new String[] { output.toString(), printout.toString() };
+    }
+
+    /**
+     * Generates a command file of valid, invalid, and malformed commands on a small set of students, so many commands depend on the ones before them.
+     * @param numberOfLines the number of lines.
+     * @param random the source of the commands.
+     * @return the command file.
+     */
+    private static String commandFeed(int numberOfLines, Random random) {
+        StringBuilder commands = new StringBuilder();
+        for (int i = 0; i < numberOfLines; i++) {
+            String student = "Student " + random.nextInt(100) + "," + MAJORS[random.nextInt(MAJORS.length)];
+            switch (random.nextInt(12)) {
+                case 0 : commands.append("AR,").append(student).append(',').append(random.nextInt(30));
+                    break;
+                case 1 : commands.append("AN,").append(student).append(',').append(3 + random.nextInt(22));
+                    break;
+                case 2 : commands.append("AT,").append(student).append(',').append(3 + random.nextInt(22)).append(random.nextBoolean() ? ",NY" : ",PA");
+                    break;
+                case 3 : commands.append("AI,").append(student).append(',').append(random.nextInt(25)).append(random.nextBoolean() ? ",true" : "");
+                    break;
+                case 4 : commands.append("R,").append(random.nextBoolean() ? student : "Student");
+                    break;
+                case 5 : commands.append("T,").append(student).append(',').append(random.nextInt(3000) - 100).append(',')
+                        .append(1 + random.nextInt(13)).append("/1/2021");
+                    break;
+                case 6 : commands.append("S,").append(student).append(',').append(random.nextBoolean());
+                    break;
+                case 7 : commands.append("F,").append(student).append(random.nextBoolean() ? "," + random.nextInt(5000) : "");
+                    break;
+                case 8 : commands.append("C");
+                    break;
+                case 9 : commands.append(random.nextBoolean() ? "P" : "");
+                    break;
+                case 10 : commands.append("T,").append(student).append(random.nextBoolean() ? ",abc,3/1/2021" : ",100");
+                    break;
+                default : commands.append("AR,").append(student).append(",").append(random.nextBoolean() ? "twelve" : "12");
+            }
+            commands.append(random.nextInt(10) == 0 ? "\r\n" : "\n");
+        }
+        return commands.toString();
+    }
+}
\ No newline at end of file
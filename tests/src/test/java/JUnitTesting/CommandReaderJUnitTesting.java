@@ -0,0 +1,49 @@
+package JUnitTesting;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tuitionmanager.CommandReader;
+
+/**
+ * JUnit Testing class for CommandReader.nextCommand() and CommandReader.tokenize() methods.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class CommandReaderJUnitTesting {
+
+    @Test
+    public void tokenizeMatchesSplitTest() {
+        String[] lines = { "AR,John Doe,CS,15", "", "P", "AR,,CS,12", "T,John Doe,CS,,", ",,,", "AT,Bob Jones,EE,12,NY," };
+        for (String line : lines)
+            Assert.assertArrayEquals(line, line.split(","), CommandReader.tokenize(line));
+    }
+
+    @Test
+    public void readsLinesWithDifferentTerminatorsTest() throws IOException {
+        CommandReader commandReader = new CommandReader(new StringReader("AR,John Doe,CS,15\r\nP\n\nQ"));
+        Assert.assertArrayEquals(new String[] { "AR", "John Doe", "CS", "15" }, commandReader.nextCommand());
+        Assert.assertEquals("AR,John Doe,CS,15", commandReader.getLine());
+        Assert.assertArrayEquals(new String[] { "P" }, commandReader.nextCommand());
+        Assert.assertArrayEquals(new String[] { "" }, commandReader.nextCommand());
+        Assert.assertArrayEquals(new String[] { "Q" }, commandReader.nextCommand());
+        Assert.assertEquals(4, commandReader.getLineNumber());
+        Assert.assertNull(commandReader.nextCommand());
+    }
+
+    @Test
+    public void readsLinesLongerThanBufferTest() throws IOException {
+        StringBuilder longName = new StringBuilder();
+        for (int i = 0; i < 200000; i++)
+            longName.append((char)('a' + i % 26));
+        StringBuilder commands = new StringBuilder();
+        for (int i = 0; i < 3; i++)
+            commands.append("AR,").append(longName).append(",CS,12\n");
+        CommandReader commandReader = new CommandReader(new StringReader(commands.toString()));
+        for (int i = 0; i < 3; i++)
+            Assert.assertEquals(longName.toString(), commandReader.nextCommand()[1]);
+        Assert.assertNull(commandReader.nextCommand());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,213 @@
+package JUnitTesting;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tuitionmanager.CommandJournal;
+import tuitionmanager.CommandServer;
+import tuitionmanager.ConcurrentRoster;
+import tuitionmanager.Major;
+import tuitionmanager.Money;
+import tuitionmanager.OutputSink;
+import tuitionmanager.Profile;
+import tuitionmanager.Resident;
+import tuitionmanager.Roster;
+import tuitionmanager.StudentRoster;
+import tuitionmanager.TuitionManager;
+
+/**
+ * JUnit Testing class for CommandServer; many clients send commands over localhost at the same time, and the shared journal must rebuild the same roster.
+ * A client that stops reading its reports must not hold up the sessions of other clients, and a session that fails tells its client why before the connection is closed.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class CommandServerJUnitTesting {
+
+    private static final int CLIENTS = 50;
+    private static final int REPORTED_STUDENTS = 20000;  // enough that a few reports fill the socket buffers of a client that does not read them
+    private static final int STALLED_REPORTS = 8;
+    private static final int PAYING_SESSIONS = 5;
+    private static final int PAYMENTS_PER_SESSION = 200;
+
+    @Test
+    public void concurrentSessionsOverTcpTest() throws Exception {
+        Path journalFile = Files.createTempFile("journal", ".txt");
+        try {
+            ConcurrentRoster roster = new ConcurrentRoster(new Roster());
+            try (CommandJournal journal = CommandJournal.open(journalFile, 1, TimeUnit.MILLISECONDS);
+                    CommandServer server = CommandServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), roster, journal)) {
+                ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+                try {
+                    List<Future<String>> replies = new ArrayList<>();
+                    for (int i = 0; i < CLIENTS; i++) {
+                        String commands = "AR,Student " + i + ",CS,15\nAR,Shared Student,EE,12\nC\nT,Student " + i + ",CS,1000,10/1/2021\n"
+                                + "T,Shared Student,EE,1000,10/1/2021\nQ\n";
+                        replies.add(clients.submit(() -> send(server.getLocalAddress(), commands)));
+                    }
+                    int sharedPayments = 0;
+                    for (Future<String> reply : replies) {
+                        String text = reply.get();
+                        Assert.assertTrue(text.startsWith("Tuition Manager starts running."));
+                        Assert.assertTrue(text, text.trim().endsWith("Tuition Manager terminated."));
+                        int index = text.indexOf("Payment applied.");
+                        Assert.assertTrue(index >= 0);
+                        if (text.indexOf("Payment applied.", index + 1) >= 0)
+                            sharedPayments++;
+                    }
+                    Assert.assertEquals(CLIENTS + 1, roster.getSize());
+                    long sharedTuitionPaid = 0;
+                    for (int i = 0; i < roster.getSize(); i++) {
+                        if (roster.getStudent(i).getProfile().toString().startsWith("Shared Student"))
+                            sharedTuitionPaid = roster.getStudent(i).getTotalTuitionPaid();
+                    }
+                    Assert.assertEquals(Money.dollars(sharedPayments * 1000), sharedTuitionPaid);
+                }
+                finally {
+                    clients.shutdown();
+                }
+            }
+            Roster restoredRoster = new Roster();
+            TuitionManager restarted = new TuitionManager(Reader.nullReader(), new StringBuilder(), restoredRoster);
+            try (Reader journalReader = CommandJournal.openForReplay(journalFile)) {
+                restarted.replay(journalReader);
+            }
+            Assert.assertEquals(report(roster), report(restoredRoster));
+        }
+        finally {
+            Files.deleteIfExists(journalFile);
+        }
+    }
+
+    @Test
+    public void sessionOverUnixDomainSocketTest() throws Exception {
+        Path directory = Files.createTempDirectory("server");
+        Path socketFile = directory.resolve("tuition.sock");
+        ConcurrentRoster roster = new ConcurrentRoster(new Roster());
+        try (CommandServer server = CommandServer.start(UnixDomainSocketAddress.of(socketFile), roster, null)) {
+            String reply = send(server.getLocalAddress(), "AN,Jane Doe,CS,15\nAN,Jane Doe,CS,15\nP\nQ\n");
+            Assert.assertTrue(reply.contains("Student added."));
+            Assert.assertTrue(reply.contains("Student is already in the roster."));
+            Assert.assertTrue(reply.contains("Jane Doe"));
+            Assert.assertEquals(1, roster.getSize());
+        }
+        Assert.assertFalse(Files.exists(socketFile));
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    public void clientThatStopsReadingDoesNotHoldUpOtherSessionsTest() throws Exception {
+        ConcurrentRoster roster = new ConcurrentRoster(new Roster());
+        for (int i = 0; i < REPORTED_STUDENTS; i++)
+            roster.add(new Resident(new Profile("Student " + i, Major.CS), 15));
+        roster.calculateTuition();
+        try (CommandServer server = CommandServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), roster, null);
+                SocketChannel stalledClient = SocketChannel.open(server.getLocalAddress())) {
+            ByteBuffer reports = ByteBuffer.wrap("P\nPN\n".repeat(STALLED_REPORTS / 2).getBytes(StandardCharsets.UTF_8));
+            while (reports.hasRemaining())
+                stalledClient.write(reports);
+            StringBuilder payments = new StringBuilder();
+            for (int i = 0; i < PAYMENTS_PER_SESSION; i++)
+                payments.append("T,Student ").append(i).append(",CS,1,10/1/2021\n");
+            payments.append("Q\n");
+            ExecutorService payingClient = Executors.newSingleThreadExecutor();
+            try {
+                Future<Integer> appliedPayments = payingClient.submit(() -> {
+                    int applied = 0;
+                    for (int session = 0; session < PAYING_SESSIONS; session++) {
+                        String reply = send(server.getLocalAddress(), payments.toString());
+                        for (int index = reply.indexOf("Payment applied."); index >= 0; index = reply.indexOf("Payment applied.", index + 1))
+                            applied++;
+                    }
+                    return applied;
+                });
+                Assert.assertEquals(PAYING_SESSIONS * PAYMENTS_PER_SESSION, (int)appliedPayments.get(30, TimeUnit.SECONDS));
+            }
+            finally {
+                payingClient.shutdownNow();
+            }
+        }
+        Assert.assertEquals(Money.dollars(PAYING_SESSIONS), roster.getStudent(0).getTotalTuitionPaid());
+    }
+
+    @Test
+    public void malformedLineEndsSessionWithErrorTest() throws Exception {
+        ConcurrentRoster roster = new ConcurrentRoster(new Roster());
+        try (CommandServer server = CommandServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), roster, null)) {
+            String reply = send(server.getLocalAddress(), "AN,Jane Doe,CS,15\nT,Jane Doe,CS,abc,3/1/2021\nP\nQ\n");
+            Assert.assertTrue(reply.contains("Student added."));
+            Assert.assertTrue(reply, reply.trim().endsWith("Malformed command line, session ended: T,Jane Doe,CS,abc,3/1/2021"));
+            Assert.assertFalse(reply.contains("* list of students in the roster **"));
+            Assert.assertEquals(1, roster.getSize());
+        }
+    }
+
+    @Test
+    public void failedSessionReportsErrorAndRethrowsTest() throws Exception {
+        Path journalFile = Files.createTempFile("journal", ".txt");
+        Thread.UncaughtExceptionHandler defaultHandler = Thread.getDefaultUncaughtExceptionHandler();
+        CompletableFuture<Throwable> uncaught = new CompletableFuture<>();
+        Thread.setDefaultUncaughtExceptionHandler((thread, exception) -> uncaught.complete(exception));
+        try {
+            CommandJournal journal = CommandJournal.open(journalFile, 0, TimeUnit.MILLISECONDS);
+            journal.close();
+            try (CommandServer server = CommandServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), new ConcurrentRoster(new Roster()), journal)) {
+                String reply = send(server.getLocalAddress(), "AN,Jane Doe,CS,15\nQ\n");
+                Assert.assertTrue(reply, reply.trim().endsWith("Tuition Manager failed: java.lang.IllegalStateException: command journal is closed"));
+                Throwable exception = uncaught.get(10, TimeUnit.SECONDS);
+                Assert.assertTrue(exception instanceof IllegalStateException);
+                Assert.assertEquals("command journal is closed", exception.getMessage());
+            }
+        }
+        finally {
+            Thread.setDefaultUncaughtExceptionHandler(defaultHandler);
+            Files.deleteIfExists(journalFile);
+        }
+    }
+
+    /**
+     * Connects to the server, sends the commands, and reads every reply until the server closes the connection.
+     * @param address the address of the server.
+     * @param commands the command lines.
+     * @return the replies.
+     */
+    private static String send(SocketAddress address, String commands) throws IOException {
+        try (SocketChannel connection = SocketChannel.open(address)) {
+            ByteBuffer request = ByteBuffer.wrap(commands.getBytes(StandardCharsets.UTF_8));
+            while (request.hasRemaining())
+                connection.write(request);
+            InputStream replies = Channels.newInputStream(connection);
+            return new String(replies.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Prints a roster sorted by name, so the order in which the sessions added students does not matter.
+     * @param roster the roster.
+     * @return the report.
+     */
+    private static String report(StudentRoster roster) {
+        StringBuilder report = new StringBuilder();
+        roster.printByStudentName(new OutputSink(report));
+        return report.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,144 @@
+package JUnitTesting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tuitionmanager.ColumnarRoster;
+import tuitionmanager.ConcurrentRoster;
+import tuitionmanager.Date;
+import tuitionmanager.Major;
+import tuitionmanager.Money;
+import tuitionmanager.OutputSink;
+import tuitionmanager.Profile;
+import tuitionmanager.Resident;
+import tuitionmanager.Roster;
+import tuitionmanager.Student;
+
+/**
+ * JUnit Testing class for ConcurrentRoster; many threads add the same students and pay towards the same students at the same time.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class ConcurrentRosterJUnitTesting {
+
+    private static final int THREADS = 8;
+    private static final int STUDENTS = 200;
+    private static final long PAYMENT = Money.dollars(1000);
+
+    @Test
+    public void concurrentDuplicateAddTest() throws Exception {
+        assertOneAddPerStudent(new ConcurrentRoster(new Roster()));
+        assertOneAddPerStudent(new ConcurrentRoster(new ColumnarRoster()));
+    }
+
+    @Test
+    public void concurrentPaymentsTest() throws Exception {
+        assertNoOverpayment(new ConcurrentRoster(new Roster()));
+        assertNoOverpayment(new ConcurrentRoster(new ColumnarRoster(), 1));
+    }
+
+    /**
+     * Every thread tries to add every student; exactly one add of each student must succeed.
+     * @param roster the roster.
+     */
+    private static void assertOneAddPerStudent(ConcurrentRoster roster) throws Exception {
+        AtomicIntegerArray adds = new AtomicIntegerArray(STUDENTS);
+        runOnEveryThread(thread -> {
+            for (int i = 0; i < STUDENTS; i++) {
+                if (roster.add(newStudent((i + thread * 7) % STUDENTS)))
+                    adds.incrementAndGet((i + thread * 7) % STUDENTS);
+            }
+        });
+        Assert.assertEquals(STUDENTS, roster.getSize());
+        for (int i = 0; i < STUDENTS; i++)
+            Assert.assertEquals(1, adds.get(i));
+    }
+
+    /**
+     * Every thread keeps paying towards every student until its payments are rejected; the payments that succeed must add up to at most the tuition owed.
+     * @param roster the roster.
+     */
+    private static void assertNoOverpayment(ConcurrentRoster roster) throws Exception {
+        for (int i = 0; i < STUDENTS; i++)
+            roster.add(newStudent(i));
+        roster.calculateTuition();
+        long tuitionDue = roster.getStudent(0).getTuitionOwed();
+        AtomicIntegerArray payments = new AtomicIntegerArray(STUDENTS);
+        Date date = new Date("10/1/2021");
+        runOnEveryThread(thread -> {
+            OutputSink output = new OutputSink(new StringBuilder());
+            boolean paid = true;
+            while (paid) {
+                paid = false;
+                for (int i = 0; i < STUDENTS; i++) {
+                    if (roster.processPayment(newStudent(i), PAYMENT, date, output)) {
+                        payments.incrementAndGet(i);
+                        paid = true;
+                    }
+                }
+            }
+        });
+        for (int i = 0; i < STUDENTS; i++) {
+            Student student = roster.getStudent(i);
+            Assert.assertEquals((int)(tuitionDue / PAYMENT), payments.get(i));
+            Assert.assertEquals(payments.get(i) * PAYMENT, student.getTotalTuitionPaid());
+            Assert.assertEquals(tuitionDue - payments.get(i) * PAYMENT, student.getTuitionOwed());
+        }
+    }
+
+    /**
+     * Runs the same work on THREADS threads that all start at the same time, and rethrows the first failure.
+     * @param work the work, given the number of the thread.
+     */
+    private static void runOnEveryThread(ThreadWork work) throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+        try {
+            CyclicBarrier start = new CyclicBarrier(THREADS);
+            List<Future<Void>> results = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int number = thread;
+                Callable<Void> task = () -> {
+                    start.await();
+                    work.run(number);
+                    return null;
+                };
+                results.add(threads.submit(task));
+            }
+            for (Future<Void> result : results)
+                result.get();
+        }
+        finally {
+            threads.shutdown();
+        }
+    }
+
+    /**
+     * Interface of the work that runOnEveryThread() runs on each thread.
+     */
+    private interface ThreadWork {
+
+        /**
+         * Runs the work of one thread.
+         * @param thread the number of the thread, from 0.
+         * @throws Exception if the work fails.
+         */
+        void run(int thread) throws Exception;
+    }
+
+    /**
+     * Creates a full-time resident student whose name is made from a number.
+     * @param number the number of the student.
+     * @return a new student.
+     */
+    private static Student newStudent(int number) {
+        return new Resident(new Profile("Student " + number, Major.values()[number % Major.values().length]), 15);
+    }
+}
\ No newline at end of file
@@ -4,6 +4,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import tuitionmanager.Date;
+import tuitionmanager.DateClock;
 
 import java.util.Calendar;
 
@@ -92,4 +93,54 @@ public class DateJUnitTest {
         Assert.assertTrue("thirtyDayMonthTrueTest failed", new Date("6/30/2021").isValid());
         System.out.println("thirtyDayMonthTrueTest passed.");
     }
+
+    @Test
+    public void packedDateOrderTest() {
+        Assert.assertTrue("packedDateOrderTest failed", new Date("12/31/2020").compareTo(new Date("1/1/2021")) < 0);
+        Assert.assertTrue("packedDateOrderTest failed", new Date("2/1/2021").compareTo(new Date("1/31/2021")) > 0);
+        Assert.assertEquals("packedDateOrderTest failed", 0, new Date("03/05/2021").compareTo(new Date("3/5/2021")));
+        Assert.assertEquals("packedDateOrderTest failed", new Date("03/05/2021"), new Date("3/5/2021"));
+        Assert.assertEquals("packedDateOrderTest failed", "3/5/2021", Date.fromPackedDate(new Date("03/05/2021").toPackedDate()).toString());
+        System.out.println("packedDateOrderTest passed.");
+    }
+
+    @Test
+    public void invalidFormatTest() {
+        Assert.assertEquals("invalidFormatTest failed", Date.INVALID_FORMAT, Date.parse("3/5", 0, 3));
+        Assert.assertEquals("invalidFormatTest failed", Date.INVALID_FORMAT, Date.parse("3/5/2021/1", 0, 10));
+        Assert.assertEquals("invalidFormatTest failed", Date.INVALID_FORMAT, Date.parse("3//2021", 0, 7));
+        Assert.assertEquals("invalidFormatTest failed", Date.INVALID_FORMAT, Date.parse("a/5/2021", 0, 8));
+        Assert.assertFalse("invalidFormatTest failed", Date.isValid(Date.INVALID_FORMAT));
+        Assert.assertEquals("invalidFormatTest failed", new Date("3/5/2021").toPackedDate(), Date.parse("x,3/5/2021,y", 2, 10));
+        System.out.println("invalidFormatTest passed.");
+    }
+
+    @Test
+    public void fixedClockTest() {
+        DateClock systemClock = Date.getClock();
+        try {
+            Date.setClock(DateClock.fixed(new Date("10/15/2021")));
+            Assert.assertTrue("fixedClockTest failed", new Date("10/15/2021").isValid());
+            Assert.assertTrue("fixedClockTest failed", new Date("9/30/2021").isValid());
+            Assert.assertFalse("fixedClockTest failed", new Date("10/16/2021").isValid());
+            Assert.assertFalse("fixedClockTest failed", new Date("1/1/2022").isValid());
+        }
+        finally {
+            Date.setClock(systemClock);
+        }
+        System.out.println("fixedClockTest passed.");
+    }
+
+    @Test
+    public void validateAllTest() {
+        int[] packedDates = { new Date("3/5/2021").toPackedDate(), new Date("2/29/2021").toPackedDate(), Date.INVALID_FORMAT,
+                new Date("12/31/2021").toPackedDate() };
+        boolean[] valid = new boolean[packedDates.length];
+        Assert.assertEquals("validateAllTest failed", 2, Date.validateAll(packedDates, valid));
+        Assert.assertTrue("validateAllTest failed", valid[0]);
+        Assert.assertFalse("validateAllTest failed", valid[1]);
+        Assert.assertFalse("validateAllTest failed", valid[2]);
+        Assert.assertTrue("validateAllTest failed", valid[3]);
+        System.out.println("validateAllTest passed.");
+    }
 }
\ No newline at end of file
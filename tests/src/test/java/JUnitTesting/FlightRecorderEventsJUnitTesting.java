@@ -0,0 +1,153 @@
+package JUnitTesting;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import tuitionmanager.CommandJournal;
+import tuitionmanager.TuitionManager;
+
+/**
+ * JUnit Testing class for the Java Flight Recorder events of a tuition manager: its commands, calculations, reports, batches, and journal syncs.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class FlightRecorderEventsJUnitTesting {
+
+    private static final String[] EVENT_NAMES = { "tuitionmanager.Command", "tuitionmanager.Calculation", "tuitionmanager.Report",
+            "tuitionmanager.Batch", "tuitionmanager.JournalSync" };
+
+    @Test
+    public void interactiveCommandEventsTest() throws IOException {
+        String commands = "AR,John Doe,CS,15\nAR,John Doe,CS,15\nAN,Jane Doe,EE,abc\nC\nPN\nQ\n";
+        Path journalFile = Files.createTempFile("journal", ".txt");
+        List<RecordedEvent> events;
+        try (Recording recording = startRecording()) {
+            try (CommandJournal journal = CommandJournal.open(journalFile, 1, TimeUnit.MILLISECONDS)) {
+                TuitionManager tuitionManager = new TuitionManager(new StringReader(commands), new StringBuilder());
+                tuitionManager.setJournal(journal);
+                tuitionManager.run();
+            }
+            events = stopRecording(recording);
+        }
+        finally {
+            Files.deleteIfExists(journalFile);
+        }
+        List<RecordedEvent> commandEvents = eventsNamed(events, "tuitionmanager.Command");
+        Assert.assertEquals(6, commandEvents.size());
+        RecordedEvent add = commandEvents.get(0);
+        Assert.assertEquals("AR", add.getString("command"));
+        Assert.assertEquals("John Doe", add.getString("student"));
+        Assert.assertEquals("CS", add.getString("major"));
+        Assert.assertEquals(1, add.getInt("lineNumber"));
+        Assert.assertEquals(1, add.getInt("rosterSize"));
+        Assert.assertTrue(add.getBoolean("carriedOut"));
+        Assert.assertFalse(add.getBoolean("invalid"));
+        Assert.assertFalse(commandEvents.get(1).getBoolean("carriedOut"));
+        Assert.assertFalse(commandEvents.get(1).getBoolean("invalid"));
+        Assert.assertTrue(commandEvents.get(2).getBoolean("invalid"));
+        Assert.assertEquals("Jane Doe", commandEvents.get(2).getString("student"));
+        Assert.assertEquals("PN", commandEvents.get(4).getString("command"));
+        Assert.assertNull(commandEvents.get(4).getString("student"));
+        Assert.assertEquals(6, commandEvents.get(5).getInt("lineNumber"));
+        List<RecordedEvent> calculationEvents = eventsNamed(events, "tuitionmanager.Calculation");
+        Assert.assertEquals(1, calculationEvents.size());
+        Assert.assertEquals(1, calculationEvents.get(0).getInt("recalculatedStudents"));
+        List<RecordedEvent> reportEvents = eventsNamed(events, "tuitionmanager.Report");
+        Assert.assertEquals(1, reportEvents.size());
+        Assert.assertEquals("PN", reportEvents.get(0).getString("report"));
+        Assert.assertEquals(1, reportEvents.get(0).getInt("rosterSize"));
+        long journaledCommands = 0, journaledBytes = 0;
+        for (RecordedEvent syncEvent : eventsNamed(events, "tuitionmanager.JournalSync")) {
+            journaledCommands += syncEvent.getLong("commands");
+            journaledBytes += syncEvent.getLong("bytes");
+        }
+        Assert.assertEquals(2, journaledCommands);
+        Assert.assertEquals("AR,John Doe,CS,15\nC\n".length(), journaledBytes);
+        Assert.assertTrue(eventsNamed(events, "tuitionmanager.Batch").isEmpty());
+    }
+
+    @Test
+    public void batchEventsTest() throws IOException {
+        String commands = "AR,John Doe,CS,15\n\nAR,John Doe,CS,15\nP\nAT,Kate Lindsey,IT,12,NY\nC\n";
+        List<RecordedEvent> events;
+        try (Recording recording = startRecording()) {
+            TuitionManager tuitionManager = new TuitionManager(new StringReader(""), new StringBuilder());
+            tuitionManager.setParsingThreads(2);
+            tuitionManager.runBatch(new StringReader(commands));
+            events = stopRecording(recording);
+        }
+        List<RecordedEvent> commandEvents = eventsNamed(events, "tuitionmanager.Command");
+        Assert.assertEquals(4, commandEvents.size());
+        int[] lineNumbers = new int[commandEvents.size()];
+        for (int i = 0; i < lineNumbers.length; i++)
+            lineNumbers[i] = commandEvents.get(i).getInt("lineNumber");
+        Assert.assertArrayEquals(new int[] { 1, 3, 5, 6 }, lineNumbers);
+        Assert.assertEquals("Kate Lindsey", commandEvents.get(2).getString("student"));
+        List<RecordedEvent> batchEvents = eventsNamed(events, "tuitionmanager.Batch");
+        Assert.assertEquals(1, batchEvents.size());
+        RecordedEvent batch = batchEvents.get(0);
+        Assert.assertEquals(3, batch.getInt("appliedCommands"));
+        Assert.assertEquals(2, batch.getInt("rejectedCommands"));
+        Assert.assertEquals(2, batch.getInt("parsingThreads"));
+        Assert.assertEquals(2, batch.getInt("rosterSize"));
+        for (RecordedEvent commandEvent : commandEvents)
+            Assert.assertFalse(commandEvent.getStartTime().isBefore(batch.getStartTime()) || commandEvent.getEndTime().isAfter(batch.getEndTime()));
+        Assert.assertTrue(eventsNamed(events, "tuitionmanager.Report").isEmpty());
+    }
+
+    /**
+     * Starts a recording of every event of the tuition manager, whatever its duration.
+     * @return the running recording.
+     */
+    private static Recording startRecording() {
+        Recording recording = new Recording();
+        for (String eventName : EVENT_NAMES)
+            recording.enable(eventName).withoutThreshold();
+        recording.start();
+        return recording;
+    }
+
+    /**
+     * Stops a recording and reads back its events.
+     * @param recording the running recording.
+     * @return the events in the order they were committed on each thread.
+     * @throws IOException if the recording cannot be written or read.
+     */
+    private static List<RecordedEvent> stopRecording(Recording recording) throws IOException {
+        recording.stop();
+        Path recordingFile = Files.createTempFile("recording", ".jfr");
+        try {
+            recording.dump(recordingFile);
+            return RecordingFile.readAllEvents(recordingFile);
+        }
+        finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+
+    /**
+     * Picks the events of one type out of a recording, sorted by the time they started.
+     * @param events the events of the recording.
+     * @param eventName the name of the event type, e.g. "tuitionmanager.Command".
+     * @return the events of that type.
+     */
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String eventName) {
+        List<RecordedEvent> matchingEvents = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(eventName))
+                matchingEvents.add(event);
+        }
+        matchingEvents.sort((first, second) -> first.getStartTime().compareTo(second.getStartTime()));
+        return matchingEvents;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package JUnitTesting;
+
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tuitionmanager.Money;
+
+/**
+ * JUnit Testing class for Money, which must parse and format amounts the way Double.parseDouble() and String.format("%,.2f") did.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class MoneyJUnitTesting {
+
+    @Test
+    public void formatTest() {
+        Assert.assertEquals("0.00", Money.format(0));
+        Assert.assertEquals("0.05", Money.format(5));
+        Assert.assertEquals("2,614.40", Money.format(261440));
+        Assert.assertEquals("1,000,000.00", Money.format(Money.dollars(1000000)));
+        Assert.assertEquals("-1,005.01", Money.format(-100501));
+        Assert.assertEquals("92,233,720,368,547,758.07", Money.format(Long.MAX_VALUE));
+        Assert.assertEquals("-92,233,720,368,547,758.08", Money.format(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void formatMatchesStringFormatTest() {
+        Random random = new Random(19);
+        for (int i = 0; i < 10000; i++) {
+            long cents = random.nextInt(2000000000) - 1000000000L;
+            Assert.assertEquals(String.format(Locale.US, "%,.2f", cents / 100.0), Money.format(cents));
+        }
+    }
+
+    @Test
+    public void parseTest() {
+        Assert.assertEquals(25000, Money.parse("250"));
+        Assert.assertEquals(25050, Money.parse("250.5"));
+        Assert.assertEquals(25050, Money.parse("250.50"));
+        Assert.assertEquals(25051, Money.parse("250.505"));
+        Assert.assertEquals(25050, Money.parse("250.5049"));
+        Assert.assertEquals(50, Money.parse(".5"));
+        Assert.assertEquals(100, Money.parse("1."));
+        Assert.assertEquals(-75, Money.parse("-0.75"));
+        Assert.assertEquals(1000, Money.parse("+10"));
+    }
+
+    @Test
+    public void parseInvalidTest() {
+        String[] invalidAmounts = { "", "-", ".", "abc", "1,000", "1.2.3", "1e3", " 5", "99999999999999999999" };
+        for (String amount : invalidAmounts)
+            Assert.assertEquals(amount, Money.INVALID_AMOUNT, Money.parse(amount, 0, amount.length()));
+        try {
+            Money.parse("ten");
+            Assert.fail();
+        }
+        catch (NumberFormatException exception) {
+            Assert.assertTrue(exception.getMessage().contains("ten"));
+        }
+    }
+}
\ No newline at end of file
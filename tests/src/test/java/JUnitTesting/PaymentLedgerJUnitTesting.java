@@ -0,0 +1,109 @@
+package JUnitTesting;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tuitionmanager.Date;
+import tuitionmanager.Major;
+import tuitionmanager.Money;
+import tuitionmanager.PaymentLedger;
+import tuitionmanager.Profile;
+import tuitionmanager.Roster;
+import tuitionmanager.RosterSnapshot;
+import tuitionmanager.TuitionManager;
+
+/**
+ * JUnit Testing class for PaymentLedger, its date range queries, and the 'PL' and 'PD' commands.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class PaymentLedgerJUnitTesting {
+
+    @Test
+    public void paymentsBetweenTest() {
+        PaymentLedger ledger = new PaymentLedger();
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            Date date = new Date((1 + random.nextInt(12)) + "/" + (1 + random.nextInt(28)) + "/2021");
+            ledger.record(new Profile("Student " + random.nextInt(50), Major.CS), Money.dollars(1 + random.nextInt(1000)), date);
+            if (i % 100 == 0)
+                ledger.paymentsBetween(new Date("1/1/2021"), new Date("12/31/2021"));
+        }
+        for (int query = 0; query < 100; query++) {
+            Date from = new Date((1 + random.nextInt(12)) + "/" + (1 + random.nextInt(28)) + "/2021");
+            Date to = new Date((1 + random.nextInt(12)) + "/" + (1 + random.nextInt(28)) + "/2021");
+            List<Integer> expected = new ArrayList<>();
+            for (int payment = 0; payment < ledger.getSize(); payment++) {
+                Date date = ledger.getPaymentDate(payment);
+                if (date.compareTo(from) >= 0 && date.compareTo(to) <= 0)
+                    expected.add(payment);
+            }
+            expected.sort((first, second) -> (ledger.getPaymentDate(first).compareTo(ledger.getPaymentDate(second)) != 0)
+                    ? ledger.getPaymentDate(first).compareTo(ledger.getPaymentDate(second)) : Integer.compare(first, second));
+            int[] actual = ledger.paymentsBetween(from, to);
+            Assert.assertEquals(expected.size(), actual.length);
+            for (int i = 0; i < actual.length; i++)
+                Assert.assertEquals((int)expected.get(i), actual[i]);
+        }
+    }
+
+    @Test
+    public void emptyRangeTest() {
+        PaymentLedger ledger = new PaymentLedger();
+        Assert.assertEquals(0, ledger.paymentsBetween(new Date("1/1/2021"), new Date("12/31/2021")).length);
+        ledger.record(new Profile("Jane Doe", Major.EE), Money.dollars(100), new Date("5/5/2021"));
+        Assert.assertEquals(0, ledger.paymentsBetween(new Date("5/6/2021"), new Date("5/4/2021")).length);
+        Assert.assertEquals(1, ledger.paymentsBetween(new Date("5/5/2021"), new Date("5/5/2021")).length);
+    }
+
+    @Test
+    public void ledgerCommandsTest() throws IOException {
+        StringBuilder output = new StringBuilder();
+        TuitionManager tuitionManager = new TuitionManager(new StringReader("AR,John Doe,CS,15\nAN,Jane Doe,EE,12\nC\n"
+                + "T,John Doe,CS,100,3/2/2021\nT,Jane Doe,EE,250.5,3/1/2021\nT,John Doe,CS,50,3/1/2021\nT,John Doe,CS,99999,3/1/2021\n"
+                + "PL,3/1/2021,3/31/2021\nPD,3/1/2021,3/31/2021\nPL,4/1/2021,4/30/2021\nPL,3/1/2021\nPD,3/31/2021,3/1/2021\nQ\n"), output);
+        tuitionManager.run();
+        String text = output.toString();
+        Assert.assertTrue(text.contains("* list of payments from 3/1/2021 to 3/31/2021 **" + System.lineSeparator()
+                + "3/1/2021:Jane Doe:EE:payment:250.50" + System.lineSeparator()
+                + "3/1/2021:John Doe:CS:payment:50.00" + System.lineSeparator()
+                + "3/2/2021:John Doe:CS:payment:100.00" + System.lineSeparator()
+                + "* end of payments **"));
+        Assert.assertTrue(text.contains("* payments per day from 3/1/2021 to 3/31/2021 **" + System.lineSeparator()
+                + "3/1/2021:2 payments:total:300.50" + System.lineSeparator()
+                + "3/2/2021:1 payments:total:100.00" + System.lineSeparator()
+                + "* end of payments **"));
+        Assert.assertTrue(text.contains("No payments from 4/1/2021 to 4/30/2021."));
+        Assert.assertTrue(text.contains("Missing data in command line."));
+        Assert.assertTrue(text.contains("Date range invalid."));
+        Assert.assertEquals(3, tuitionManager.getPaymentLedger().getSize());
+    }
+
+    @Test
+    public void snapshotRestoresLedgerTest() throws IOException {
+        Path snapshotFile = Files.createTempFile("roster", ".snapshot");
+        try {
+            PaymentLedger ledger = new PaymentLedger();
+            ledger.record(new Profile("John Doe", Major.CS), Money.dollars(100), new Date("3/2/2021"));
+            ledger.record(new Profile("Jane Doe", Major.EE), Money.parse("250.50"), new Date("3/1/2021"));
+            RosterSnapshot.write(new Roster(), ledger, 42, snapshotFile);
+            PaymentLedger restored = new PaymentLedger();
+            RosterSnapshot snapshot = RosterSnapshot.read(snapshotFile, new Roster(), restored);
+            Assert.assertEquals(2, snapshot.getNumberOfPayments());
+            Assert.assertEquals(42, snapshot.getJournalLength());
+            Assert.assertEquals(new Profile("Jane Doe", Major.EE), restored.getStudent(1));
+            Assert.assertEquals(Money.parse("250.50"), restored.getPaymentAmount(1));
+            Assert.assertArrayEquals(new int[] { 1, 0 }, restored.paymentsBetween(new Date("3/1/2021"), new Date("3/2/2021")));
+        }
+        finally {
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+}
\ No newline at end of file
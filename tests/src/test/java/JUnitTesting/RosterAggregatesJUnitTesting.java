@@ -0,0 +1,196 @@
+package JUnitTesting;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tuitionmanager.ColumnarRoster;
+import tuitionmanager.ConcurrentRoster;
+import tuitionmanager.Date;
+import tuitionmanager.International;
+import tuitionmanager.Major;
+import tuitionmanager.Money;
+import tuitionmanager.OutputSink;
+import tuitionmanager.Profile;
+import tuitionmanager.Resident;
+import tuitionmanager.Roster;
+import tuitionmanager.RosterAggregates;
+import tuitionmanager.State;
+import tuitionmanager.Student;
+import tuitionmanager.StudentRoster;
+import tuitionmanager.StudentType;
+import tuitionmanager.TriState;
+import tuitionmanager.TuitionManager;
+
+/**
+ * JUnit Testing class for RosterAggregates, which must always match the totals found by scanning the roster, even while payments are applied in parallel, and the 'PS' command.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class RosterAggregatesJUnitTesting {
+
+    private static final int PAID_STUDENTS = 2000;
+    private static final int PAYING_CLERKS = 8;
+    private static final int PAYMENTS_PER_CLERK = 2000;
+
+    @Test
+    public void rosterAggregatesTest() {
+        assertAggregatesMatchScan(new Roster());
+    }
+
+    @Test
+    public void columnarRosterAggregatesTest() {
+        assertAggregatesMatchScan(new ColumnarRoster());
+    }
+
+    @Test
+    public void parallelCalculationAggregatesTest() {
+        StudentRoster[] rosters = { new Roster(), new ColumnarRoster() };
+        for (StudentRoster roster : rosters) {
+            for (int number = 0; number < 20000; number++)
+                roster.add(new TriState(new Profile("Student " + number, Major.values()[number % Major.values().length]), 3 + number % 22,
+                        (number % 2 == 0) ? State.NY : State.CT));
+            roster.setParallelism(4);
+            roster.calculateTuition();
+            assertMatchesScan(roster);
+        }
+    }
+
+    @Test
+    public void concurrentPaymentsAggregatesTest() throws Exception {
+        ConcurrentRoster roster = new ConcurrentRoster(new Roster());
+        for (int number = 0; number < PAID_STUDENTS; number++)
+            roster.add(new Resident(new Profile("Student " + number, Major.values()[number % Major.values().length]), 15));
+        roster.calculateTuition();
+        RosterAggregates before = roster.getAggregates();
+        ExecutorService clerks = Executors.newFixedThreadPool(PAYING_CLERKS);
+        try {
+            List<Future<?>> work = new ArrayList<>();
+            for (int clerk = 0; clerk < PAYING_CLERKS; clerk++) {
+                Random random = new Random(clerk);
+                work.add(clerks.submit(() -> {
+                    OutputSink messages = new OutputSink(new StringBuilder());
+                    for (int payment = 0; payment < PAYMENTS_PER_CLERK; payment++) {
+                        int number = random.nextInt(PAID_STUDENTS);
+                        Assert.assertTrue(roster.applyPayment("Student " + number, Major.values()[number % Major.values().length], Money.dollars(1),
+                                new Date("3/1/2021"), messages));
+                    }
+                }));
+            }
+            boolean paying = true;
+            while (paying) {
+                paying = false;
+                for (Future<?> clerk : work)
+                    paying |= !clerk.isDone();
+                RosterAggregates during = roster.getAggregates();
+                for (Major major : Major.values())
+                    Assert.assertEquals(before.getTuitionOwed(major), during.getTuitionOwed(major) + during.getTuitionPaid(major));
+            }
+            for (Future<?> clerk : work)
+                clerk.get();
+        }
+        finally {
+            clerks.shutdown();
+        }
+        Assert.assertEquals(Money.dollars(PAYING_CLERKS * PAYMENTS_PER_CLERK), roster.getAggregates().getTuitionPaid(StudentType.RESIDENT));
+        assertMatchesScan(roster);
+    }
+
+    @Test
+    public void summaryCommandTest() throws IOException {
+        StringBuilder output = new StringBuilder();
+        new TuitionManager(new StringReader("AR,John Doe,CS,15\nAT,Jane Doe,EE,12,NY\nAI,Kate Lindsey,CS,12,false\nC\nT,John Doe,CS,100,3/2/2021\n"
+                + "F,John Doe,CS,500\nPS\nQ\n"), output).run();
+        String text = output.toString();
+        Assert.assertTrue(text.contains("* summary by major **" + System.lineSeparator()
+                + "CS:2 students:tuition due:51,359.00:total payment:100.00:financial aid:500.00" + System.lineSeparator()));
+        Assert.assertTrue(text.contains("Tri-State:1 students:tuition due:29,005.00:total payment:0.00:financial aid:0.00"));
+        Assert.assertTrue(text.contains("NY:1 students:"));
+        Assert.assertTrue(text.contains("* end of summary **"));
+    }
+
+    /**
+     * Applies a random sequence of operations to a roster and checks its aggregates against a scan of the roster after every step.
+     * @param roster the roster.
+     */
+    private static void assertAggregatesMatchScan(StudentRoster roster) {
+        Random random = new Random(18);
+        for (int step = 0; step < 3000; step++) {
+            RosterTestHelper.randomOperation(random).applyTo(roster);
+            assertMatchesScan(roster);
+        }
+    }
+
+    /**
+     * Checks the aggregates of a roster against the totals found by scanning every student.
+     * @param roster the roster.
+     */
+    private static void assertMatchesScan(StudentRoster roster) {
+        RosterAggregates aggregates = roster.getAggregates();
+        for (Major major : Major.values()) {
+            int count = 0;
+            long owed = 0, paid = 0, aid = 0;
+            for (int i = 0; i < roster.getSize(); i++) {
+                Student student = roster.getStudent(i);
+                if (student.getProfile().getMajor() != major)
+                    continue;
+                count++;
+                owed += student.getTuitionOwed();
+                paid += student.getTotalTuitionPaid();
+                aid += (student instanceof Resident) ? ((Resident)student).getFinancialAid() : 0;
+            }
+            Assert.assertEquals(count, aggregates.getCount(major));
+            Assert.assertEquals(owed, aggregates.getTuitionOwed(major));
+            Assert.assertEquals(paid, aggregates.getTuitionPaid(major));
+            Assert.assertEquals(aid, aggregates.getFinancialAid(major));
+        }
+        for (StudentType type : StudentType.values()) {
+            int count = 0;
+            long owed = 0;
+            for (int i = 0; i < roster.getSize(); i++) {
+                Student student = roster.getStudent(i);
+                if (typeOf(student) == type) {
+                    count++;
+                    owed += student.getTuitionOwed();
+                }
+            }
+            Assert.assertEquals(count, aggregates.getCount(type));
+            Assert.assertEquals(owed, aggregates.getTuitionOwed(type));
+        }
+        for (State state : State.values()) {
+            int count = 0;
+            long paid = 0;
+            for (int i = 0; i < roster.getSize(); i++) {
+                Student student = roster.getStudent(i);
+                if (student instanceof TriState && ((TriState)student).getState() == state) {
+                    count++;
+                    paid += student.getTotalTuitionPaid();
+                }
+            }
+            Assert.assertEquals(count, aggregates.getCount(state));
+            Assert.assertEquals(paid, aggregates.getTuitionPaid(state));
+        }
+    }
+
+    /**
+     * Finds the type of a student.
+     * @param student the student.
+     * @return the type the aggregates count the student as.
+     */
+    private static StudentType typeOf(Student student) {
+        if (student instanceof Resident)
+            return StudentType.RESIDENT;
+        if (student instanceof TriState)
+            return StudentType.TRI_STATE;
+        if (student instanceof International)
+            return StudentType.INTERNATIONAL;
+        return StudentType.NON_RESIDENT;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,433 @@
+package JUnitTesting;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tuitionmanager.ColumnarRoster;
+import tuitionmanager.Date;
+import tuitionmanager.International;
+import tuitionmanager.Major;
+import tuitionmanager.Money;
+import tuitionmanager.NonResident;
+import tuitionmanager.OutputSink;
+import tuitionmanager.Profile;
+import tuitionmanager.Resident;
+import tuitionmanager.Roster;
+import tuitionmanager.RosterSnapshot;
+import tuitionmanager.State;
+import tuitionmanager.Student;
+import tuitionmanager.StudentRoster;
+import tuitionmanager.TriState;
+
+/**
+ * JUnit Testing class for Roster.add(), Roster.remove() and Roster.contains() methods, which students calculateTuition() recalculates, the PN and PT reports, and for saving a roster to a snapshot, restoring it, and rejecting corrupt snapshots.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class RosterJUnitTesting {
+    
+    @Test
+    public void removeStudentFromEmptyRosterTest() {
+        Roster roster = new Roster();
+        Profile profile = new Profile("Aatif Sayed", Major.CS);
+        Student student = new Student(profile);
+        Assert.assertFalse(roster.remove(student));
+    }
+
+    @Test
+    public void removeInternationalFromEmptyRosterTest() {
+        Roster roster = new Roster();
+        Profile profile = new Profile("Aatif Sayed", Major.CS);
+        International student = new International(profile);
+        Assert.assertFalse(roster.remove(student));
+    }
+
+    @Test
+    public void removeResidentFromEmptyRosterTest() {
+        Roster roster = new Roster();
+        Profile profile = new Profile("Aatif Sayed", Major.CS);
+        Resident student = new Resident(profile);
+        Assert.assertFalse(roster.remove(student));
+    }
+
+    @Test
+    public void removeNonResidentFromEmptyRosterTest() {
+        Roster roster = new Roster();
+        Profile profile = new Profile("Aatif Sayed", Major.CS);
+        NonResident student = new NonResident(profile);
+        Assert.assertFalse(roster.remove(student));
+    }
+
+    @Test
+    public void removeTriStateFromEmptyRosterTest() {
+        Roster roster = new Roster();
+        Profile profile = new Profile("Aatif Sayed", Major.CS);
+        TriState student = new TriState(profile);
+        Assert.assertFalse(roster.remove(student));
+    }
+    
+    @Test
+    public void addDuplicateStudentToRosterTest() {
+        Roster roster = new Roster();
+        Profile profile = new Profile("Aatif Sayed", Major.CS);
+        Student student = new Student(profile);
+        Assert.assertTrue(roster.add(student));
+        Assert.assertFalse(roster.add(student));
+    }
+
+    @Test
+    public void addDuplicateInternationalToRosterTest() {
+        Roster roster = new Roster();
+        Profile profile = new Profile("Aatif Sayed", Major.CS);
+        International student = new International(profile);
+        Assert.assertTrue(roster.add(student));
+        Assert.assertFalse(roster.add(student));
+    }
+
+    @Test
+    public void addDuplicateResidentToRosterTest() {
+        Roster roster = new Roster();
+        Profile profile = new Profile("Aatif Sayed", Major.CS);
+        Resident student = new Resident(profile);
+        Assert.assertTrue(roster.add(student));
+        Assert.assertFalse(roster.add(student));
+    }
+
+    @Test
+    public void addDuplicateNonResidentToRosterTest() {
+        Roster roster = new Roster();
+        Profile profile = new Profile("Aatif Sayed", Major.CS);
+        NonResident student = new NonResident(profile);
+        Assert.assertTrue(roster.add(student));
+        Assert.assertFalse(roster.add(student));
+    }
+
+    @Test
+    public void addDuplicateTriStateToRosterTest() {
+        Roster roster = new Roster();
+        Profile profile = new Profile("Aatif Sayed", Major.CS);
+        TriState student = new TriState(profile);
+        Assert.assertTrue(roster.add(student));
+        Assert.assertFalse(roster.add(student));
+    }
+
+    @Test
+    public void equalProfilesShareHashCodeTest() {
+        Profile profile = new Profile("Aatif Sayed", Major.CS);
+        Profile sameProfile = new Profile("Aatif Sayed", Major.CS);
+        Assert.assertEquals(profile.hashCode(), sameProfile.hashCode());
+        Assert.assertEquals(new Resident(profile).hashCode(), new International(sameProfile).hashCode());
+    }
+
+    @Test
+    public void containsStudentWithSameProfileTest() {
+        Roster roster = new Roster();
+        Assert.assertTrue(roster.add(new Resident(new Profile("Aatif Sayed", Major.CS), 12)));
+        Assert.assertTrue(roster.contains(new Student(new Profile("Aatif Sayed", Major.CS))));
+        Assert.assertFalse(roster.contains(new Student(new Profile("Aatif Sayed", Major.IT))));
+        Assert.assertFalse(roster.contains(new Student(new Profile("Pranav Tailor", Major.CS))));
+    }
+
+    @Test
+    public void findStudentsAfterRemovalTest() {
+        Roster roster = new Roster();
+        for (int i = 0; i < 10; i++)
+            Assert.assertTrue(roster.add(new Resident(new Profile("Student " + i, Major.EE), 12)));
+        Assert.assertTrue(roster.remove(new Student(new Profile("Student 3", Major.EE))));
+        Assert.assertFalse(roster.contains(new Student(new Profile("Student 3", Major.EE))));
+        for (int i = 0; i < 10; i++) {
+            if (i != 3)
+                Assert.assertTrue(roster.remove(new Student(new Profile("Student " + i, Major.EE))));
+        }
+        Assert.assertFalse(roster.remove(new Student(new Profile("Student 9", Major.EE))));
+    }
+
+    @Test
+    public void removeDecrementsSizeTest() {
+        Roster roster = new Roster();
+        Assert.assertTrue(roster.add(new Resident(new Profile("Aatif Sayed", Major.CS), 12)));
+        Assert.assertTrue(roster.add(new Resident(new Profile("Pranav Tailor", Major.CS), 12)));
+        Assert.assertTrue(roster.remove(new Student(new Profile("Aatif Sayed", Major.CS))));
+        Assert.assertEquals(1, roster.getSize());
+        Assert.assertTrue(roster.contains(new Student(new Profile("Pranav Tailor", Major.CS))));
+    }
+
+    @Test
+    public void swapRemoveKeepsRemainingStudentsTest() {
+        Roster roster = new Roster(8, true);
+        for (int i = 0; i < 8; i++)
+            Assert.assertTrue(roster.add(new NonResident(new Profile("Student " + i, Major.BA), 12)));
+        Assert.assertTrue(roster.remove(new Student(new Profile("Student 0", Major.BA))));
+        Assert.assertTrue(roster.remove(new Student(new Profile("Student 7", Major.BA))));
+        Assert.assertEquals(6, roster.getSize());
+        for (int i = 1; i < 7; i++)
+            Assert.assertTrue(roster.contains(new Student(new Profile("Student " + i, Major.BA))));
+    }
+
+    @Test
+    public void ensureCapacityAndTrimToSizeTest() {
+        Roster roster = new Roster(0);
+        roster.ensureCapacity(100);
+        Assert.assertTrue(roster.getCapacity() >= 100);
+        for (int i = 0; i < 100; i++)
+            Assert.assertTrue(roster.add(new Resident(new Profile("Student " + i, Major.ME), 12)));
+        Assert.assertTrue(roster.getCapacity() >= 100);
+        Assert.assertTrue(roster.add(new Resident(new Profile("Student 100", Major.ME), 12)));
+        Assert.assertTrue(roster.getCapacity() >= 101);
+        roster.trimToSize();
+        Assert.assertEquals(101, roster.getCapacity());
+        Assert.assertTrue(roster.contains(new Student(new Profile("Student 50", Major.ME))));
+    }
+
+    @Test
+    public void parallelTuitionMatchesSerialTest() {
+        Roster serialRoster = new Roster();
+        Roster parallelRoster = new Roster();
+        parallelRoster.setParallelism(4);
+        Student[] serialStudents = new Student[20000];
+        Student[] parallelStudents = new Student[serialStudents.length];
+        for (int i = 0; i < serialStudents.length; i++) {
+            serialStudents[i] = RosterTestHelper.newStudent(i);
+            parallelStudents[i] = RosterTestHelper.newStudent(i);
+            Assert.assertTrue(serialRoster.add(serialStudents[i]));
+            Assert.assertTrue(parallelRoster.add(parallelStudents[i]));
+        }
+        serialRoster.calculateTuition();
+        parallelRoster.calculateTuition();
+        for (int i = 0; i < serialStudents.length; i++) {
+            Assert.assertTrue(serialStudents[i].getTuitionOwed() > 0);
+            Assert.assertEquals(serialStudents[i].getTuitionOwed(), parallelStudents[i].getTuitionOwed());
+        }
+    }
+
+    @Test
+    public void calculateTuitionSkipsCleanStudentsTest() {
+        Roster roster = new Roster();
+        Resident resident = new Resident(new Profile("Aatif Sayed", Major.CS), 12);
+        International international = new International(new Profile("Pranav Tailor", Major.CS), 12, false);
+        Assert.assertTrue(roster.add(resident));
+        Assert.assertTrue(roster.add(international));
+        Assert.assertEquals(2, roster.calculateTuition());
+        Assert.assertEquals(0, roster.calculateTuition());
+        resident.setCredits(18);
+        Assert.assertEquals(1, roster.calculateTuition());
+        Assert.assertEquals(Money.dollars(12536 + 3268 + 404 * 2), resident.getTuitionOwed());
+        international.setStudyAbroadStatus(true);
+        Assert.assertEquals(1, roster.calculateTuition());
+        Assert.assertEquals(Money.dollars(3268 + 2650), international.getTuitionOwed());
+    }
+
+    @Test
+    public void paymentDoesNotDirtyTuitionTest() {
+        StudentRoster[] rosters = { new Roster(), new ColumnarRoster() };
+        for (StudentRoster roster : rosters) {
+            OutputSink messages = new OutputSink(new StringBuilder());
+            Assert.assertTrue(roster.add(new Resident(new Profile("A B", Major.CS), 15)));
+            Assert.assertEquals(1, roster.calculateTuition());
+            Assert.assertTrue(roster.applyPayment("A B", Major.CS, Money.dollars(100), new Date("3/1/2021"), messages));
+            Assert.assertEquals(0, roster.calculateTuition());
+            Assert.assertTrue(roster.applyPayment("A B", Major.CS, Money.dollars(100), new Date("3/2/2021"), messages));
+            Assert.assertEquals(0, roster.calculateTuition());
+            Assert.assertEquals(Money.dollars(15804 - 200), roster.getStudent(0).getTuitionOwed());
+        }
+    }
+
+    @Test
+    public void printByStudentNameSortsRosterTest() {
+        Roster roster = new Roster();
+        Assert.assertTrue(roster.add(new Resident(new Profile("Pranav Tailor", Major.CS), 12)));
+        Assert.assertTrue(roster.add(new Resident(new Profile("Aatif Sayed", Major.EE), 12)));
+        Assert.assertTrue(roster.add(new NonResident(new Profile("Zoe Adams", Major.IT), 12)));
+        Assert.assertTrue(roster.add(new International(new Profile("Aatif Sayed", Major.BA), 12, false)));
+        Assert.assertTrue(roster.add(new TriState(new Profile("Jane Doe", Major.ME), 12, State.NY)));
+        List<String> rows = printedRows(roster, false);
+        Assert.assertEquals(Arrays.asList("Aatif Sayed:EE", "Aatif Sayed:BA", "Jane Doe:ME", "Pranav Tailor:CS", "Zoe Adams:IT"), rows);
+        Assert.assertEquals(rows, printedRows(roster, false));
+    }
+
+    @Test
+    public void printByPaymentDateSortsPaymentsTest() {
+        Roster roster = new Roster();
+        OutputSink output = new OutputSink(new StringBuilder());
+        for (int i = 0; i < 5; i++)
+            Assert.assertTrue(roster.add(new Resident(new Profile("Student " + i, Major.CS), 12)));
+        roster.calculateTuition();
+        Assert.assertTrue(roster.applyPayment("Student 0", Major.CS, Money.dollars(100), new Date("5/1/2021"), output));
+        Assert.assertTrue(roster.applyPayment("Student 1", Major.CS, Money.dollars(100), new Date("2/1/2021"), output));
+        Assert.assertTrue(roster.applyPayment("Student 3", Major.CS, Money.dollars(100), new Date("5/1/2021"), output));
+        Assert.assertTrue(roster.applyPayment("Student 4", Major.CS, Money.dollars(100), new Date("3/15/2021"), output));
+        Assert.assertEquals(Arrays.asList("Student 1:CS", "Student 4:CS", "Student 0:CS", "Student 3:CS"), printedRows(roster, true));
+    }
+
+    @Test
+    public void sortedReportsFollowRosterChangesTest() {
+        Roster roster = new Roster();
+        OutputSink output = new OutputSink(new StringBuilder());
+        Assert.assertTrue(roster.add(new Resident(new Profile("Mary Major", Major.CS), 12)));
+        Assert.assertTrue(roster.add(new International(new Profile("Ian Ito", Major.EE), 12, false)));
+        roster.calculateTuition();
+        Assert.assertEquals(Arrays.asList("Ian Ito:EE", "Mary Major:CS"), printedRows(roster, false));
+        Assert.assertEquals(Arrays.asList(), printedRows(roster, true));
+        Assert.assertTrue(roster.add(new NonResident(new Profile("Bob Brown", Major.IT), 12)));
+        Assert.assertEquals(Arrays.asList("Bob Brown:IT", "Ian Ito:EE", "Mary Major:CS"), printedRows(roster, false));
+        Assert.assertTrue(roster.remove(new Student(new Profile("Mary Major", Major.CS))));
+        Assert.assertEquals(Arrays.asList("Bob Brown:IT", "Ian Ito:EE"), printedRows(roster, false));
+        Assert.assertTrue(roster.applyPayment("Ian Ito", Major.EE, Money.dollars(100), new Date("4/1/2021"), output));
+        Assert.assertEquals(Arrays.asList("Ian Ito:EE"), printedRows(roster, true));
+        roster.calculateTuition();
+        Assert.assertTrue(roster.applyPayment("Bob Brown", Major.IT, Money.dollars(100), new Date("3/1/2021"), output));
+        Assert.assertEquals(Arrays.asList("Bob Brown:IT", "Ian Ito:EE"), printedRows(roster, true));
+        Assert.assertTrue(roster.setStudyAbroad("Ian Ito", Major.EE, true, output));
+        Assert.assertEquals(Arrays.asList("Bob Brown:IT"), printedRows(roster, true));
+        Assert.assertTrue(roster.remove(new Student(new Profile("Bob Brown", Major.IT))));
+        Assert.assertEquals(Arrays.asList(), printedRows(roster, true));
+    }
+
+    @Test
+    public void snapshotRestoresRosterTest() throws IOException {
+        Roster roster = new Roster();
+        for (int i = 0; i < 100; i++)
+            roster.add(RosterTestHelper.newStudent(i));
+        roster.calculateTuition();
+        roster.processPayment(RosterTestHelper.newStudent(4), Money.dollars(100), new Date("3/1/2021"), new OutputSink(new StringBuilder()));
+        roster.setFinancialAid(new Resident(RosterTestHelper.newStudent(8).getProfile()), Money.dollars(500), new OutputSink(new StringBuilder()));
+        Path snapshotFile = Files.createTempFile("roster", ".snapshot");
+        try {
+            RosterSnapshot.write(roster, 42, snapshotFile);
+            Roster restored = new Roster();
+            RosterSnapshot snapshot = RosterSnapshot.read(snapshotFile, restored);
+            Assert.assertEquals(100, snapshot.getNumberOfStudents());
+            Assert.assertEquals(42, snapshot.getJournalLength());
+            StringBuilder expected = new StringBuilder(), actual = new StringBuilder();
+            roster.print(new OutputSink(expected));
+            restored.print(new OutputSink(actual));
+            Assert.assertEquals(expected.toString(), actual.toString());
+            Assert.assertEquals(roster.calculateTuition(), restored.calculateTuition());
+        }
+        finally {
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedSnapshotTest() throws IOException {
+        Roster roster = new Roster();
+        for (int i = 0; i < 10; i++)
+            roster.add(RosterTestHelper.newStudent(i));
+        Path snapshotFile = Files.createTempFile("roster", ".snapshot");
+        try {
+            RosterSnapshot.write(roster, 0, snapshotFile);
+            byte[] contents = Files.readAllBytes(snapshotFile);
+            Files.write(snapshotFile, Arrays.copyOf(contents, contents.length - 5));
+            RosterSnapshot.read(snapshotFile, new Roster());
+        }
+        finally {
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    @Test
+    public void snapshotWithImpossibleStudentCountTest() throws IOException {
+        Roster roster = new Roster();
+        for (int i = 0; i < 10; i++)
+            roster.add(RosterTestHelper.newStudent(i));
+        Path snapshotFile = Files.createTempFile("roster", ".snapshot");
+        try {
+            RosterSnapshot.write(roster, 0, snapshotFile);
+            byte[] contents = Files.readAllBytes(snapshotFile);
+            ByteBuffer.wrap(contents).putInt(Integer.BYTES + Short.BYTES, Integer.MAX_VALUE);
+            Files.write(snapshotFile, contents);
+            Roster restored = new Roster();
+            try {
+                RosterSnapshot.read(snapshotFile, restored);
+                Assert.fail();
+            }
+            catch (IOException exception) {
+                Assert.assertTrue(exception.getMessage().startsWith("Snapshot is corrupt"));
+            }
+            Assert.assertTrue(restored.getCapacity() < 1000);
+        }
+        finally {
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    @Test
+    public void snapshotWithCorruptNameLengthTest() throws IOException {
+        Roster roster = new Roster();
+        roster.add(new Resident(new Profile("Student A", Major.CS), 12));
+        Path snapshotFile = Files.createTempFile("roster", ".snapshot");
+        try {
+            RosterSnapshot.write(roster, 0, snapshotFile);
+            byte[] contents = Files.readAllBytes(snapshotFile);
+            int nameLengthPosition = new String(contents, StandardCharsets.ISO_8859_1).indexOf("Student A") - Integer.BYTES;
+            ByteBuffer.wrap(contents).putInt(nameLengthPosition, Integer.MAX_VALUE);
+            Files.write(snapshotFile, contents);
+            try {
+                RosterSnapshot.read(snapshotFile, new Roster());
+                Assert.fail();
+            }
+            catch (IOException exception) {
+                Assert.assertTrue(exception.getMessage().startsWith("Snapshot is truncated or corrupt"));
+            }
+        }
+        finally {
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    @Test
+    public void snapshotWithDuplicateStudentTest() throws IOException {
+        Roster roster = new Roster();
+        roster.add(new Resident(new Profile("Student A", Major.CS), 12));
+        roster.add(new Resident(new Profile("Student B", Major.CS), 12));
+        Path snapshotFile = Files.createTempFile("roster", ".snapshot");
+        try {
+            RosterSnapshot.write(roster, 0, snapshotFile);
+            String contents = new String(Files.readAllBytes(snapshotFile), StandardCharsets.ISO_8859_1);
+            Files.write(snapshotFile, contents.replace("Student B", "Student A").getBytes(StandardCharsets.ISO_8859_1));
+            try {
+                RosterSnapshot.read(snapshotFile, new Roster());
+                Assert.fail();
+            }
+            catch (IOException exception) {
+                Assert.assertTrue(exception.getMessage().contains("holds a student twice"));
+            }
+        }
+        finally {
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    /**
+     * Prints the PN or PT report of a roster and picks out the name and major of the student on each row.
+     * @param roster the roster.
+     * @param byPaymentDate true for the PT report, false for the PN report.
+     * @return the name and major of each student, e.g. "Aatif Sayed:CS", in the order they were printed.
+     */
+    private static List<String> printedRows(Roster roster, boolean byPaymentDate) {
+        StringBuilder printout = new StringBuilder();
+        OutputSink output = new OutputSink(printout);
+        if (byPaymentDate)
+            roster.printByPaymentDate(output);
+        else
+            roster.printByStudentName(output);
+        output.flush();
+        List<String> rows = new ArrayList<>();
+        for (String line : printout.toString().split(System.lineSeparator())) {
+            if (line.startsWith("*") || line.equals("Student roster is empty!"))
+                continue;
+            String[] fields = line.split(":");
+            rows.add(fields[0] + ":" + fields[1]);
+        }
+        return rows;
+    }
+}
\ No newline at end of file
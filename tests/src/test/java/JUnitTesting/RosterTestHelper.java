@@ -0,0 +1,113 @@
+package JUnitTesting;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import tuitionmanager.Date;
+import tuitionmanager.International;
+import tuitionmanager.Major;
+import tuitionmanager.Money;
+import tuitionmanager.NonResident;
+import tuitionmanager.OutputSink;
+import tuitionmanager.Profile;
+import tuitionmanager.Resident;
+import tuitionmanager.State;
+import tuitionmanager.Student;
+import tuitionmanager.StudentRoster;
+import tuitionmanager.TriState;
+
+/**
+ * Helper class for the roster tests, which creates their students and the random sequences of roster operations they apply.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+final class RosterTestHelper {
+
+    /**
+     * Interface of one roster operation drawn by randomOperation(), which can be applied to several rosters to compare them.
+     */
+    interface RosterOperation {
+
+        /**
+         * Applies the operation to a roster.
+         * @param roster the roster.
+         * @return the result of the operation followed by the messages it printed.
+         */
+        String applyTo(StudentRoster roster);
+    }
+
+    private static final int NUMBER_OF_STUDENTS = 300;  // the students a random operation chooses from
+    private static final int NUMBER_OF_NAMES = 150;  // fewer than the students, so a student can be added again with another type or credits
+
+    /**
+     * Private constructor, since the class only has static methods.
+     */
+    private RosterTestHelper() {
+    }
+
+    /**
+     * Creates one of the four kinds of student, cycling through them and through every number of credits from 3 to 24.
+     * @param number the number of the student, which is also its name.
+     * @return a new student.
+     */
+    static Student newStudent(int number) {
+        return newStudent(number, number);
+    }
+
+    /**
+     * Creates the student newStudent(number) would, with the name and major of another number.
+     * @param number the number of the student, which chooses its kind and credits.
+     * @param nameNumber the number the name and major of the student are made from.
+     * @return a new student.
+     */
+    static Student newStudent(int number, int nameNumber) {
+        Profile profile = new Profile("Student " + nameNumber, Major.values()[number % Major.values().length]);
+        int credits = 3 + number % 22;
+        switch (number % 4) {
+            case 0 : return new Resident(profile, credits);
+            case 1 : return new NonResident(profile, credits);
+            case 2 : return new TriState(profile, credits, (number % 8 == 2) ? State.NY : State.CT);
+            default : return new International(profile, Math.max(credits, 12), number % 3 == 0);
+        }
+    }
+
+    /**
+     * Draws a random roster operation: adding or removing a student, calculating tuition, a payment, financial aid, or a study abroad status.
+     * Students are chosen from NUMBER_OF_STUDENTS numbers that share NUMBER_OF_NAMES names, so many operations are rejected.
+     * @param random the source of the operation.
+     * @return the operation; every roster it is applied to gets the same operation on equal students.
+     */
+    static RosterOperation randomOperation(Random random) {
+        int number = random.nextInt(NUMBER_OF_STUDENTS);
+        int nameNumber = number % NUMBER_OF_NAMES;
+        switch (random.nextInt(7)) {
+            case 0 :
+            case 1 :
+                return roster -> String.valueOf(roster.add(newStudent(number, nameNumber)));
+            case 2 :
+                return roster -> String.valueOf(roster.remove(newStudent(number, nameNumber)));
+            case 3 :
+                return roster -> String.valueOf(roster.calculateTuition());
+            case 4 :
+                Date date = new Date((1 + random.nextInt(12)) + "/" + (1 + random.nextInt(28)) + "/2021");
+                long amount = Money.dollars(100 * random.nextInt(50));
+                return roster -> withMessages(output -> roster.processPayment(newStudent(number, nameNumber), amount, date, output));
+            case 5 :
+                long aid = Money.dollars(random.nextInt(12000));
+                return roster -> withMessages(output -> roster.setFinancialAid(new Resident(newStudent(number, nameNumber).getProfile()), aid, output));
+            default :
+                boolean studyAbroad = random.nextBoolean();
+                return roster -> withMessages(output -> roster.setStudyAbroadToTrue(new International(newStudent(number, nameNumber).getProfile()), studyAbroad, output));
+        }
+    }
+
+    /**
+     * Runs an operation that prints its messages to an output sink.
+     * @param operation the operation.
+     * @return the result of the operation followed by the messages it printed.
+     */
+    private static String withMessages(Function<OutputSink, Boolean> operation) {
+        StringBuilder messages = new StringBuilder();
+        boolean result = operation.apply(new OutputSink(messages));
+        return result + ":" + messages;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package JUnitTesting;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tuitionmanager.ColumnarRoster;
+import tuitionmanager.ConcurrentRoster;
+import tuitionmanager.Date;
+import tuitionmanager.International;
+import tuitionmanager.Major;
+import tuitionmanager.Money;
+import tuitionmanager.OutputSink;
+import tuitionmanager.PaymentLedger;
+import tuitionmanager.Profile;
+import tuitionmanager.Resident;
+import tuitionmanager.Roster;
+import tuitionmanager.Student;
+import tuitionmanager.StudentRoster;
+
+/**
+ * JUnit Testing class for finding, paying, and removing students by name and major, without a Profile or Student to use as a key.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class StudentIndexJUnitTesting {
+
+    @Test
+    public void keyOperationsTest() {
+        StudentRoster[] rosters = { new Roster(), new ColumnarRoster(), new ConcurrentRoster(new Roster()) };
+        for (StudentRoster roster : rosters) {
+            OutputSink output = new OutputSink(new StringBuilder());
+            roster.add(new Resident(new Profile("John Doe", Major.CS), 12));
+            roster.add(new International(new Profile("Jane Doe", Major.EE), 12, false));
+            roster.calculateTuition();
+            Assert.assertTrue(roster.contains("John Doe", Major.CS));
+            Assert.assertFalse(roster.contains("John Doe", Major.EE));
+            Assert.assertTrue(roster.applyPayment("John Doe", Major.CS, Money.dollars(500), new Date("3/2/2021"), output));
+            Assert.assertFalse(roster.applyPayment("Jane Doe", Major.CS, Money.dollars(500), new Date("3/2/2021"), output));
+            Assert.assertTrue(roster.awardAid("John Doe", Major.CS, Money.dollars(1000), output));
+            Assert.assertFalse(roster.awardAid("Jane Doe", Major.EE, Money.dollars(1000), output));
+            Assert.assertTrue(roster.setStudyAbroad("Jane Doe", Major.EE, true, output));
+            Assert.assertFalse(roster.setStudyAbroad("John Doe", Major.CS, true, output));
+            Student john = roster.getStudent(0);
+            Assert.assertEquals(Money.dollars(500), john.getTotalTuitionPaid());
+            Assert.assertEquals(Money.parse("15304"), john.getTuitionOwed());
+            Assert.assertEquals(Money.parse("5918"), roster.getStudent(1).getTuitionOwed());
+            Assert.assertFalse(roster.remove("John Doe", Major.IT));
+            Assert.assertTrue(roster.remove("John Doe", Major.CS));
+            Assert.assertFalse(roster.contains("John Doe", Major.CS));
+            Assert.assertEquals(1, roster.getSize());
+        }
+    }
+
+    @Test
+    public void equalsOtherTypeTest() {
+        Profile profile = new Profile("John Doe", Major.CS);
+        Assert.assertFalse(profile.equals("John Doe"));
+        Assert.assertFalse(profile.equals(null));
+        Assert.assertFalse(new Resident(profile, 12).equals(profile));
+    }
+
+    @Test
+    public void randomAddAndRemoveTest() {
+        StudentRoster[] rosters = { new Roster(4), new Roster(4, true), new ColumnarRoster(4), new ColumnarRoster(4, true) };
+        for (StudentRoster roster : rosters) {
+            Random random = new Random(22);
+            Set<String> expected = new HashSet<>();
+            for (int step = 0; step < 5000; step++) {
+                int number = random.nextInt(400);
+                String name = "Student " + (number % 200);
+                Major major = Major.values()[number % Major.values().length];
+                String key = name + "," + major;
+                if (random.nextInt(3) == 0)
+                    Assert.assertEquals(expected.remove(key), roster.remove(name, major));
+                else
+                    Assert.assertEquals(expected.add(key), roster.add(new Resident(new Profile(name, major), 12)));
+                if (step % 100 == 0) {
+                    Assert.assertEquals(expected.size(), roster.getSize());
+                    for (int i = 0; i < roster.getSize(); i++) {
+                        Profile profile = roster.getStudent(i).getProfile();
+                        Assert.assertTrue(roster.contains(profile.getName(), profile.getMajor()));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void ledgerSharesProfileOfStudentTest() {
+        PaymentLedger ledger = new PaymentLedger();
+        ledger.record("John Doe", Major.CS, Money.dollars(100), new Date("3/2/2021"));
+        ledger.record("Jane Doe", Major.CS, Money.dollars(200), new Date("3/3/2021"));
+        ledger.record(new Profile("John Doe", Major.CS), Money.dollars(300), new Date("3/4/2021"));
+        ledger.record("John Doe", Major.EE, Money.dollars(400), new Date("3/5/2021"));
+        Assert.assertEquals(4, ledger.getSize());
+        Assert.assertSame(ledger.getStudent(0), ledger.getStudent(2));
+        Assert.assertNotSame(ledger.getStudent(0), ledger.getStudent(3));
+        Assert.assertEquals(Major.EE, ledger.getStudent(3).getMajor());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,251 @@
+package JUnitTesting;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tuitionmanager.CommandJournal;
+import tuitionmanager.ConcurrentRoster;
+import tuitionmanager.Roster;
+import tuitionmanager.RosterSnapshot;
+import tuitionmanager.TuitionManager;
+
+/**
+ * JUnit Testing class for TuitionManager.run(), TuitionManager.runBatch(), and TuitionManager.replay() methods, the CommandJournal they log commands to,
+ * and the snapshots that must only be restored together with the journal they cover.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class TuitionManagerJUnitTesting {
+    
+    private static final String NEWLINE = System.lineSeparator();
+    private static final int JOURNAL_CLERKS = 64;
+    private static final int COMMANDS_PER_CLERK = 50;
+    private static final String PAYMENT_COMMANDS = "AR,John Doe,CS,15\nC\nT,John Doe,CS,100,3/1/2021\n";
+
+    @Test
+    public void interactiveCommandsWriteToOutputTest() {
+        StringBuilder output = new StringBuilder();
+        String commands = "AR,John Doe,CS,15\nAR,John Doe,CS,15\nC\nP\nQ\n";
+        new TuitionManager(new StringReader(commands), output).run();
+        String expected = "Tuition Manager starts running.\n\n" + NEWLINE
+                + "Student added." + NEWLINE
+                + "Student is already in the roster." + NEWLINE
+                + "Calculation completed, 1 recalculated." + NEWLINE
+                + "* list of students in the roster **" + NEWLINE
+                + "John Doe:CS:15 credit hours:tuition due:15,804.00:total payment:0.00:last payment date: --/--/--:resident" + NEWLINE
+                + "* end of roster **" + NEWLINE
+                + "Tuition Manager terminated." + NEWLINE;
+        Assert.assertEquals(expected, output.toString());
+    }
+
+    @Test
+    public void batchReportsRejectedCommandsTest() throws IOException {
+        StringBuilder output = new StringBuilder();
+        String commands = "AR,John Doe,CS,15\nAR,John Doe,CS,15\n\nC\nP\nT,John Doe,CS,100,3/1/2021\nQ\nAR,Jane Doe,CS,15\n";
+        new TuitionManager(new StringReader(""), output).runBatch(new StringReader(commands));
+        String expected = "Batch completed: 5 commands, 3 applied, 2 rejected." + NEWLINE
+                + "* list of rejected commands **" + NEWLINE
+                + "line 2: AR,John Doe,CS,15 -- Student is already in the roster." + NEWLINE
+                + "line 5: P -- Command not supported in batch mode." + NEWLINE
+                + "* end of rejected commands **" + NEWLINE;
+        Assert.assertEquals(expected, output.toString());
+    }
+
+    @Test
+    public void batchWithoutRejectionsPrintsOnlySummaryTest() throws IOException {
+        StringBuilder output = new StringBuilder();
+        Roster roster = new Roster();
+        String commands = "AR,John Doe,CS,15\r\n\r\nAN,Jane Doe,EE,12\r\nC\r\n";
+        new TuitionManager(new StringReader(""), output, roster).runBatch(new StringReader(commands));
+        Assert.assertEquals("Batch completed: 3 commands, 3 applied, 0 rejected." + NEWLINE, output.toString());
+        Assert.assertEquals(2, roster.getSize());
+    }
+
+    @Test
+    public void batchContinuesAfterMalformedLinesTest() throws IOException {
+        StringBuilder output = new StringBuilder();
+        Roster roster = new Roster();
+        String commands = "AR,John Doe,CS,15\nAI,Jane Doe,EE,12\nPT\nT,John Doe,CS,abc,3/1/2021\nAN,Jane Doe,EE\nZ\nR,John Doe,CS\n";
+        new TuitionManager(new StringReader(""), output, roster).runBatch(new StringReader(commands));
+        String expected = "Batch completed: 7 commands, 2 applied, 5 rejected." + NEWLINE
+                + "* list of rejected commands **" + NEWLINE
+                + "line 2: AI,Jane Doe,EE,12 -- Malformed command line." + NEWLINE
+                + "line 3: PT -- Command not supported in batch mode." + NEWLINE
+                + "line 4: T,John Doe,CS,abc,3/1/2021 -- Malformed command line." + NEWLINE
+                + "line 5: AN,Jane Doe,EE -- Credit hours missing." + NEWLINE
+                + "line 6: Z -- Command not supported in batch mode." + NEWLINE
+                + "* end of rejected commands **" + NEWLINE;
+        Assert.assertEquals(expected, output.toString());
+        Assert.assertEquals(0, roster.getSize());
+    }
+
+    @Test
+    public void batchStopsWhenJournalFailsTest() throws IOException {
+        Path journalFile = Files.createTempFile("journal", ".txt");
+        try {
+            CommandJournal journal = CommandJournal.open(journalFile, 0, TimeUnit.MILLISECONDS);
+            journal.close();
+            StringBuilder output = new StringBuilder();
+            Roster roster = new Roster();
+            TuitionManager tuitionManager = new TuitionManager(new StringReader(""), output, roster);
+            tuitionManager.setJournal(journal);
+            try {
+                tuitionManager.runBatch(new StringReader("AR,John Doe,CS,15\nAR,Jane Doe,CS,15\n"));
+                Assert.fail();
+            }
+            catch (IllegalStateException exception) {
+                Assert.assertEquals("command journal is closed", exception.getMessage());
+            }
+            Assert.assertEquals(1, roster.getSize());
+            Assert.assertEquals("", output.toString());
+        }
+        finally {
+            Files.deleteIfExists(journalFile);
+        }
+    }
+
+    @Test
+    public void journalReplayRestoresRosterTest() throws IOException {
+        Path journalFile = Files.createTempFile("journal", ".txt");
+        try {
+            String commands = "AR,John Doe,CS,15\nAR,John Doe,CS,15\nAI,Jane Doe,EE,12,false\nC\nT,John Doe,CS,100,3/1/2021\nP\nQ\n";
+            try (CommandJournal journal = CommandJournal.open(journalFile, 1, TimeUnit.MILLISECONDS)) {
+                TuitionManager tuitionManager = new TuitionManager(new StringReader(commands), new StringBuilder());
+                tuitionManager.setJournal(journal);
+                tuitionManager.run();
+                Assert.assertEquals(4, journal.getDurableSequence());
+            }
+            String journaled = new String(Files.readAllBytes(journalFile), StandardCharsets.UTF_8);
+            Assert.assertEquals("AR,John Doe,CS,15\nAI,Jane Doe,EE,12,false\nC\nT,John Doe,CS,100,3/1/2021\n", journaled);
+            Files.write(journalFile, "R,John Do".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            CommandJournal.open(journalFile, 0, TimeUnit.MILLISECONDS).close();
+            Assert.assertEquals(journaled, new String(Files.readAllBytes(journalFile), StandardCharsets.UTF_8));
+            StringBuilder output = new StringBuilder();
+            TuitionManager restarted = new TuitionManager(new StringReader("P\nQ\n"), output);
+            try (Reader journalReader = CommandJournal.openForReplay(journalFile)) {
+                Assert.assertEquals(4, restarted.replay(journalReader));
+            }
+            restarted.run();
+            String expected = "Tuition Manager starts running.\n\n" + NEWLINE
+                    + "* list of students in the roster **" + NEWLINE
+                    + "John Doe:CS:15 credit hours:tuition due:15,704.00:total payment:100.00:last payment date: 3/1/2021:resident" + NEWLINE
+                    + "Jane Doe:EE:12 credit hours:tuition due:35,655.00:total payment:0.00:last payment date: --/--/--:non-resident:international" + NEWLINE
+                    + "* end of roster **" + NEWLINE
+                    + "Tuition Manager terminated." + NEWLINE;
+            Assert.assertEquals(expected, output.toString());
+        }
+        finally {
+            Files.deleteIfExists(journalFile);
+        }
+    }
+
+    @Test
+    public void journalWakesEveryWaiterTest() throws Exception {
+        Path journalFile = Files.createTempFile("journal", ".txt");
+        try {
+            try (CommandJournal journal = CommandJournal.open(journalFile, 1, TimeUnit.MILLISECONDS)) {
+                ExecutorService clerks = Executors.newFixedThreadPool(JOURNAL_CLERKS);
+                try {
+                    List<Future<?>> work = new ArrayList<>();
+                    for (int clerk = 0; clerk < JOURNAL_CLERKS; clerk++) {
+                        String commandLine = "T,Student " + clerk + ",CS,1,3/1/2021";
+                        work.add(clerks.submit(() -> {
+                            for (int i = 0; i < COMMANDS_PER_CLERK; i++)
+                                journal.awaitDurable(journal.append(commandLine));
+                        }));
+                    }
+                    for (Future<?> clerk : work)
+                        clerk.get(30, TimeUnit.SECONDS);
+                }
+                finally {
+                    clerks.shutdown();
+                }
+                Assert.assertEquals(JOURNAL_CLERKS * COMMANDS_PER_CLERK, journal.getDurableSequence());
+                Assert.assertEquals(Files.size(journalFile), journal.getDurableLength());
+            }
+            Assert.assertEquals(JOURNAL_CLERKS * COMMANDS_PER_CLERK, Files.readAllLines(journalFile, StandardCharsets.UTF_8).size());
+        }
+        finally {
+            Files.deleteIfExists(journalFile);
+        }
+    }
+
+    @Test
+    public void snapshotWithoutJournalRefusesJournalTest() throws IOException {
+        Path journalFile = Files.createTempFile("journal", ".txt");
+        Path snapshotFile = Files.createTempFile("snapshot", ".bin");
+        try {
+            TuitionManager unjournaled = new TuitionManager(new StringReader(""), new StringBuilder(), new Roster());
+            unjournaled.runBatch(new StringReader(PAYMENT_COMMANDS));
+            unjournaled.writeSnapshot(snapshotFile);
+            RosterSnapshot snapshot = new TuitionManager(new StringReader(""), new StringBuilder(), new Roster()).readSnapshot(snapshotFile);
+            Assert.assertEquals(0, snapshot.getJournalLength());
+            snapshot.checkJournal(journalFile);
+            Files.write(journalFile, PAYMENT_COMMANDS.getBytes(StandardCharsets.UTF_8));
+            assertRefused(snapshot, journalFile);
+        }
+        finally {
+            Files.deleteIfExists(journalFile);
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    @Test
+    public void snapshotRefusesAnotherJournalTest() throws IOException {
+        Path journalFile = Files.createTempFile("journal", ".txt");
+        Path otherJournalFile = Files.createTempFile("journal", ".txt");
+        Path snapshotFile = Files.createTempFile("snapshot", ".bin");
+        try {
+            try (CommandJournal journal = CommandJournal.open(journalFile, 1, TimeUnit.MILLISECONDS)) {
+                TuitionManager journaled = new TuitionManager(new StringReader(""), new StringBuilder(), new ConcurrentRoster(new Roster()));
+                journaled.setJournal(journal);
+                journaled.runBatch(new StringReader(PAYMENT_COMMANDS));
+                journaled.writeSnapshot(snapshotFile);
+            }
+            Roster restoredRoster = new Roster();
+            RosterSnapshot snapshot = new TuitionManager(new StringReader(""), new StringBuilder(), restoredRoster).readSnapshot(snapshotFile);
+            Assert.assertEquals(Files.size(journalFile), snapshot.getJournalLength());
+            Assert.assertEquals(1, restoredRoster.getSize());
+            snapshot.checkJournal(journalFile);
+            Files.write(journalFile, "R,John Doe,CS\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            snapshot.checkJournal(journalFile);
+            Files.write(otherJournalFile, "AR,Jane Doe,CS,15\nC\nT,Jane Doe,CS,100,3/1/2021\nC\n".getBytes(StandardCharsets.UTF_8));
+            assertRefused(snapshot, otherJournalFile);
+            Files.write(otherJournalFile, "AR,John Doe,CS,15\n".getBytes(StandardCharsets.UTF_8));
+            assertRefused(snapshot, otherJournalFile);
+        }
+        finally {
+            Files.deleteIfExists(journalFile);
+            Files.deleteIfExists(otherJournalFile);
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    /**
+     * Checks that a snapshot does not accept a journal it does not cover.
+     * @param snapshot the header of the snapshot.
+     * @param journalFile the path of the journal file.
+     */
+    private static void assertRefused(RosterSnapshot snapshot, Path journalFile) {
+        try {
+            snapshot.checkJournal(journalFile);
+            Assert.fail();
+        }
+        catch (IOException exception) {
+            Assert.assertTrue(exception.getMessage(), exception.getMessage().startsWith("Snapshot"));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package JUnitTesting;
+
+import java.io.StringReader;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tuitionmanager.CommandStatistics;
+import tuitionmanager.LatencyHistogram;
+import tuitionmanager.OutputSink;
+import tuitionmanager.Roster;
+import tuitionmanager.TuitionManager;
+import tuitionmanager.TuitionMetrics;
+
+/**
+ * JUnit Testing class for LatencyHistogram, and for the TuitionMetrics of a tuition manager and the MBeans they are published as.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class TuitionMetricsJUnitTesting {
+
+    private static final String COMMANDS = "AR,John Doe,CS,15\nAR,John Doe,CS,15\nAR,Jane Doe,EE,2\nAN,Kate Lindsey,IT,12\nC\nC\n"
+            + "T,John Doe,CS,100,3/1/2021\nT,John Doe,CS,-5,3/1/2021\nT,Bob Smith,CS,100,3/1/2021\nPN\nX\n\nQ\n";
+
+    @Test
+    public void histogramPercentilesTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+        for (long value = 1; value <= 100000; value++)
+            histogram.record(value);
+        Assert.assertEquals(100000, histogram.getCount());
+        Assert.assertEquals(50000, histogram.getMean());
+        Assert.assertEquals(100000, histogram.getMaximum());
+        Assert.assertEquals(100000, histogram.getValueAtPercentile(100));
+        assertWithinPrecision(50000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(99000, histogram.getValueAtPercentile(99));
+        assertWithinPrecision(99900, histogram.getValueAtPercentile(99.9));
+        Assert.assertEquals(1, histogram.getValueAtPercentile(0));
+        histogram.reset();
+        histogram.record(7);
+        histogram.record(-3);
+        Assert.assertEquals(7, histogram.getValueAtPercentile(99));
+        Assert.assertEquals(0, histogram.getValueAtPercentile(50));
+        histogram.record(Long.MAX_VALUE);
+        Assert.assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void commandMetricsTest() {
+        Roster roster = new Roster(4);
+        TuitionMetrics metrics = new TuitionMetrics(roster);
+        TuitionManager tuitionManager = new TuitionManager(new StringReader(COMMANDS), new StringBuilder(), roster);
+        tuitionManager.setMetrics(metrics);
+        tuitionManager.run();
+        CommandStatistics add = metrics.getStatistics("AR");
+        Assert.assertEquals(3, add.getCount());
+        Assert.assertEquals(2, add.getErrorCount());
+        Assert.assertEquals(1, add.getInvalidCount());
+        Assert.assertTrue(add.getMaximumLatency() > 0);
+        Assert.assertTrue(add.getLatency50thPercentile() <= add.getLatency99thPercentile());
+        CommandStatistics payment = metrics.getStatistics("T");
+        Assert.assertEquals(3, payment.getCount());
+        Assert.assertEquals(2, payment.getErrorCount());
+        Assert.assertEquals(1, payment.getInvalidCount());
+        Assert.assertEquals(1, metrics.getStatistics("PN").getCount());
+        Assert.assertEquals(2, metrics.getStatistics("other").getCount());
+        Assert.assertSame(metrics.getStatistics("other"), metrics.getStatistics("X"));
+        Assert.assertEquals(13, metrics.getCommandCount());
+        Assert.assertEquals(5, metrics.getErrorCount());
+        Assert.assertEquals(2, metrics.getCalculations());
+        Assert.assertEquals(2, metrics.getRecalculatedStudents());
+        Assert.assertEquals(2, metrics.getRosterSize());
+        Assert.assertEquals(4, metrics.getRosterCapacity());
+        StringBuilder printout = new StringBuilder();
+        OutputSink output = new OutputSink(printout);
+        metrics.print(output);
+        output.flush();
+        String text = printout.toString();
+        Assert.assertTrue(text.startsWith("* command metrics **" + System.lineSeparator() + "roster:2 students:capacity 4:2 calculations:2 recalculated"));
+        Assert.assertTrue(text.contains(System.lineSeparator() + "AR:3 commands:2 errors:1 invalid:mean "));
+        Assert.assertFalse(text.contains("AI:"));
+        metrics.reset();
+        Assert.assertEquals(0, metrics.getCommandCount());
+        Assert.assertEquals(0, metrics.getCalculations());
+    }
+
+    @Test
+    public void metricsPublishedAsMBeansTest() throws JMException {
+        Roster roster = new Roster();
+        TuitionMetrics metrics = new TuitionMetrics(roster);
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        metrics.register(server);
+        TuitionManager tuitionManager = new TuitionManager(new StringReader(COMMANDS), new StringBuilder(), roster);
+        tuitionManager.setMetrics(metrics);
+        tuitionManager.run();
+        ObjectName addCommand = new ObjectName("tuitionmanager:type=Command,name=AR");
+        Assert.assertEquals(3L, server.getAttribute(addCommand, "Count"));
+        Assert.assertEquals(1L, server.getAttribute(addCommand, "InvalidCount"));
+        Assert.assertTrue((Long)server.getAttribute(addCommand, "Latency99thPercentile") > 0);
+        ObjectName tuitionManagerMetrics = new ObjectName("tuitionmanager:type=TuitionManager");
+        Assert.assertEquals(2, server.getAttribute(tuitionManagerMetrics, "RosterSize"));
+        server.invoke(tuitionManagerMetrics, "reset", new Object[0], new String[0]);
+        Assert.assertEquals(0L, server.getAttribute(addCommand, "Count"));
+        try {
+            new TuitionMetrics(roster).register(server);
+            Assert.fail();
+        }
+        catch (JMException exception) {
+            Assert.assertTrue(server.isRegistered(tuitionManagerMetrics));
+        }
+        metrics.unregister(server);
+        Assert.assertFalse(server.isRegistered(addCommand));
+    }
+
+    /**
+     * Checks that a percentile read from a histogram is at least the exact value and at most 1/16 above it.
+     * @param exact the exact value of the percentile.
+     * @param actual the value read from the histogram.
+     */
+    private static void assertWithinPrecision(long exact, long actual) {
+        Assert.assertTrue(actual + " < " + exact, actual >= exact);
+        Assert.assertTrue(actual + " > " + exact, actual <= exact + exact / 16);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+package JUnitTesting;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tuitionmanager.ColumnarRoster;
+import tuitionmanager.Major;
+import tuitionmanager.Money;
+import tuitionmanager.NonResident;
+import tuitionmanager.Profile;
+import tuitionmanager.Resident;
+import tuitionmanager.Roster;
+import tuitionmanager.RosterSnapshot;
+import tuitionmanager.State;
+import tuitionmanager.StudentRoster;
+import tuitionmanager.TriState;
+import tuitionmanager.TuitionRateTable;
+
+/**
+ * JUnit Testing class for TuitionRateTable, its rates files, and snapshots restored with other rates.
+ * @author Aatif Sayed, Pranav Tailor
+ */
+public class TuitionRateTableJUnitTesting {
+
+    @Test
+    public void defaultRatesTest() {
+        TuitionRateTable rates = TuitionRateTable.defaults();
+        Assert.assertEquals(Money.parse("15804"), rates.residentTuition(12, 0));
+        Assert.assertEquals(Money.parse("14804"), rates.residentTuition(12, Money.dollars(1000)));
+        Assert.assertEquals(Money.parse("5038.40"), rates.residentTuition(6, Money.dollars(1000)));
+        Assert.assertEquals(Money.parse("17420"), rates.residentTuition(20, 0));
+        Assert.assertEquals(Money.parse("36869"), rates.nonResidentTuition(20));
+        Assert.assertEquals(Money.parse("29005"), rates.triStateTuition(12, State.NY));
+        Assert.assertEquals(Money.parse("28005"), rates.triStateTuition(12, State.CT));
+        Assert.assertEquals(Money.parse("11308.40"), rates.triStateTuition(9, State.CT));
+        Assert.assertEquals(Money.parse("35655"), rates.internationalTuition(12, false));
+        Assert.assertEquals(Money.parse("5918"), rates.internationalTuition(12, true));
+    }
+
+    @Test
+    public void creditsOutsideTableTest() {
+        TuitionRateTable rates = TuitionRateTable.defaults();
+        Assert.assertEquals(Money.parse("21460"), rates.residentTuition(30, 0));
+        Assert.assertEquals(rates.nonResidentTuition(24) + 6 * NonResident.NONRESIDENT_TUITION_RATE_PER_CREDIT, rates.nonResidentTuition(30));
+        Assert.assertEquals(Money.parse("2614.40"), rates.nonResidentTuition(0));
+        Assert.assertEquals(Money.parse("1648.40"), rates.nonResidentTuition(-1));
+    }
+
+    @Test
+    public void ratesFromPropertiesTest() {
+        Properties properties = new Properties();
+        properties.setProperty("university.fee.full.time", "4000");
+        properties.setProperty("resident.tuition.full.time", "13000.50");
+        properties.setProperty("tristate.discount.NY", "0");
+        TuitionRateTable rates = TuitionRateTable.fromProperties(properties);
+        Assert.assertEquals(Money.parse("17000.50"), rates.residentTuition(12, 0));
+        Assert.assertEquals(Money.parse("5624"), rates.residentTuition(6, 0));  // the part-time fee follows the full-time fee
+        Assert.assertEquals(rates.nonResidentTuition(12), rates.triStateTuition(12, State.NY));
+        Assert.assertEquals(Money.parse("28737"), rates.triStateTuition(16, State.CT));
+        Assert.assertEquals(3, properties.size());
+    }
+
+    @Test
+    public void invalidRatesTest() {
+        String[][] invalidRates = { { "resident.tuition.fulltime", "13000" }, { "international.fee", "a lot" }, { "international.fee", "-5" } };
+        for (String[] rate : invalidRates) {
+            Properties properties = new Properties();
+            properties.setProperty(rate[0], rate[1]);
+            try {
+                TuitionRateTable.fromProperties(properties);
+                Assert.fail(rate[0] + "=" + rate[1]);
+            }
+            catch (IllegalArgumentException exception) {
+                Assert.assertTrue(exception.getMessage().contains(rate[0]));
+            }
+        }
+    }
+
+    @Test
+    public void loadRatesFileTest() throws IOException {
+        Path ratesFile = Files.createTempFile("rates", ".properties");
+        try {
+            Files.write(ratesFile, "# fall rates\ninternational.fee = 3000\n".getBytes(StandardCharsets.UTF_8));
+            Assert.assertEquals(Money.parse("36005"), TuitionRateTable.load(ratesFile).internationalTuition(12, false));
+            Files.write(ratesFile, "international.fees=3000\n".getBytes(StandardCharsets.UTF_8));
+            try {
+                TuitionRateTable.load(ratesFile);
+                Assert.fail();
+            }
+            catch (IOException exception) {
+                Assert.assertTrue(exception.getMessage().contains("international.fees"));
+            }
+        }
+        finally {
+            Files.deleteIfExists(ratesFile);
+        }
+    }
+
+    @Test
+    public void rostersUseCurrentRatesTest() {
+        Properties properties = new Properties();
+        properties.setProperty("nonresident.tuition.per.credit", "1000");
+        TuitionRateTable rates = TuitionRateTable.fromProperties(properties);
+        StudentRoster[] rosters = { new Roster(), new ColumnarRoster() };
+        TuitionRateTable.setCurrent(rates);
+        try {
+            for (StudentRoster roster : rosters) {
+                roster.add(new NonResident(new Profile("John Doe", Major.CS), 20));
+                roster.add(new TriState(new Profile("Jane Doe", Major.EE), 6, State.CT));
+                roster.add(new Resident(new Profile("Kate Lindsey", Major.IT), 12));
+                roster.calculateTuition();
+                Assert.assertEquals(rates.nonResidentTuition(20), roster.getStudent(0).getTuitionOwed());
+                Assert.assertEquals(Money.parse("8614.40"), roster.getStudent(1).getTuitionOwed());
+                Assert.assertEquals(rates.residentTuition(12, 0), roster.getStudent(2).getTuitionOwed());
+            }
+        }
+        finally {
+            TuitionRateTable.setCurrent(TuitionRateTable.defaults());
+        }
+    }
+
+    @Test
+    public void snapshotRestoredWithOtherRatesTest() throws IOException {
+        Roster roster = new Roster();
+        for (int i = 0; i < 20; i++)
+            roster.add(new NonResident(new Profile("Student " + i, Major.values()[i % Major.values().length]), 3 + i));
+        roster.calculateTuition();
+        Path snapshotFile = Files.createTempFile("roster", ".snapshot");
+        try {
+            RosterSnapshot.write(roster, 0, snapshotFile);
+            Roster sameRates = new Roster();
+            RosterSnapshot.read(snapshotFile, sameRates);
+            Assert.assertEquals(0, sameRates.calculateTuition());
+            Properties properties = new Properties();
+            properties.setProperty("nonresident.tuition.full.time", "30000");
+            TuitionRateTable.setCurrent(TuitionRateTable.fromProperties(properties));
+            Roster otherRates = new Roster();
+            RosterSnapshot.read(snapshotFile, otherRates);
+            Assert.assertEquals(20, otherRates.calculateTuition());
+            Assert.assertEquals(Money.parse("33268"), otherRates.getStudent(12).getTuitionOwed());
+        }
+        finally {
+            TuitionRateTable.setCurrent(TuitionRateTable.defaults());
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+}
\ No newline at end of file